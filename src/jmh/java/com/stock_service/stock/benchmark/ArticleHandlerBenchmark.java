@@ -0,0 +1,52 @@
+package com.stock_service.stock.benchmark;
+
+import com.stock_service.stock.application.dto.articledto.ArticleResponse;
+import com.stock_service.stock.application.handler.articlehandler.ArticleHandler;
+import com.stock_service.stock.application.mapper.articlemapper.IArticleResponseMapper;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.domain.util.QueryCostGovernor;
+import com.stock_service.stock.domain.util.Util;
+import com.stock_service.stock.infrastructure.metrics.QueryCostMetricsListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response mapping plus the per-article category re-sort done by ArticleHandler.getArticlesPaginated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleHandlerBenchmark {
+
+    private ArticleHandler articleHandler;
+
+    @Setup
+    public void setUp() {
+        InMemoryArticlePersistencePort persistencePort =
+                new InMemoryArticlePersistencePort(BenchmarkArticles.models(BenchmarkArticles.PAGE_SIZE));
+
+        articleHandler = new ArticleHandler(null, Mappers.getMapper(IArticleResponseMapper.class), null,
+                persistencePort, null, null, null, null, queryCostGovernor());
+    }
+
+    // The page is larger than the default maximum so the benchmark keeps measuring the mapping, not the clamp
+    private static QueryCostGovernor queryCostGovernor() {
+        return new QueryCostGovernor(BenchmarkArticles.PAGE_SIZE, Util.QUERY_MAX_IDS, Util.QUERY_ID_CHUNK_SIZE,
+                Util.QUERY_MAX_COST, new QueryCostMetricsListener(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public Paginated<ArticleResponse> getArticlesPaginated() {
+        return articleHandler.getArticlesPaginated(0, BenchmarkArticles.PAGE_SIZE, "name", true, CountMode.EXACT, false);
+    }
+}
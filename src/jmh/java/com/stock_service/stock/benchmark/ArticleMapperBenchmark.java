@@ -0,0 +1,58 @@
+package com.stock_service.stock.benchmark;
+
+import com.stock_service.stock.application.dto.articledto.ArticleResponse;
+import com.stock_service.stock.application.mapper.articlemapper.IArticleResponseMapper;
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.mapper.IArticleEntityMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps a full 1k-article page, which is the largest page the listings hand to the mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleMapperBenchmark {
+
+    private final IArticleEntityMapper articleEntityMapper = Mappers.getMapper(IArticleEntityMapper.class);
+    private final IArticleResponseMapper articleResponseMapper = Mappers.getMapper(IArticleResponseMapper.class);
+
+    private List<ArticleEntity> articleEntities;
+    private List<ArticleModel> articleModels;
+
+    @Setup
+    public void setUp() {
+        articleEntities = BenchmarkArticles.entities(BenchmarkArticles.PAGE_SIZE);
+        articleModels = BenchmarkArticles.models(BenchmarkArticles.PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<ArticleModel> entitiesToModels() {
+        return articleEntityMapper.toArticleModelList(articleEntities);
+    }
+
+    @Benchmark
+    public List<ArticleEntity> modelsToEntities() {
+        return articleModels.stream()
+                .map(articleEntityMapper::articleModelToArticleEntity)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> modelsToResponses() {
+        return articleModels.stream()
+                .map(articleResponseMapper::articleModelToArticleResponse)
+                .toList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.stock_service.stock.benchmark;
+
+import com.stock_service.stock.domain.usecase.ArticleModelUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArticleModelUseCaseBenchmark {
+
+    private static final int ARTICLE_COUNT = 10_000;
+
+    private InMemoryArticlePersistencePort persistencePort;
+    private ArticleModelUseCase articleModelUseCase;
+    private long nextArticleId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        persistencePort = new InMemoryArticlePersistencePort(BenchmarkArticles.models(ARTICLE_COUNT));
+        articleModelUseCase = new ArticleModelUseCase(persistencePort);
+    }
+
+    // Refilled every iteration so reduceStock never reaches the insufficient stock path
+    @Setup(Level.Iteration)
+    public void refillStock() {
+        persistencePort.resetQuantities(BenchmarkArticles.INITIAL_QUANTITY);
+    }
+
+    @Benchmark
+    public void reduceStock() {
+        articleModelUseCase.reduceStock(nextArticleId(), 1);
+    }
+
+    @Benchmark
+    public boolean isStockAvailable() {
+        return articleModelUseCase.isStockAvailable(nextArticleId(), 5);
+    }
+
+    @Benchmark
+    public Double getArticlePriceById() {
+        return articleModelUseCase.getArticlePriceById(nextArticleId());
+    }
+
+    private Long nextArticleId() {
+        nextArticleId = nextArticleId % ARTICLE_COUNT + 1;
+        return nextArticleId;
+    }
+}
@@ -0,0 +1,68 @@
+package com.stock_service.stock.benchmark;
+
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.BrandModel;
+import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.BrandEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.CategoryEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic article fixtures shared by the benchmarks.
+ */
+final class BenchmarkArticles {
+
+    static final int PAGE_SIZE = 1000;
+    static final int INITIAL_QUANTITY = Integer.MAX_VALUE;
+
+    private static final int BRAND_COUNT = 20;
+    private static final int CATEGORY_COUNT = 30;
+    private static final int CATEGORIES_PER_ARTICLE = 3;
+
+    private BenchmarkArticles() {
+    }
+
+    static List<ArticleModel> models(int count) {
+        List<ArticleModel> articles = new ArrayList<>(count);
+
+        for (long id = 1; id <= count; id++) {
+            BrandModel brand = new BrandModel(1 + id % BRAND_COUNT, "Brand" + id % BRAND_COUNT, "Brand description");
+
+            List<CategoryModel> categories = new ArrayList<>(CATEGORIES_PER_ARTICLE);
+            // Categories are added in reverse name order so the handler re-sort has work to do
+            for (int i = CATEGORIES_PER_ARTICLE; i > 0; i--) {
+                long categoryId = 1 + (id * i) % CATEGORY_COUNT;
+                categories.add(new CategoryModel(categoryId, "Category" + categoryId, "Category description"));
+            }
+
+            ArticleModel article = new ArticleModel(id, "Article" + id, "Article description " + id,
+                    INITIAL_QUANTITY, 100.0 + id, brand, categories);
+            article.setVersion(0L);
+            articles.add(article);
+        }
+
+        return articles;
+    }
+
+    static List<ArticleEntity> entities(int count) {
+        List<ArticleEntity> articles = new ArrayList<>(count);
+
+        for (long id = 1; id <= count; id++) {
+            BrandEntity brand = new BrandEntity(1 + id % BRAND_COUNT, "Brand" + id % BRAND_COUNT, "Brand description", null);
+
+            List<CategoryEntity> categories = new ArrayList<>(CATEGORIES_PER_ARTICLE);
+            for (int i = CATEGORIES_PER_ARTICLE; i > 0; i--) {
+                long categoryId = 1 + (id * i) % CATEGORY_COUNT;
+                categories.add(new CategoryEntity(categoryId, "Category" + categoryId, "Category description", null));
+            }
+
+            articles.add(new ArticleEntity(id, INITIAL_QUANTITY, 100.0 + id, "Article" + id,
+                    "Article description " + id, brand, categories, 0L));
+        }
+
+        return articles;
+    }
+}
@@ -0,0 +1,264 @@
+package com.stock_service.stock.benchmark;
+
+import com.stock_service.stock.domain.model.ArticleFacetsModel;
+import com.stock_service.stock.domain.model.ArticleFilterModel;
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
+import com.stock_service.stock.domain.model.BrandModel;
+import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.model.FacetCountModel;
+import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
+import com.stock_service.stock.domain.util.Paginated;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Map backed stand-in for the article persistence port, so the benchmarks measure the use case and not the database.
+ * Pages are sorted by {@code name}, {@code price} or {@code id}, with the ID breaking ties as the JPA adapter does.
+ * Sorted views are kept until an article is saved, since the database hands back rows already in index order.
+ */
+class InMemoryArticlePersistencePort implements IArticleModelPersistencePort {
+
+    private static final Comparator<FacetCountModel> FACET_ORDER = Comparator
+            .comparingLong(FacetCountModel::getCount).reversed()
+            .thenComparing(FacetCountModel::getName);
+
+    private final Map<Long, ArticleModel> articles = new HashMap<>();
+    private final Map<String, List<ArticleModel>> sortedViews = new ConcurrentHashMap<>();
+
+    InMemoryArticlePersistencePort(List<ArticleModel> articles) {
+        articles.forEach(article -> this.articles.put(article.getId(), article));
+    }
+
+    void resetQuantities(int quantity) {
+        articles.values().forEach(article -> article.setQuantity(quantity));
+    }
+
+    @Override
+    public ArticleModel saveArticle(ArticleModel articleModel) {
+        articles.put(articleModel.getId(), articleModel);
+        sortedViews.clear();
+        return articleModel;
+    }
+
+    @Override
+    public void saveArticles(List<ArticleModel> articles) {
+        articles.forEach(this::saveArticle);
+    }
+
+    @Override
+    public Paginated<ArticleModel> getArticlesPaginated(int page, int size, String sort, boolean ascending,
+                                                        boolean categoryFirst, CountMode countMode) {
+        return page(sorted(sort, ascending), page, size, countMode);
+    }
+
+    // The cursor is the position of the next article in the sorted view
+    @Override
+    public CursorPaginated<ArticleModel> getArticlesByCursor(String cursor, int size, String sort, boolean ascending) {
+        List<ArticleModel> sorted = sorted(sort, ascending);
+        int from = cursor == null ? 0 : Math.min(Integer.parseInt(cursor), sorted.size());
+        int to = Math.min(from + size, sorted.size());
+
+        return new CursorPaginated<>(sorted.subList(from, to), size, to < sorted.size() ? String.valueOf(to) : null);
+    }
+
+    @Override
+    public boolean existByName(String name) {
+        return articles.values().stream().anyMatch(article -> article.getName().equals(name));
+    }
+
+    @Override
+    public Set<String> getExistingNames(Collection<String> names) {
+        return articles.values().stream()
+                .map(ArticleModel::getName)
+                .filter(names::contains)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public ArticleModel getArticleById(Long id) {
+        return articles.get(id);
+    }
+
+    @Override
+    public int reduceArticleQuantity(Long articleId, int quantityToReduce) {
+        ArticleModel article = articles.get(articleId);
+
+        if (article == null || article.getQuantity() < quantityToReduce) {
+            return 0;
+        }
+
+        article.setQuantity(article.getQuantity() - quantityToReduce);
+        return 1;
+    }
+
+    @Override
+    public int updateArticleQuantity(Long articleId, int quantity, Long expectedVersion) {
+        ArticleModel article = articles.get(articleId);
+
+        if (article == null || !article.getVersion().equals(expectedVersion)) {
+            return 0;
+        }
+
+        article.setQuantity(quantity);
+        article.setVersion(expectedVersion + 1);
+        return 1;
+    }
+
+    @Override
+    public int[] reduceArticleQuantities(List<ArticleStockModel> items) {
+        return items.stream()
+                .mapToInt(item -> reduceArticleQuantity(item.getArticleId(), item.getQuantity()))
+                .toArray();
+    }
+
+    @Override
+    public int[] increaseArticleQuantities(List<ArticleStockModel> items) {
+        return items.stream()
+                .mapToInt(item -> {
+                    ArticleModel article = articles.get(item.getArticleId());
+                    if (article == null) {
+                        return 0;
+                    }
+
+                    article.setQuantity(article.getQuantity() + item.getQuantity());
+                    return 1;
+                })
+                .toArray();
+    }
+
+    @Override
+    public Map<Long, Integer> getArticleQuantitiesByIds(Collection<Long> articleIds) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        articleIds.forEach(id -> {
+            ArticleModel article = articles.get(id);
+            if (article != null) {
+                quantities.put(id, article.getQuantity());
+            }
+        });
+        return quantities;
+    }
+
+    @Override
+    public Double getArticlePriceById(Long articleId) {
+        ArticleModel article = articles.get(articleId);
+        return article == null ? null : article.getPrice();
+    }
+
+    @Override
+    public Map<Long, Double> getArticlePricesByIds(Collection<Long> articleIds) {
+        Map<Long, Double> prices = new LinkedHashMap<>();
+        articleIds.forEach(id -> {
+            Double price = getArticlePriceById(id);
+            if (price != null) {
+                prices.put(id, price);
+            }
+        });
+        return prices;
+    }
+
+    @Override
+    public Paginated<ArticleModel> getArticlesPaginatedByFilters(int page, int size, String sort, boolean ascending,
+                                                                 ArticleFilterModel filter, CountMode countMode) {
+        List<ArticleModel> matching = sorted(sort, ascending).stream().filter(matches(filter)).toList();
+        return page(matching, page, size, countMode);
+    }
+
+    @Override
+    public ArticleFacetsModel getArticleFacets(ArticleFilterModel filter) {
+        Map<Long, FacetCountModel> brands = new HashMap<>();
+        Map<Long, FacetCountModel> categories = new HashMap<>();
+
+        articles.values().stream().filter(matches(filter)).forEach(article -> {
+            if (article.getBrand() != null) {
+                count(brands, article.getBrand().getId(), article.getBrand().getName());
+            }
+            article.getCategories().forEach(category -> count(categories, category.getId(), category.getName()));
+        });
+
+        return new ArticleFacetsModel(
+                brands.values().stream().sorted(FACET_ORDER).toList(),
+                categories.values().stream().sorted(FACET_ORDER).toList());
+    }
+
+    @Override
+    public long countArticles() {
+        return articles.size();
+    }
+
+    @Override
+    public List<ArticleModel> getAllArticlesByIds(List<Long> articleIds) {
+        return articleIds.stream().map(articles::get).filter(Objects::nonNull).toList();
+    }
+
+    private List<ArticleModel> sorted(String sort, boolean ascending) {
+        return sortedViews.computeIfAbsent(sort + "|" + ascending, key -> {
+            Comparator<ArticleModel> order = switch (sort == null ? "id" : sort) {
+                case "name" -> Comparator.comparing(ArticleModel::getName);
+                case "price" -> Comparator.comparingDouble(ArticleModel::getPrice);
+                case "id" -> Comparator.comparing(ArticleModel::getId);
+                default -> throw new IllegalArgumentException("Unsupported sort field: " + sort);
+            };
+            order = order.thenComparing(ArticleModel::getId);
+
+            return articles.values().stream().sorted(ascending ? order : order.reversed()).toList();
+        });
+    }
+
+    private static Paginated<ArticleModel> page(List<ArticleModel> sorted, int page, int size, CountMode countMode) {
+        List<ArticleModel> content = sorted.stream().skip((long) page * size).limit(size).toList();
+
+        if (countMode == CountMode.NONE) {
+            return new Paginated<>(content, page, size, Paginated.UNKNOWN_TOTAL,
+                    (long) (page + 1) * size < sorted.size());
+        }
+        return new Paginated<>(content, page, size, sorted.size());
+    }
+
+    private static Predicate<ArticleModel> matches(ArticleFilterModel filter) {
+        return article -> {
+            BrandModel brand = article.getBrand();
+            List<CategoryModel> categories = article.getCategories();
+
+            return contains(filter.getArticleIds(), article.getId())
+                    && (isEmpty(filter.getCategoryName())
+                        || categories.stream().anyMatch(category -> filter.getCategoryName().equals(category.getName())))
+                    && (isEmpty(filter.getBrandName()) || (brand != null && filter.getBrandName().equals(brand.getName())))
+                    && (isEmpty(filter.getCategoryIds())
+                        || categories.stream().anyMatch(category -> filter.getCategoryIds().contains(category.getId())))
+                    && (isEmpty(filter.getBrandIds()) || (brand != null && filter.getBrandIds().contains(brand.getId())))
+                    && (filter.getMinPrice() == null || article.getPrice() >= filter.getMinPrice())
+                    && (filter.getMaxPrice() == null || article.getPrice() <= filter.getMaxPrice())
+                    && (!filter.isInStock() || article.getQuantity() > 0);
+        };
+    }
+
+    private static void count(Map<Long, FacetCountModel> facets, Long id, String name) {
+        FacetCountModel facet = facets.computeIfAbsent(id, key -> new FacetCountModel(id, name, 0));
+        facet.setCount(facet.getCount() + 1);
+    }
+
+    private static boolean contains(List<Long> ids, Long id) {
+        return isEmpty(ids) || ids.contains(id);
+    }
+
+    private static boolean isEmpty(Collection<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+}
@@ -0,0 +1,69 @@
+package com.stock_service.stock.loadtest;
+
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the catalog with a deterministic set of brands, categories and articles sized by {@link LoadTestSettings}.
+ */
+class CatalogSeeder {
+
+    static final int INITIAL_QUANTITY = 1_000_000;
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_CATEGORIES_PER_ARTICLE = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestSettings settings;
+
+    CatalogSeeder(JdbcTemplate jdbcTemplate, LoadTestSettings settings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = settings;
+    }
+
+    void seed() {
+        Random random = new Random(settings.seed());
+
+        List<Object[]> brands = new ArrayList<>();
+        for (long id = 1; id <= settings.brands(); id++) {
+            brands.add(new Object[]{id, "Brand" + id, "Brand description " + id});
+        }
+        insert("INSERT INTO brand (id, name, description) VALUES (?, ?, ?)", brands);
+
+        List<Object[]> categories = new ArrayList<>();
+        for (long id = 1; id <= settings.categories(); id++) {
+            categories.add(new Object[]{id, "Category" + id, "Category description " + id});
+        }
+        insert("INSERT INTO category (id, name, description) VALUES (?, ?, ?)", categories);
+
+        List<Object[]> articles = new ArrayList<>();
+        List<Object[]> articleCategories = new ArrayList<>();
+        for (long articleId = 1; articleId <= settings.articles(); articleId++) {
+            long id = articleId;
+            articles.add(new Object[]{id, "Article" + id, "Article description " + id, INITIAL_QUANTITY,
+                    1 + random.nextInt(100_000) / 100.0, 1 + random.nextInt(settings.brands())});
+
+            random.ints(1, settings.categories() + 1)
+                    .distinct()
+                    .limit(1 + random.nextInt(MAX_CATEGORIES_PER_ARTICLE))
+                    .forEach(categoryId -> articleCategories.add(new Object[]{id, categoryId}));
+        }
+        insert("INSERT INTO article (id, name, description, quantity, price, id_brand, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 0)", articles);
+        insert("INSERT INTO article_category (id_article, id_category) VALUES (?, ?)", articleCategories);
+
+        // Articles created through the API take their ids from the generator, past the seeded ones
+        jdbcTemplate.update("INSERT INTO id_generator (sequence_name, next_val) VALUES ('article', ?)",
+                (long) settings.articles() + ArticleEntity.ID_ALLOCATION_SIZE);
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.stock_service.stock.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock_service.stock.domain.util.Util;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * The request mix of a storefront: mostly browsing, then cart checks and prices, and a smaller share of
+ * checkouts and warehouse restocks. Weights add up to 100.
+ */
+class CheckoutMix {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_CART_LINES = 5;
+    private static final Duration TOKEN_VALIDITY = Duration.ofHours(2);
+
+    private final List<Operation> operations;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+    private final int articles;
+    private final Map<String, String> bearerByRole;
+
+    CheckoutMix(URI baseUri, int articles, TestTokens tokens) {
+        this.baseUri = baseUri;
+        this.articles = articles;
+        this.bearerByRole = Map.of(
+                TestTokens.ADMIN, tokens.bearer(TestTokens.ADMIN, TOKEN_VALIDITY),
+                TestTokens.CLIENT, tokens.bearer(TestTokens.CLIENT, TOKEN_VALIDITY),
+                TestTokens.AUX_BODEGA, tokens.bearer(TestTokens.AUX_BODEGA, TOKEN_VALIDITY)
+        );
+        this.operations = List.of(
+                new Operation("GET /listar", 25, this::listArticles),
+                new Operation("GET /listar/cursor", 10, this::listArticlesByCursor),
+                new Operation("GET /article-cart", 10, this::listCartArticles),
+                new Operation("GET /{id}/check-quantity/{quantity}", 15, this::checkQuantity),
+                new Operation("POST /check-quantity", 12, this::checkCartQuantities),
+                new Operation("POST /prices", 12, this::getCartPrices),
+                new Operation("PATCH /subtract-stock", 10, this::checkout),
+                new Operation("PATCH /quantity/{id}", 3, this::restock),
+                new Operation("GET /{id}", 3, this::getArticle)
+        );
+    }
+
+    Request next() {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+
+        for (Operation operation : operations) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return new Request(operation.endpoint(), operation.request().get());
+            }
+        }
+
+        throw new IllegalStateException("Operation weights must add up to 100");
+    }
+
+    private HttpRequest listArticles() {
+        int page = ThreadLocalRandom.current().nextInt(Math.max(1, articles / PAGE_SIZE));
+        return get(TestTokens.CLIENT, "/listar?page=" + page + "&size=" + PAGE_SIZE + "&count=CACHED");
+    }
+
+    private HttpRequest listArticlesByCursor() {
+        return get(TestTokens.CLIENT, "/listar/cursor?size=" + PAGE_SIZE);
+    }
+
+    private HttpRequest listCartArticles() {
+        return request(TestTokens.CLIENT, "GET", "/article-cart?size=" + PAGE_SIZE, Map.of("articleIds", cartArticleIds()));
+    }
+
+    private HttpRequest checkQuantity() {
+        return get(TestTokens.CLIENT, "/" + randomArticleId() + "/check-quantity/" + randomQuantity());
+    }
+
+    private HttpRequest checkCartQuantities() {
+        return request(TestTokens.CLIENT, "POST", "/check-quantity", Map.of("items", cartLines()));
+    }
+
+    private HttpRequest getCartPrices() {
+        return request(TestTokens.CLIENT, "POST", "/prices", Map.of("articleIds", cartArticleIds()));
+    }
+
+    private HttpRequest checkout() {
+        return request(TestTokens.CLIENT, "PATCH", "/subtract-stock", Map.of("items", cartLines()));
+    }
+
+    private HttpRequest restock() {
+        return request(TestTokens.AUX_BODEGA, "PATCH", "/quantity/" + randomArticleId(),
+                Map.of("quantity", CatalogSeeder.INITIAL_QUANTITY));
+    }
+
+    private HttpRequest getArticle() {
+        return get(TestTokens.ADMIN, "/" + randomArticleId());
+    }
+
+    private HttpRequest get(String role, String path) {
+        return builder(role, path).GET().build();
+    }
+
+    private HttpRequest request(String role, String method, String path, Object body) {
+        try {
+            return builder(role, path)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder builder(String role, String path) {
+        return HttpRequest.newBuilder(baseUri.resolve("/api/article" + path))
+                .header(Util.AUTH_HEADER, bearerByRole.get(role));
+    }
+
+    private List<Map<String, Object>> cartLines() {
+        return cartArticleIds().stream()
+                .map(articleId -> Map.<String, Object>of("articleId", articleId, "quantity", randomQuantity()))
+                .toList();
+    }
+
+    private List<Long> cartArticleIds() {
+        return LongStream.generate(this::randomArticleId)
+                .distinct()
+                .limit(1 + ThreadLocalRandom.current().nextInt(MAX_CART_LINES))
+                .boxed()
+                .toList();
+    }
+
+    private long randomArticleId() {
+        return 1 + ThreadLocalRandom.current().nextInt(articles);
+    }
+
+    private int randomQuantity() {
+        return 1 + ThreadLocalRandom.current().nextInt(3);
+    }
+
+    record Request(String endpoint, HttpRequest httpRequest) {
+    }
+
+    private record Operation(String endpoint, int weight, Supplier<HttpRequest> request) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.stock_service.stock.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects response times per endpoint and turns them into percentiles once the run is over.
+ */
+class LatencyRecorder {
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos, boolean successful) {
+        latencies.computeIfAbsent(endpoint, key -> new ConcurrentLinkedQueue<>()).add(elapsedNanos);
+
+        if (!successful) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    List<EndpointStats> summarize(double elapsedSeconds) {
+        List<EndpointStats> stats = new ArrayList<>();
+
+        new TreeMap<>(latencies).forEach((endpoint, samples) -> {
+            long[] sorted = samples.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+
+            LongAdder endpointErrors = errors.get(endpoint);
+            stats.add(new EndpointStats(
+                    endpoint,
+                    sorted.length,
+                    endpointErrors == null ? 0 : endpointErrors.sum(),
+                    sorted.length / elapsedSeconds,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.99)
+            ));
+        });
+
+        return stats;
+    }
+
+    // Nearest-rank percentile
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    record EndpointStats(String endpoint, long requests, long errors, double throughput, double p50Millis,
+                         double p99Millis) {
+    }
+}
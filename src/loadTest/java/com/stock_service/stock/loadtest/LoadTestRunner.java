@@ -0,0 +1,142 @@
+package com.stock_service.stock.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.stock_service.stock.StockApplication;
+import com.stock_service.stock.loadtest.LoadTestSettings.ThreadMode;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the service on an in-memory H2 database in MySQL mode, seeds the catalog and drives the article
+ * endpoints with {@link CheckoutMix} from a fixed number of closed-loop clients. The warmup phase is not recorded.
+ * With several thread modes the whole run is repeated per mode so platform and virtual threads can be compared.
+ */
+public class LoadTestRunner {
+
+    private static final String PROFILE = "loadtest";
+
+    private static final String VIRTUAL_THREADS_PROFILE = "virtual-threads";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Map<ThreadMode, List<LatencyRecorder.EndpointStats>> results = new EnumMap<>(ThreadMode.class);
+
+        for (ThreadMode threadMode : settings.threadModes()) {
+            List<LatencyRecorder.EndpointStats> stats = run(settings, threadMode);
+            print(threadMode, stats);
+            results.put(threadMode, stats);
+        }
+
+        write(settings, results);
+    }
+
+    // Each mode gets a fresh application and catalog so the runs do not warm each other up
+    private static List<LatencyRecorder.EndpointStats> run(LoadTestSettings settings, ThreadMode threadMode)
+            throws Exception {
+        TestTokens tokens = new TestTokens();
+        String profiles = threadMode == ThreadMode.VIRTUAL ? PROFILE + "," + VIRTUAL_THREADS_PROFILE : PROFILE;
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(StockApplication.class,
+                "--spring.profiles.active=" + profiles,
+                "--server.port=0",
+                "--JWT_SECRET_KEY=" + tokens.secretKey())) {
+
+            new CatalogSeeder(context.getBean(JdbcTemplate.class), settings).seed();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            CheckoutMix checkoutMix = new CheckoutMix(URI.create("http://localhost:" + port), settings.articles(), tokens);
+
+            drive(checkoutMix, settings, settings.warmup(), new LatencyRecorder());
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            long startedAt = System.nanoTime();
+            drive(checkoutMix, settings, settings.duration(), recorder);
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+            return recorder.summarize(elapsedSeconds);
+        }
+    }
+
+    // Clients run on virtual threads so the harness can hold more concurrent requests than the server has threads
+    private static void drive(CheckoutMix checkoutMix, LoadTestSettings settings, Duration duration,
+                              LatencyRecorder recorder) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < settings.concurrency(); i++) {
+                running.add(clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        send(httpClient, checkoutMix.next(), recorder);
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> client : running) {
+                client.get();
+            }
+        } finally {
+            clients.shutdownNow();
+            clients.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void send(HttpClient httpClient, CheckoutMix.Request request, LatencyRecorder recorder)
+            throws InterruptedException {
+        long sentAt = System.nanoTime();
+        boolean successful;
+
+        try {
+            HttpResponse<Void> response = httpClient.send(request.httpRequest(), HttpResponse.BodyHandlers.discarding());
+            successful = response.statusCode() < 400;
+        } catch (IOException e) {
+            successful = false;
+        }
+
+        recorder.record(request.endpoint(), System.nanoTime() - sentAt, successful);
+    }
+
+    private static void print(ThreadMode threadMode, List<LatencyRecorder.EndpointStats> stats) {
+        System.out.printf("%n%s threads%n", threadMode.name().toLowerCase());
+        System.out.printf("%-38s %10s %8s %12s %10s %10s%n", "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms");
+        stats.forEach(endpoint -> System.out.printf("%-38s %10d %8d %12.1f %10.2f %10.2f%n",
+                endpoint.endpoint(), endpoint.requests(), endpoint.errors(), endpoint.throughput(),
+                endpoint.p50Millis(), endpoint.p99Millis()));
+    }
+
+    private static void write(LoadTestSettings settings, Map<ThreadMode, List<LatencyRecorder.EndpointStats>> results)
+            throws IOException {
+        File reportFile = new File(settings.reportFile());
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+
+        new ObjectMapper()
+                .findAndRegisterModules()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportFile, Map.of("settings", settings, "results", results));
+
+        System.out.println("\nReport written to " + reportFile.getAbsolutePath());
+    }
+}
@@ -0,0 +1,46 @@
+package com.stock_service.stock.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Knobs of a load test run, read from {@code loadtest.*} system properties so runs can be repeated with
+ * {@code gradle loadTest -Dloadtest.articles=50000 -Dloadtest.thread-modes=platform,virtual}.
+ */
+record LoadTestSettings(
+        int brands,
+        int categories,
+        int articles,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        long seed,
+        List<ThreadMode> threadModes,
+        String reportFile
+) {
+
+    /**
+     * How the service runs servlet requests; {@code VIRTUAL} activates the virtual-threads profile.
+     */
+    enum ThreadMode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.brands", 50),
+                Integer.getInteger("loadtest.categories", 100),
+                Integer.getInteger("loadtest.articles", 10_000),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10L)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60L)),
+                Long.getLong("loadtest.seed", 42L),
+                Arrays.stream(System.getProperty("loadtest.thread-modes", "platform").split(","))
+                        .map(mode -> ThreadMode.valueOf(mode.trim().toUpperCase()))
+                        .toList(),
+                System.getProperty("loadtest.report-file", "build/reports/loadtest/results.json")
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package com.stock_service.stock.loadtest;
+
+import com.stock_service.stock.domain.util.Util;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Mints tokens shaped like the ones issued by the user service, signed with a key generated for the run.
+ */
+class TestTokens {
+
+    static final String ADMIN = "ROLE_ADMIN";
+    static final String CLIENT = "ROLE_CLIENT";
+    static final String AUX_BODEGA = "ROLE_AUX_BODEGA";
+
+    private final String secretKey;
+    private final Key signingKey;
+
+    TestTokens() {
+        this.secretKey = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    }
+
+    String secretKey() {
+        return secretKey;
+    }
+
+    String bearer(String role, Duration validFor) {
+        Instant now = Instant.now();
+
+        String jwt = Jwts.builder()
+                .setSubject(role.toLowerCase() + "@loadtest")
+                .claim(Util.CLAIM_AUTHORITIES, role)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(validFor)))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+
+        return Util.TOKEN_PREFIX + jwt;
+    }
+}
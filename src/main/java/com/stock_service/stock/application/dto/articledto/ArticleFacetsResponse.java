@@ -0,0 +1,13 @@
+package com.stock_service.stock.application.dto.articledto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ArticleFacetsResponse {
+    private List<FacetCountResponse> brands;
+    private List<FacetCountResponse> categories;
+}
@@ -0,0 +1,35 @@
+package com.stock_service.stock.application.dto.articledto;
+
+import com.stock_service.stock.domain.util.Util;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ArticleFilterRequest {
+
+    private String categoryName;
+
+    private String brandName;
+
+    private List<Long> categoryIds;
+
+    private List<Long> brandIds;
+
+    @PositiveOrZero(message = Util.ARTICLE_FILTER_PRICE_MIN)
+    private Double minPrice;
+
+    @PositiveOrZero(message = Util.ARTICLE_FILTER_PRICE_MIN)
+    private Double maxPrice;
+
+    private boolean inStock;
+
+    @AssertTrue(message = Util.ARTICLE_FILTER_PRICE_RANGE)
+    public boolean isPriceRangeValid() {
+        return minPrice == null || maxPrice == null || minPrice <= maxPrice;
+    }
+}
@@ -0,0 +1,11 @@
+package com.stock_service.stock.application.dto.articledto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ArticleImportError {
+    private long record;
+    private String message;
+}
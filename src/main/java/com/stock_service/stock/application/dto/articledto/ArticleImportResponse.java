@@ -0,0 +1,14 @@
+package com.stock_service.stock.application.dto.articledto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ArticleImportResponse {
+    private int imported;
+    private int rejected;
+    private List<ArticleImportError> errors;
+}
@@ -0,0 +1,21 @@
+package com.stock_service.stock.application.dto.articledto;
+
+import com.stock_service.stock.domain.util.Util;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArticleStockBatchRequest {
+
+    @NotEmpty(message = Util.ARTICLE_ITEMS_REQUIRED)
+    private List<@Valid ArticleStockRequest> items;
+}
@@ -0,0 +1,23 @@
+package com.stock_service.stock.application.dto.articledto;
+
+import com.stock_service.stock.domain.util.Util;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArticleStockRequest {
+
+    @NotNull(message = Util.ARTICLE_ID_REQUIRED)
+    private Long articleId;
+
+    @NotNull(message = Util.ARTICLE_QUANTITY_REQUIRED)
+    @Min(value = Util.ARTICLE_QUANTITY_MIN_VALUE, message = Util.ARTICLE_QUANTITY_MIN)
+    private Integer quantity;
+}
@@ -0,0 +1,12 @@
+package com.stock_service.stock.application.dto.articledto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FacetCountResponse {
+    private Long id;
+    private String name;
+    private long count;
+}
@@ -0,0 +1,19 @@
+package com.stock_service.stock.application.dto.articledto;
+
+import com.stock_service.stock.domain.util.Paginated;
+import lombok.Getter;
+
+/**
+ * A page of articles with the brand and category counts of every article that matches the same filters,
+ * not only the ones on the page.
+ */
+@Getter
+public class FacetedArticlePage extends Paginated<ArticleResponse> {
+
+    private final ArticleFacetsResponse facets;
+
+    public FacetedArticlePage(Paginated<ArticleResponse> page, ArticleFacetsResponse facets) {
+        super(page.getContent(), page.getPageNumber(), page.getPageSize(), page.getTotalElements(), page.isHasNext());
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,28 @@
+package com.stock_service.stock.application.dto.reservationdto;
+
+import com.stock_service.stock.domain.util.Util;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationRequest {
+
+    @NotNull(message = Util.ARTICLE_ID_REQUIRED)
+    private Long articleId;
+
+    @NotNull(message = Util.ARTICLE_QUANTITY_REQUIRED)
+    @Min(value = Util.RESERVATION_QUANTITY_MIN_VALUE, message = Util.RESERVATION_QUANTITY_MIN)
+    private Integer quantity;
+
+    @Min(value = Util.RESERVATION_MIN_TTL_SECONDS, message = Util.RESERVATION_TTL_RANGE)
+    @Max(value = Util.RESERVATION_MAX_TTL_SECONDS, message = Util.RESERVATION_TTL_RANGE)
+    private Long ttlSeconds;
+}
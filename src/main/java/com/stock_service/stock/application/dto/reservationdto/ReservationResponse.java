@@ -0,0 +1,15 @@
+package com.stock_service.stock.application.dto.reservationdto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+public class ReservationResponse {
+    private Long id;
+    private Long articleId;
+    private int quantity;
+    private Instant expiresAt;
+}
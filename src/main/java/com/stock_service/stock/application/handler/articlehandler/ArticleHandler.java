@@ -1,26 +1,42 @@
 package com.stock_service.stock.application.handler.articlehandler;
 
 
+import com.stock_service.stock.application.dto.articledto.ArticleFilterRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleQuantityRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleResponse;
+import com.stock_service.stock.application.dto.articledto.ArticleStockBatchRequest;
+import com.stock_service.stock.application.dto.articledto.FacetedArticlePage;
 import com.stock_service.stock.application.dto.categorydto.CategoryResponseForArticle;
 import com.stock_service.stock.application.mapper.articlemapper.IArticleRequestMapper;
 import com.stock_service.stock.application.mapper.articlemapper.IArticleResponseMapper;
 import com.stock_service.stock.domain.api.IArticleModelServicePort;
+import com.stock_service.stock.domain.model.ArticleFacetsModel;
+import com.stock_service.stock.domain.model.ArticleFilterModel;
 import com.stock_service.stock.domain.model.ArticleModel;
 import com.stock_service.stock.domain.model.BrandModel;
 import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.spi.IArticleExportPersistencePort;
 import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import com.stock_service.stock.domain.spi.IArticleSearchPort;
 import com.stock_service.stock.domain.spi.IBrandModelPersistencePort;
 import com.stock_service.stock.domain.spi.ICategoryModelPersistencePort;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.domain.util.QueryCostGovernor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +49,12 @@ public class ArticleHandler implements IArticleHandler {
     private final IArticleModelPersistencePort articleModelPersistencePort;
     private final IBrandModelPersistencePort brandModelPersistencePort;
     private final ICategoryModelPersistencePort categoryModelPersistencePort;
+    private final IArticleExportPersistencePort articleExportPersistencePort;
+    private final IArticleSearchPort articleSearchPort;
+    private final QueryCostGovernor queryCostGovernor;
+
+    // Facets are counted in two aggregates over the candidate rows, one per brand and one per category
+    private static final int FACET_PASSES = 2;
 
 
     @Override
@@ -52,31 +74,49 @@ public class ArticleHandler implements IArticleHandler {
     }
 
     @Override
-    public Paginated<ArticleResponse> getArticlesPaginated(int page, int size, String sort, boolean ascending) {
-
-        Paginated<ArticleModel> paginatedArticle = articleModelPersistencePort.getArticlesPaginated(page, size, sort, ascending);
-
-        List<ArticleResponse> articleResponses = paginatedArticle.getContent().stream()
-                .map(article -> {
-                    ArticleResponse articleResponse = articleResponseMapper.articleModelToArticleResponse(article);
-                    List<CategoryResponseForArticle> sortedCategories = articleResponse.getCategories().stream()
-                            .sorted(Comparator.comparing(CategoryResponseForArticle::getName)).toList();
-                    articleResponse.setCategories(sortedCategories);
-                    return articleResponse;
-                }).toList();
-
-        articleResponses = articleResponses.stream()
-                .sorted(Comparator.comparing((ArticleResponse articleResponse) -> articleResponse.getCategories().get(0).getName())
-                        .thenComparing(articleResponse -> articleResponse.getCategories().size()))
-                .toList();
+    public Paginated<ArticleResponse> getArticlesPaginated(int page, int size, String sort, boolean ascending, CountMode countMode,
+                                                           boolean withFacets) {
+
+        // The listing groups every article with its categories before the page is cut, so each page reads the catalog
+        long catalogSize = articleModelPersistencePort.countArticles();
+        long aggregatedRows = catalogSize + (withFacets ? FACET_PASSES * catalogSize : 0);
+        int pageSize = queryCostGovernor.governPage("article.list", page, size, 0, 0, sort, aggregatedRows);
+
+        Paginated<ArticleModel> paginatedArticle =
+                articleModelPersistencePort.getArticlesPaginated(page, pageSize, sort, ascending, true, countMode);
+
+        Paginated<ArticleResponse> articles =
+                paginatedArticle.withContent(toArticleResponsesWithSortedCategories(paginatedArticle.getContent()));
+
+        return withFacets ? withArticleFacets(articles, new ArticleFilterModel()) : articles;
+    }
 
-        return new Paginated<>(
-                articleResponses,
-                paginatedArticle.getPageNumber(),
-                paginatedArticle.getPageSize(),
-                paginatedArticle.getTotalPages()
+    @Override
+    public CursorPaginated<ArticleResponse> getArticlesByCursor(String cursor, int size, String sort, boolean ascending) {
+
+        int pageSize = queryCostGovernor.governCursor("article.list.cursor", size);
+
+        CursorPaginated<ArticleModel> articles = articleModelPersistencePort.getArticlesByCursor(cursor, pageSize, sort, ascending);
+
+        return new CursorPaginated<>(
+                toArticleResponsesWithSortedCategories(articles.getContent()),
+                articles.getPageSize(),
+                articles.getNextCursor()
         );
+    }
+
+    private List<ArticleResponse> toArticleResponsesWithSortedCategories(List<ArticleModel> articles) {
+        return articles.stream()
+                .map(this::toArticleResponseWithSortedCategories)
+                .toList();
+    }
 
+    private ArticleResponse toArticleResponseWithSortedCategories(ArticleModel article) {
+        ArticleResponse articleResponse = articleResponseMapper.articleModelToArticleResponse(article);
+        List<CategoryResponseForArticle> sortedCategories = articleResponse.getCategories().stream()
+                .sorted(Comparator.comparing(CategoryResponseForArticle::getName)).toList();
+        articleResponse.setCategories(sortedCategories);
+        return articleResponse;
     }
 
     @Override
@@ -86,7 +126,10 @@ public class ArticleHandler implements IArticleHandler {
 
     }
 
+    // Runs without a surrounding transaction: each optimistic attempt must read committed data, not the
+    // snapshot of a transaction that already lost the race
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public ArticleResponse updateArticleQuantity(Long articleId, ArticleQuantityRequest articleQuantityRequest) {
         ArticleModel updatedArticle = articleModelServicePort.updateArticleQuantity(articleId, articleQuantityRequest.getQuantity());
 
@@ -98,46 +141,126 @@ public class ArticleHandler implements IArticleHandler {
         return articleModelServicePort.isStockAvailable(articleId, requestedQuantity);
     }
 
+    @Override
+    public Map<Long, Boolean> checkAvailabilityArticles(ArticleStockBatchRequest request) {
+        return articleModelServicePort.isStockAvailableBatch(
+                articleRequestMapper.articleStockRequestsToArticleStockModels(request.getItems()));
+    }
+
     @Override
     public void reduceStock(Long articleId, ArticleQuantityRequest request) {
         articleModelServicePort.reduceStock(articleId, request.getQuantity());
     }
 
+    @Override
+    public void reduceStockBatch(ArticleStockBatchRequest request) {
+        articleModelServicePort.reduceStockBatch(
+                articleRequestMapper.articleStockRequestsToArticleStockModels(request.getItems()));
+    }
+
     @Override
     public Double getArtclePriceById(Long articleId) {
         return articleModelServicePort.getArticlePriceById(articleId);
     }
 
     @Override
-    public Paginated<ArticleResponse> getAllArticlesPaginatedByIds(int page, int size, String sort, boolean ascending, String categoryName, String brandName, List<Long> articleIds) {
+    public Map<Long, Double> getArticlePricesByIds(List<Long> articleIds) {
+        Map<Long, Double> prices = new HashMap<>();
+
+        for (List<Long> chunk : queryCostGovernor.chunks("article.prices", articleIds)) {
+            prices.putAll(articleModelServicePort.getArticlePricesByIds(chunk));
+        }
+
+        return prices;
+    }
+
+    @Override
+    public Paginated<ArticleResponse> getAllArticlesPaginatedByIds(int page, int size, String sort, boolean ascending, ArticleFilterRequest filter, List<Long> articleIds, CountMode countMode,
+                                                                   boolean withFacets) {
+
+        ArticleFilterModel filterModel = articleRequestMapper.articleFilterRequestToArticleFilterModel(filter, articleIds);
+
+        queryCostGovernor.governIds("article.cart", sizeOf(filterModel.getCategoryIds()));
+        queryCostGovernor.governIds("article.cart", sizeOf(filterModel.getBrandIds()));
+        int pageSize = queryCostGovernor.governPage("article.cart", page, size, sizeOf(articleIds),
+                filterCount(filterModel), sort, withFacets ? FACET_PASSES * facetCandidates(articleIds) : 0);
 
         Paginated<ArticleModel> paginatedArticles = articleModelPersistencePort.getArticlesPaginatedByFilters(
-                page, size, sort, ascending, categoryName, brandName, articleIds);
-
-        List<ArticleResponse> articleResponses = paginatedArticles.getContent().stream()
-                .map(article -> {
-                    ArticleResponse articleResponse = articleResponseMapper.articleModelToArticleResponse(article);
-                    List<CategoryResponseForArticle> sortedCategories = articleResponse.getCategories().stream()
-                            .sorted(Comparator.comparing(CategoryResponseForArticle::getName)).toList();
-                    articleResponse.setCategories(sortedCategories);
-                    return articleResponse;
-                }).toList();
-
-        return new Paginated<>(
-                articleResponses,
-                paginatedArticles.getPageNumber(),
-                paginatedArticles.getPageSize(),
-                paginatedArticles.getTotalElements()
-        );
+                page, pageSize, sort, ascending, filterModel, countMode);
+
+        Paginated<ArticleResponse> articles =
+                paginatedArticles.withContent(toArticleResponsesWithSortedCategories(paginatedArticles.getContent()));
+
+        return withFacets ? withArticleFacets(articles, filterModel) : articles;
+    }
+
+    // Each filter is one more check on every row the page walks through
+    private static int filterCount(ArticleFilterModel filter) {
+        int count = 0;
+        count += filter.getCategoryName() == null || filter.getCategoryName().isEmpty() ? 0 : 1;
+        count += filter.getBrandName() == null || filter.getBrandName().isEmpty() ? 0 : 1;
+        count += sizeOf(filter.getCategoryIds()) == 0 ? 0 : 1;
+        count += sizeOf(filter.getBrandIds()) == 0 ? 0 : 1;
+        count += filter.getMinPrice() == null && filter.getMaxPrice() == null ? 0 : 1;
+        count += filter.isInStock() ? 1 : 0;
+        return count;
+    }
+
+    // Without an ID list the filter is charged as if it matched the whole catalog: its cardinality is only known
+    // once it has run
+    private long facetCandidates(List<Long> articleIds) {
+        int idCount = sizeOf(articleIds);
+        return idCount > 0 ? idCount : articleModelPersistencePort.countArticles();
+    }
+
+    private static int sizeOf(List<Long> ids) {
+        return ids == null ? 0 : ids.size();
+    }
+
+    // Counted in the same transaction as the page, so both describe the same snapshot
+    private FacetedArticlePage withArticleFacets(Paginated<ArticleResponse> articles, ArticleFilterModel filter) {
+        ArticleFacetsModel facets = articleModelPersistencePort.getArticleFacets(filter);
+
+        return new FacetedArticlePage(articles, articleResponseMapper.articleFacetsModelToArticleFacetsResponse(facets));
     }
 
     @Override
     public List<ArticleResponse> getAllArticlesByIds(List<Long> articleIds) {
-        List<ArticleModel> articles = articleModelServicePort.getAllArticlesByIds(articleIds);
+        List<ArticleModel> articles = new ArrayList<>();
+
+        for (List<Long> chunk : queryCostGovernor.chunks("article.by-ids", articleIds)) {
+            articles.addAll(articleModelServicePort.getAllArticlesByIds(chunk));
+        }
+
         return articles.stream()
                 .map(articleResponseMapper::articleModelToArticleResponse)
                 .toList();
     }
 
+    @Override
+    public void exportArticles(Consumer<ArticleResponse> consumer) {
+        articleExportPersistencePort.streamAllArticles(article -> consumer.accept(toArticleResponseWithSortedCategories(article)));
+    }
 
+    // The index only ranks: articles are loaded from the database, so a hit whose stock ran out since the last
+    // index refresh is dropped instead of being shown as in stock
+    @Override
+    public Paginated<ArticleResponse> searchArticles(String text, boolean inStockOnly, int page, int size) {
+        Paginated<Long> articleIds = articleSearchPort.searchArticleIds(text, inStockOnly, page, size);
+
+        if (articleIds.getContent().isEmpty()) {
+            return articleIds.withContent(List.of());
+        }
+
+        Map<Long, ArticleModel> articlesById = articleModelPersistencePort.getAllArticlesByIds(articleIds.getContent())
+                .stream()
+                .collect(Collectors.toMap(ArticleModel::getId, Function.identity()));
+
+        List<ArticleModel> articles = articleIds.getContent().stream()
+                .map(articlesById::get)
+                .filter(article -> article != null && (!inStockOnly || article.getQuantity() > 0))
+                .toList();
+
+        return articleIds.withContent(toArticleResponsesWithSortedCategories(articles));
+    }
 }
@@ -0,0 +1,198 @@
+package com.stock_service.stock.application.handler.articlehandler;
+
+import com.stock_service.stock.application.dto.articledto.ArticleImportError;
+import com.stock_service.stock.application.dto.articledto.ArticleImportResponse;
+import com.stock_service.stock.application.dto.articledto.ArticleRequest;
+import com.stock_service.stock.application.mapper.articlemapper.IArticleRequestMapper;
+import com.stock_service.stock.domain.api.IArticleModelServicePort;
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.BrandModel;
+import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.spi.IBrandModelPersistencePort;
+import com.stock_service.stock.domain.spi.ICategoryModelPersistencePort;
+import com.stock_service.stock.domain.util.Util;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports a supplier catalog record by record. Each record is checked against the same constraints as
+ * {@code POST /api/article/crear}, and valid ones are saved in chunks of {@link Util#ARTICLE_IMPORT_CHUNK_SIZE}.
+ * Every chunk commits on its own, so memory and transaction length depend on the chunk and not on the file.
+ * Chunks that were saved stay saved if a later record fails.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(Transactional.TxType.NOT_SUPPORTED)
+public class ArticleImportHandler implements IArticleImportHandler {
+
+    private final IArticleModelServicePort articleModelServicePort;
+    private final IArticleRequestMapper articleRequestMapper;
+    private final IBrandModelPersistencePort brandModelPersistencePort;
+    private final ICategoryModelPersistencePort categoryModelPersistencePort;
+    private final Validator validator;
+
+    @Override
+    public ArticleImportResponse importArticles(Iterator<ArticleRequest> requests) {
+        ImportRun run = new ImportRun();
+        List<PendingArticle> chunk = new ArrayList<>(Util.ARTICLE_IMPORT_CHUNK_SIZE);
+        long record = 0;
+
+        while (requests.hasNext()) {
+            record++;
+
+            ArticleRequest request;
+            try {
+                request = requests.next();
+            } catch (IllegalArgumentException e) {
+                run.reject(record, Util.ARTICLE_IMPORT_MALFORMED_RECORD + e.getMessage());
+                continue;
+            }
+
+            Set<ConstraintViolation<ArticleRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                run.reject(record, describe(violations));
+                continue;
+            }
+
+            chunk.add(new PendingArticle(record, request));
+            if (chunk.size() == Util.ARTICLE_IMPORT_CHUNK_SIZE) {
+                importChunk(chunk, run);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, run);
+        }
+
+        return run.toResponse();
+    }
+
+    private void importChunk(List<PendingArticle> chunk, ImportRun run) {
+        resolveBrands(chunk, run.brands);
+        resolveCategories(chunk, run.categories);
+
+        List<ArticleModel> articles = new ArrayList<>(chunk.size());
+        List<Long> records = new ArrayList<>(chunk.size());
+
+        for (PendingArticle pending : chunk) {
+            ArticleRequest request = pending.request();
+
+            BrandModel brand = run.brands.get(request.getBrandId());
+            if (brand == null) {
+                run.reject(pending.record(), Util.ARTICLE_IMPORT_BRAND_NOT_FOUND);
+                continue;
+            }
+
+            List<CategoryModel> categories = request.getCategoryIds().stream().map(run.categories::get).toList();
+            if (categories.contains(null)) {
+                run.reject(pending.record(), Util.ARTICLE_IMPORT_CATEGORY_NOT_FOUND);
+                continue;
+            }
+
+            ArticleModel article = articleRequestMapper.articleRequestToArticleModel(request);
+            article.setBrand(brand);
+            article.setCategories(new ArrayList<>(categories));
+
+            articles.add(article);
+            records.add(pending.record());
+        }
+
+        if (articles.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> skipped = articleModelServicePort.importArticles(articles);
+        skipped.forEach(position -> run.reject(records.get(position), Util.ARTICLE_NAME_ALREADY_EXISTS));
+        run.imported += articles.size() - skipped.size();
+    }
+
+    // Only ids this import has not looked up yet go to the database; unknown ids are remembered as null
+    private void resolveBrands(List<PendingArticle> chunk, Map<Long, BrandModel> brands) {
+        List<Long> missingIds = chunk.stream()
+                .map(pending -> pending.request().getBrandId())
+                .filter(brandId -> !brands.containsKey(brandId))
+                .distinct()
+                .toList();
+
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        brandModelPersistencePort.getBrandsByIds(missingIds).forEach(brand -> brands.put(brand.getId(), brand));
+        missingIds.forEach(brandId -> brands.putIfAbsent(brandId, null));
+    }
+
+    private void resolveCategories(List<PendingArticle> chunk, Map<Long, CategoryModel> categories) {
+        List<Long> missingIds = chunk.stream()
+                .flatMap(pending -> pending.request().getCategoryIds().stream())
+                .filter(categoryId -> !categories.containsKey(categoryId))
+                .distinct()
+                .toList();
+
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        categoryModelPersistencePort.getCategoriesByIds(missingIds)
+                .forEach(category -> categories.put(category.getId(), category));
+        missingIds.forEach(categoryId -> categories.putIfAbsent(categoryId, null));
+    }
+
+    private static String describe(Set<ConstraintViolation<ArticleRequest>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private record PendingArticle(long record, ArticleRequest request) {
+    }
+
+    /**
+     * State of one import: the running totals, the first errors and the brands and categories already looked up.
+     */
+    private static class ImportRun {
+
+        private final Map<Long, BrandModel> brands = new HashMap<>();
+        private final Map<Long, CategoryModel> categories = new HashMap<>();
+        private final List<ArticleImportError> errors = new ArrayList<>();
+        private int imported;
+        private int rejected;
+
+        void reject(long record, String message) {
+            rejected++;
+
+            // Past the cap only the count grows, so a file of bad rows cannot blow up the response
+            if (errors.size() < Util.ARTICLE_IMPORT_MAX_REPORTED_ERRORS) {
+                ArticleImportError error = new ArticleImportError();
+                error.setRecord(record);
+                error.setMessage(message);
+                errors.add(error);
+            }
+        }
+
+        ArticleImportResponse toResponse() {
+            errors.sort(Comparator.comparingLong(ArticleImportError::getRecord));
+
+            ArticleImportResponse response = new ArticleImportResponse();
+            response.setImported(imported);
+            response.setRejected(rejected);
+            response.setErrors(errors);
+
+            return response;
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package com.stock_service.stock.application.handler.articlehandler;
 
+import com.stock_service.stock.application.dto.articledto.ArticleFilterRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleQuantityRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleResponse;
+import com.stock_service.stock.application.dto.articledto.ArticleStockBatchRequest;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface IArticleHandler {
 
     ArticleResponse saveArticle(ArticleRequest articleRequest);
-    Paginated<ArticleResponse> getArticlesPaginated(int page, int size, String sort, boolean ascending);
+    Paginated<ArticleResponse> getArticlesPaginated(int page, int size, String sort, boolean ascending, CountMode countMode,
+                                                    boolean withFacets);
+    CursorPaginated<ArticleResponse> getArticlesByCursor(String cursor, int size, String sort, boolean ascending);
 
     boolean getArticleById(Long id);
 
@@ -18,12 +26,23 @@ public interface IArticleHandler {
 
     boolean checkAvailabilityArticle(Long articleId, Integer requestedQuantity);
 
+    Map<Long, Boolean> checkAvailabilityArticles(ArticleStockBatchRequest request);
+
     void reduceStock(Long articleId, ArticleQuantityRequest request);
 
+    void reduceStockBatch(ArticleStockBatchRequest request);
+
     Double getArtclePriceById(Long articleId);
 
+    Map<Long, Double> getArticlePricesByIds(List<Long> articleIds);
+
     Paginated<ArticleResponse> getAllArticlesPaginatedByIds(
-            int page, int size, String sort, boolean ascending, String categoryName, String brandName, List<Long> articleIds);
+            int page, int size, String sort, boolean ascending, ArticleFilterRequest filter, List<Long> articleIds,
+            CountMode countMode, boolean withFacets);
 
     List<ArticleResponse> getAllArticlesByIds(List<Long> articleIds);
+
+    void exportArticles(Consumer<ArticleResponse> consumer);
+
+    Paginated<ArticleResponse> searchArticles(String text, boolean inStockOnly, int page, int size);
 }
@@ -0,0 +1,15 @@
+package com.stock_service.stock.application.handler.articlehandler;
+
+import com.stock_service.stock.application.dto.articledto.ArticleImportResponse;
+import com.stock_service.stock.application.dto.articledto.ArticleRequest;
+
+import java.util.Iterator;
+
+public interface IArticleImportHandler {
+
+    /**
+     * @param requests the records in file order; {@code next()} throws {@link IllegalArgumentException} for a record
+     *                 that could not be read, and the import carries on with the following one
+     */
+    ArticleImportResponse importArticles(Iterator<ArticleRequest> requests);
+}
@@ -6,7 +6,10 @@ import com.stock_service.stock.application.mapper.brandmapper.IBrandRequestMappe
 import com.stock_service.stock.application.mapper.brandmapper.IBrandResponseMapper;
 import com.stock_service.stock.domain.api.IBrandModelServicePort;
 import com.stock_service.stock.domain.model.BrandModel;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.domain.util.QueryCostGovernor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,6 +24,7 @@ public class BrandHandler implements IBrandHandler{
     private final IBrandModelServicePort brandModelServicePort;
     private final IBrandRequestMapper brandRequestMapper;
     private final IBrandResponseMapper brandResponseMapper;
+    private final QueryCostGovernor queryCostGovernor;
 
 
     @Override
@@ -33,19 +37,30 @@ public class BrandHandler implements IBrandHandler{
     }
 
     @Override
-    public Paginated<BrandResponse> getBrandsPaginated(int page, int size, String sort, boolean ascending) {
+    public Paginated<BrandResponse> getBrandsPaginated(int page, int size, String sort, boolean ascending, CountMode countMode) {
 
-        Paginated<BrandModel> brands = brandModelServicePort.getBrandsPaginated(page, size, sort, ascending);
+        int pageSize = queryCostGovernor.governPage("brand.list", page, size, 0, 0, sort);
+
+        Paginated<BrandModel> brands = brandModelServicePort.getBrandsPaginated(page, pageSize, sort, ascending, countMode);
+
+        List<BrandResponse> brandResponse = brands.getContent().stream()
+                .map(brandResponseMapper::brandModelToBrandResponse)
+                .toList();
+
+        return brands.withContent(brandResponse);
+    }
+
+    @Override
+    public CursorPaginated<BrandResponse> getBrandsByCursor(String cursor, int size, String sort, boolean ascending) {
+
+        int pageSize = queryCostGovernor.governCursor("brand.list.cursor", size);
+
+        CursorPaginated<BrandModel> brands = brandModelServicePort.getBrandsByCursor(cursor, pageSize, sort, ascending);
 
         List<BrandResponse> brandResponse = brands.getContent().stream()
                 .map(brandResponseMapper::brandModelToBrandResponse)
                 .toList();
 
-        return new Paginated<>(
-                brandResponse,
-                brands.getPageNumber(),
-                brands.getPageSize(),
-                brands.getTotalPages()
-        );
+        return new CursorPaginated<>(brandResponse, brands.getPageSize(), brands.getNextCursor());
     }
 }
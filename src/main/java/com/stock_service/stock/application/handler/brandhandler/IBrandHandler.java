@@ -2,9 +2,12 @@ package com.stock_service.stock.application.handler.brandhandler;
 
 import com.stock_service.stock.application.dto.branddto.BrandRequest;
 import com.stock_service.stock.application.dto.branddto.BrandResponse;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 
 public interface IBrandHandler {
     BrandResponse saveBrand(BrandRequest brandRequest);
-    Paginated<BrandResponse> getBrandsPaginated(int page, int size, String sort, boolean ascending);
+    Paginated<BrandResponse> getBrandsPaginated(int page, int size, String sort, boolean ascending, CountMode countMode);
+    CursorPaginated<BrandResponse> getBrandsByCursor(String cursor, int size, String sort, boolean ascending);
 }
@@ -6,7 +6,10 @@ import com.stock_service.stock.application.mapper.categorymapper.ICategoryReques
 import com.stock_service.stock.application.mapper.categorymapper.ICategoryResponseMapper;
 import com.stock_service.stock.domain.api.ICategoryModelServicePort;
 import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.domain.util.QueryCostGovernor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +23,7 @@ public class CategoryHandler implements ICategoryHandler {
     private final ICategoryModelServicePort categoryModelServicePort;
     private final ICategoryRequestMapper categoryRequestMapper;
     private final ICategoryResponseMapper categoryResponseMapper;
+    private final QueryCostGovernor queryCostGovernor;
 
 
     @Override
@@ -33,20 +37,31 @@ public class CategoryHandler implements ICategoryHandler {
     }
 
     @Override
-    public Paginated<CategoryResponse> getCategories(int page, int size, String sort, boolean ascending) {
+    public Paginated<CategoryResponse> getCategories(int page, int size, String sort, boolean ascending, CountMode countMode) {
 
-        Paginated<CategoryModel> categories = categoryModelServicePort.getCategoriesPaginated(page, size, sort, ascending);
+        int pageSize = queryCostGovernor.governPage("category.list", page, size, 0, 0, sort);
+
+        Paginated<CategoryModel> categories = categoryModelServicePort.getCategoriesPaginated(page, pageSize, sort, ascending, countMode);
+
+        List<CategoryResponse> categoryResponse = categories.getContent().stream()
+                .map(categoryResponseMapper::categoryModelToCategoryResponse)
+                .toList();
+
+        return categories.withContent(categoryResponse);
+    }
+
+    @Override
+    public CursorPaginated<CategoryResponse> getCategoriesByCursor(String cursor, int size, String sort, boolean ascending) {
+
+        int pageSize = queryCostGovernor.governCursor("category.list.cursor", size);
+
+        CursorPaginated<CategoryModel> categories = categoryModelServicePort.getCategoriesByCursor(cursor, pageSize, sort, ascending);
 
         List<CategoryResponse> categoryResponse = categories.getContent().stream()
                 .map(categoryResponseMapper::categoryModelToCategoryResponse)
                 .toList();
 
-        return new Paginated<>(
-                categoryResponse,
-                categories.getPageNumber(),
-                categories.getPageSize(),
-                categories.getTotalPages()
-        );
+        return new CursorPaginated<>(categoryResponse, categories.getPageSize(), categories.getNextCursor());
     }
 
     @Override
@@ -0,0 +1,10 @@
+package com.stock_service.stock.application.handler.reservationhandler;
+
+import com.stock_service.stock.application.dto.reservationdto.ReservationRequest;
+import com.stock_service.stock.application.dto.reservationdto.ReservationResponse;
+
+public interface IReservationHandler {
+    ReservationResponse reserveStock(ReservationRequest reservationRequest, String owner);
+    void commitReservation(Long reservationId, String owner);
+    void releaseReservation(Long reservationId, String owner);
+}
@@ -0,0 +1,45 @@
+package com.stock_service.stock.application.handler.reservationhandler;
+
+import com.stock_service.stock.application.dto.reservationdto.ReservationRequest;
+import com.stock_service.stock.application.dto.reservationdto.ReservationResponse;
+import com.stock_service.stock.application.mapper.reservationmapper.IReservationResponseMapper;
+import com.stock_service.stock.domain.api.IReservationModelServicePort;
+import com.stock_service.stock.domain.model.ReservationModel;
+import com.stock_service.stock.domain.util.Util;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ReservationHandler implements IReservationHandler {
+
+    private final IReservationModelServicePort reservationModelServicePort;
+    private final IReservationResponseMapper reservationResponseMapper;
+
+    @Override
+    public ReservationResponse reserveStock(ReservationRequest reservationRequest, String owner) {
+
+        long ttlSeconds = reservationRequest.getTtlSeconds() == null
+                ? Util.RESERVATION_DEFAULT_TTL_SECONDS
+                : reservationRequest.getTtlSeconds();
+
+        ReservationModel reservation = reservationModelServicePort.reserveStock(
+                reservationRequest.getArticleId(), reservationRequest.getQuantity(), Duration.ofSeconds(ttlSeconds), owner);
+
+        return reservationResponseMapper.reservationModelToReservationResponse(reservation);
+    }
+
+    @Override
+    public void commitReservation(Long reservationId, String owner) {
+        reservationModelServicePort.commitReservation(reservationId, owner);
+    }
+
+    @Override
+    public void releaseReservation(Long reservationId, String owner) {
+        reservationModelServicePort.releaseReservation(reservationId, owner);
+    }
+}
@@ -1,11 +1,17 @@
 package com.stock_service.stock.application.mapper.articlemapper;
 
+import com.stock_service.stock.application.dto.articledto.ArticleFilterRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleRequest;
+import com.stock_service.stock.application.dto.articledto.ArticleStockRequest;
+import com.stock_service.stock.domain.model.ArticleFilterModel;
 import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring",
         unmappedTargetPolicy = ReportingPolicy.IGNORE,
         unmappedSourcePolicy = ReportingPolicy.IGNORE)
@@ -15,4 +21,9 @@ public interface IArticleRequestMapper {
     @Mapping(target = "brand", ignore = true)
     ArticleModel articleRequestToArticleModel(ArticleRequest articleRequest);
 
+    List<ArticleStockModel> articleStockRequestsToArticleStockModels(List<ArticleStockRequest> articleStockRequests);
+
+    @Mapping(target = "articleIds", source = "articleIds")
+    ArticleFilterModel articleFilterRequestToArticleFilterModel(ArticleFilterRequest filter, List<Long> articleIds);
+
 }
@@ -1,6 +1,8 @@
 package com.stock_service.stock.application.mapper.articlemapper;
 
+import com.stock_service.stock.application.dto.articledto.ArticleFacetsResponse;
 import com.stock_service.stock.application.dto.articledto.ArticleResponse;
+import com.stock_service.stock.domain.model.ArticleFacetsModel;
 import com.stock_service.stock.domain.model.ArticleModel;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -14,4 +16,6 @@ public interface IArticleResponseMapper {
     @Mapping(target = "categories", source = "categories")
     @Mapping(target = "brand", source = "brand")
     ArticleResponse articleModelToArticleResponse(ArticleModel articleModel);
+
+    ArticleFacetsResponse articleFacetsModelToArticleFacetsResponse(ArticleFacetsModel articleFacetsModel);
 }
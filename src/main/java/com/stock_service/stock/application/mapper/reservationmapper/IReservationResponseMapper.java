@@ -0,0 +1,14 @@
+package com.stock_service.stock.application.mapper.reservationmapper;
+
+import com.stock_service.stock.application.dto.reservationdto.ReservationResponse;
+import com.stock_service.stock.domain.model.ReservationModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring",
+        unmappedTargetPolicy = ReportingPolicy.IGNORE,
+        unmappedSourcePolicy = ReportingPolicy.IGNORE)
+
+public interface IReservationResponseMapper {
+    ReservationResponse reservationModelToReservationResponse(ReservationModel reservationModel);
+}
@@ -1,8 +1,11 @@
 package com.stock_service.stock.domain.api;
 
 import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 
 public interface IArticleModelServicePort {
@@ -14,13 +17,23 @@ public interface IArticleModelServicePort {
 
     boolean isStockAvailable(Long articleId, int requestedQuantity);
 
+    Map<Long, Boolean> isStockAvailableBatch(List<ArticleStockModel> items);
+
     void reduceStock(Long articleId, int quantityToReduce);
 
+    void reduceStockBatch(List<ArticleStockModel> items);
+
+    void restoreStockBatch(List<ArticleStockModel> items);
+
     Double getArticlePriceById(Long articleId);
 
+    Map<Long, Double> getArticlePricesByIds(List<Long> articleIds);
+
     ArticleModel getArticleById(Long id);
 
     List<ArticleModel> getAllArticlesByIds(List<Long> articleIds);
 
+    Set<Integer> importArticles(List<ArticleModel> articles);
+
 
     }
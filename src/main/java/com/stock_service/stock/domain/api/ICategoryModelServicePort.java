@@ -1,12 +1,15 @@
 package com.stock_service.stock.domain.api;
 
 import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 
 import java.util.List;
 
 public interface ICategoryModelServicePort {
     CategoryModel saveCategory (CategoryModel categoryModel);
-    Paginated<CategoryModel> getCategoriesPaginated(int page, int size, String sort, boolean ascending);
+    Paginated<CategoryModel> getCategoriesPaginated(int page, int size, String sort, boolean ascending, CountMode countMode);
+    CursorPaginated<CategoryModel> getCategoriesByCursor(String cursor, int size, String sort, boolean ascending);
     List<String> getCategoryNamesByArticleId(Long articleId);
 }
@@ -0,0 +1,16 @@
+package com.stock_service.stock.domain.api;
+
+import com.stock_service.stock.domain.model.ReservationModel;
+
+import java.time.Duration;
+
+public interface IReservationModelServicePort {
+
+    ReservationModel reserveStock(Long articleId, int quantity, Duration timeToLive, String owner);
+
+    void commitReservation(Long reservationId, String owner);
+
+    void releaseReservation(Long reservationId, String owner);
+
+    int releaseExpiredReservations(int limit);
+}
@@ -0,0 +1,7 @@
+package com.stock_service.stock.domain.exception;
+
+public class ConcurrentUpdateException extends RuntimeException {
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.stock_service.stock.domain.exception;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class InsufficientStockBatchException extends InsufficientStockException {
+
+    private final transient Map<Long, Integer> failedItems;
+
+    public InsufficientStockBatchException(String message, Map<Long, Integer> failedItems) {
+        super(message);
+        this.failedItems = Collections.unmodifiableMap(new LinkedHashMap<>(failedItems));
+    }
+
+    public Map<Long, Integer> getFailedItems() {
+        return failedItems;
+    }
+}
@@ -0,0 +1,7 @@
+package com.stock_service.stock.domain.exception;
+
+public class InvalidPaginationException extends RuntimeException {
+    public InvalidPaginationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.stock_service.stock.domain.exception;
+
+public class QueryCostExceededException extends RuntimeException {
+    public QueryCostExceededException(String message) {
+        super(message);
+    }
+}
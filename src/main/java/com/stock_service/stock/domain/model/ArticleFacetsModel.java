@@ -0,0 +1,35 @@
+package com.stock_service.stock.domain.model;
+
+import java.util.List;
+
+/**
+ * How many of the filtered articles fall under each brand and each category. An article counts once for its
+ * brand and once for every one of its categories.
+ */
+public class ArticleFacetsModel {
+    private List<FacetCountModel> brands;
+    private List<FacetCountModel> categories;
+
+    public ArticleFacetsModel(List<FacetCountModel> brands, List<FacetCountModel> categories) {
+        this.brands = brands;
+        this.categories = categories;
+    }
+
+    public ArticleFacetsModel(){}
+
+    public List<FacetCountModel> getBrands() {
+        return brands;
+    }
+
+    public void setBrands(List<FacetCountModel> brands) {
+        this.brands = brands;
+    }
+
+    public List<FacetCountModel> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<FacetCountModel> categories) {
+        this.categories = categories;
+    }
+}
@@ -0,0 +1,84 @@
+package com.stock_service.stock.domain.model;
+
+import java.util.List;
+
+/**
+ * Narrows an article listing. Every criterion that is set must hold; a criterion left null or empty does not
+ * filter. Several category or brand IDs match an article that has any one of them.
+ */
+public class ArticleFilterModel {
+    private String categoryName;
+    private String brandName;
+    private List<Long> categoryIds;
+    private List<Long> brandIds;
+    private Double minPrice;
+    private Double maxPrice;
+    private boolean inStock;
+    private List<Long> articleIds;
+
+    public ArticleFilterModel(){}
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public void setCategoryName(String categoryName) {
+        this.categoryName = categoryName;
+    }
+
+    public String getBrandName() {
+        return brandName;
+    }
+
+    public void setBrandName(String brandName) {
+        this.brandName = brandName;
+    }
+
+    public List<Long> getCategoryIds() {
+        return categoryIds;
+    }
+
+    public void setCategoryIds(List<Long> categoryIds) {
+        this.categoryIds = categoryIds;
+    }
+
+    public List<Long> getBrandIds() {
+        return brandIds;
+    }
+
+    public void setBrandIds(List<Long> brandIds) {
+        this.brandIds = brandIds;
+    }
+
+    public Double getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(Double minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public Double getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(Double maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public boolean isInStock() {
+        return inStock;
+    }
+
+    public void setInStock(boolean inStock) {
+        this.inStock = inStock;
+    }
+
+    public List<Long> getArticleIds() {
+        return articleIds;
+    }
+
+    public void setArticleIds(List<Long> articleIds) {
+        this.articleIds = articleIds;
+    }
+}
@@ -11,6 +11,7 @@ public class ArticleModel {
     private double price;
     private BrandModel brand;
     private List<CategoryModel> categories;
+    private Long version;
 
     public ArticleModel(Long id, String name, String description,
                         int quantity, double price, BrandModel brand,
@@ -82,4 +83,12 @@ public class ArticleModel {
     public void setCategories(List<CategoryModel> categories) {
         this.categories = categories;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
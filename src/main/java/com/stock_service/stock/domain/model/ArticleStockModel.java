@@ -0,0 +1,30 @@
+package com.stock_service.stock.domain.model;
+
+public class ArticleStockModel {
+
+    private Long articleId;
+    private int quantity;
+
+    public ArticleStockModel(Long articleId, int quantity) {
+        this.articleId = articleId;
+        this.quantity = quantity;
+    }
+
+    public ArticleStockModel(){}
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,39 @@
+package com.stock_service.stock.domain.model;
+
+public class FacetCountModel {
+    private Long id;
+    private String name;
+    private long count;
+
+    public FacetCountModel(Long id, String name, long count) {
+        this.id = id;
+        this.name = name;
+        this.count = count;
+    }
+
+    public FacetCountModel(){}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
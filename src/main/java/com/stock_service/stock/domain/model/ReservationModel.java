@@ -0,0 +1,62 @@
+package com.stock_service.stock.domain.model;
+
+import java.time.Instant;
+
+public class ReservationModel {
+
+    private Long id;
+    private Long articleId;
+    private int quantity;
+    private Instant expiresAt;
+    private String owner;
+
+    public ReservationModel(Long id, Long articleId, int quantity, Instant expiresAt, String owner) {
+        this.id = id;
+        this.articleId = articleId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+        this.owner = owner;
+    }
+
+    public ReservationModel(){}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+}
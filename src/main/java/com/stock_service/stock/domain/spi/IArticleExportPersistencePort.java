@@ -0,0 +1,14 @@
+package com.stock_service.stock.domain.spi;
+
+import com.stock_service.stock.domain.model.ArticleModel;
+
+import java.util.function.Consumer;
+
+public interface IArticleExportPersistencePort {
+
+    /**
+     * Hands every article, with its brand and categories, to {@code consumer} in ID order while the rows are read.
+     * Nothing is collected, so memory does not grow with the catalog.
+     */
+    void streamAllArticles(Consumer<ArticleModel> consumer);
+}
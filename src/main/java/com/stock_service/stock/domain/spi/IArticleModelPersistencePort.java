@@ -1,19 +1,38 @@
 package com.stock_service.stock.domain.spi;
 
+import com.stock_service.stock.domain.model.ArticleFacetsModel;
+import com.stock_service.stock.domain.model.ArticleFilterModel;
 import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface IArticleModelPersistencePort {
 
     ArticleModel saveArticle(ArticleModel articleModel);
-    Paginated<ArticleModel> getArticlesPaginated(int page, int size, String sort, boolean ascending);
+    void saveArticles(List<ArticleModel> articles);
+    Paginated<ArticleModel> getArticlesPaginated(int page, int size, String sort, boolean ascending, boolean categoryFirst, CountMode countMode);
+    CursorPaginated<ArticleModel> getArticlesByCursor(String cursor, int size, String sort, boolean ascending);
     boolean existByName(String name);
+    Set<String> getExistingNames(Collection<String> names);
     ArticleModel getArticleById(Long id);
-    void reduceArticleQuantity(Long articleId, int quantityToReduce);
+    int reduceArticleQuantity(Long articleId, int quantityToReduce);
+    int updateArticleQuantity(Long articleId, int quantity, Long expectedVersion);
+    int[] reduceArticleQuantities(List<ArticleStockModel> items);
+    int[] increaseArticleQuantities(List<ArticleStockModel> items);
+    Map<Long, Integer> getArticleQuantitiesByIds(Collection<Long> articleIds);
+    Double getArticlePriceById(Long articleId);
+    Map<Long, Double> getArticlePricesByIds(Collection<Long> articleIds);
     Paginated<ArticleModel> getArticlesPaginatedByFilters(
-            int page, int size, String sort, boolean ascending, String categoryName, String brandName, List<Long> articleIds);
+            int page, int size, String sort, boolean ascending, ArticleFilterModel filter, CountMode countMode);
+    ArticleFacetsModel getArticleFacets(ArticleFilterModel filter);
+    long countArticles();
 
     List<ArticleModel> getAllArticlesByIds(List<Long> articleIds);
 }
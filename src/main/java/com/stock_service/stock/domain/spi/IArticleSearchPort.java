@@ -0,0 +1,12 @@
+package com.stock_service.stock.domain.spi;
+
+import com.stock_service.stock.domain.util.Paginated;
+
+public interface IArticleSearchPort {
+
+    /**
+     * Returns one page of article IDs matching {@code text} over name, description, brand and category names,
+     * best match first. Words match exactly, by prefix or with a typo, and every word has to match somewhere.
+     */
+    Paginated<Long> searchArticleIds(String text, boolean inStockOnly, int page, int size);
+}
@@ -1,13 +1,20 @@
 package com.stock_service.stock.domain.spi;
 
 import com.stock_service.stock.domain.model.BrandModel;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface IBrandModelPersistencePort {
     BrandModel saveBrand(BrandModel brandModel);
 
     boolean existsByName(String name);
 
-    Paginated<BrandModel> getBrandsPaginated(int page, int size, String sort, boolean ascending);
+    Paginated<BrandModel> getBrandsPaginated(int page, int size, String sort, boolean ascending, CountMode countMode);
+    CursorPaginated<BrandModel> getBrandsByCursor(String cursor, int size, String sort, boolean ascending);
     BrandModel getBrandById(Long id);
+    List<BrandModel> getBrandsByIds(Collection<Long> ids);
 }
@@ -1,6 +1,8 @@
 package com.stock_service.stock.domain.spi;
 
 import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 
 import java.util.List;
@@ -8,7 +10,8 @@ import java.util.List;
 public interface ICategoryModelPersistencePort {
     boolean existByName(String name);
     CategoryModel saveCategory(CategoryModel categoryModel);
-    Paginated<CategoryModel> getCategoriesPaginated(int page, int size, String sort, boolean ascending); // Actualización aquí
+    Paginated<CategoryModel> getCategoriesPaginated(int page, int size, String sort, boolean ascending, CountMode countMode); // Actualización aquí
+    CursorPaginated<CategoryModel> getCategoriesByCursor(String cursor, int size, String sort, boolean ascending);
     List<CategoryModel> getCategoriesByIds(List<Long> ids);
 
 
@@ -0,0 +1,13 @@
+package com.stock_service.stock.domain.spi;
+
+/**
+ * In-memory stock for articles flagged as hot. While this instance holds an article's lease, its counter is the
+ * source of truth for the quantity; the article row catches up through write-behind.
+ */
+public interface IHotStockPort {
+    boolean isHot(Long articleId);
+    boolean tryReduce(Long articleId, int quantityToReduce);
+    void restoreStock(Long articleId, int quantity);
+    int getQuantity(Long articleId);
+    void setQuantity(Long articleId, int quantity);
+}
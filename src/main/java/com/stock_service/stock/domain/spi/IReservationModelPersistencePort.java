@@ -0,0 +1,14 @@
+package com.stock_service.stock.domain.spi;
+
+import com.stock_service.stock.domain.model.ReservationModel;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface IReservationModelPersistencePort {
+
+    ReservationModel saveReservation(ReservationModel reservationModel);
+    ReservationModel getReservationById(Long id);
+    List<ReservationModel> getReservationsExpiredAt(Instant instant, int limit);
+    int[] deleteReservations(List<Long> reservationIds);
+}
@@ -1,23 +1,55 @@
 package com.stock_service.stock.domain.usecase;
 
 import com.stock_service.stock.domain.api.IArticleModelServicePort;
+import com.stock_service.stock.domain.exception.InsufficientStockBatchException;
 import com.stock_service.stock.domain.exception.InsufficientStockException;
 import com.stock_service.stock.domain.exception.NameAlreadyExistsException;
 import com.stock_service.stock.domain.exception.NotFoundException;
 import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
 import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import com.stock_service.stock.domain.spi.IHotStockPort;
+import com.stock_service.stock.domain.util.RetryPolicy;
 import com.stock_service.stock.domain.util.Util;
 
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 
 public class ArticleModelUseCase implements IArticleModelServicePort {
 
+    private static final String UPDATE_QUANTITY_OPERATION = "updateArticleQuantity";
+
     private final IArticleModelPersistencePort articlePersistencePort;
+    private final RetryPolicy retryPolicy;
+    private final IHotStockPort hotStockPort;
 
     public ArticleModelUseCase(IArticleModelPersistencePort articlePersistencePort) {
+        this(articlePersistencePort, RetryPolicy.defaults());
+    }
+
+    public ArticleModelUseCase(IArticleModelPersistencePort articlePersistencePort, RetryPolicy retryPolicy) {
+        this(articlePersistencePort, retryPolicy, null);
+    }
+
+    /**
+     * @param hotStockPort serves the stock of hot articles from memory; {@code null} keeps every article on the database
+     */
+    public ArticleModelUseCase(IArticleModelPersistencePort articlePersistencePort, RetryPolicy retryPolicy,
+                               IHotStockPort hotStockPort) {
         this.articlePersistencePort = articlePersistencePort;
+        this.retryPolicy = retryPolicy;
+        this.hotStockPort = hotStockPort;
     }
 
     @Override
@@ -46,17 +78,40 @@ public class ArticleModelUseCase implements IArticleModelServicePort {
     @Override
     public ArticleModel updateArticleQuantity(Long id, int quantity) {
 
-        ArticleModel article = articlePersistencePort.getArticleById(id);
+        if (isHot(id)) {
+            ArticleModel article = articlePersistencePort.getArticleById(id);
 
-        validateArticle(article);
+            validateArticle(article);
+
+            hotStockPort.setQuantity(id, quantity);
+            article.setQuantity(quantity);
 
-        article.setQuantity(quantity);
+            return article;
+        }
+
+        // Each attempt re-reads the row and writes only if nobody bumped its version in between
+        return retryPolicy.execute(UPDATE_QUANTITY_OPERATION, () -> {
+            ArticleModel article = articlePersistencePort.getArticleById(id);
+
+            validateArticle(article);
+
+            if (articlePersistencePort.updateArticleQuantity(id, quantity, article.getVersion()) == 0) {
+                return Optional.empty();
+            }
 
-        return articlePersistencePort.saveArticle(article);
+            article.setQuantity(quantity);
+            article.setVersion(article.getVersion() + 1);
+
+            return Optional.of(article);
+        });
     }
 
     @Override
     public boolean isStockAvailable(Long articleId, int requestedQuantity) {
+        if (isHot(articleId)) {
+            return hotStockPort.getQuantity(articleId) >= requestedQuantity;
+        }
+
         ArticleModel article = articlePersistencePort.getArticleById(articleId);
 
         validateArticle(article);
@@ -64,29 +119,146 @@ public class ArticleModelUseCase implements IArticleModelServicePort {
         return article.getQuantity() >= requestedQuantity;
     }
 
+    @Override
+    public Map<Long, Boolean> isStockAvailableBatch(List<ArticleStockModel> items) {
+
+        Map<Long, Integer> requestedByArticle = mergeQuantitiesByArticle(items);
+        Map<Long, Integer> availableByArticle = new LinkedHashMap<>(
+                articlePersistencePort.getArticleQuantitiesByIds(requestedByArticle.keySet()));
+        requestedByArticle.keySet().stream()
+                .filter(this::isHot)
+                .forEach(articleId -> availableByArticle.put(articleId, hotStockPort.getQuantity(articleId)));
+
+        Map<Long, Boolean> availability = new LinkedHashMap<>();
+        requestedByArticle.forEach((articleId, requestedQuantity) -> {
+            Integer availableQuantity = availableByArticle.get(articleId);
+            availability.put(articleId, availableQuantity != null && availableQuantity >= requestedQuantity);
+        });
+
+        return availability;
+    }
+
+    @Override
     public void reduceStock(Long articleId, int quantityToReduce) {
 
-        ArticleModel article = articlePersistencePort.getArticleById(articleId);
+        if (isHot(articleId)) {
+            if (!hotStockPort.tryReduce(articleId, quantityToReduce)) {
+                throw new InsufficientStockException(Util.INSUFFICIENT_STOCK);
+            }
+            return;
+        }
+
+        int updatedRows = articlePersistencePort.reduceArticleQuantity(articleId, quantityToReduce);
+
+        if (updatedRows == 0) {
+            validateArticle(articlePersistencePort.getArticleById(articleId));
 
-        if (article.getQuantity() < quantityToReduce) {
             throw new InsufficientStockException(Util.INSUFFICIENT_STOCK);
         }
+    }
+
+    @Override
+    public void reduceStockBatch(List<ArticleStockModel> items) {
+
+        // Lines are sorted by ID so concurrent carts lock rows in the same order
+        List<ArticleStockModel> sortedItems = new ArrayList<>();
+        List<ArticleStockModel> hotItems = new ArrayList<>();
+        mergeQuantitiesByArticle(items).forEach((articleId, quantity) ->
+                (isHot(articleId) ? hotItems : sortedItems).add(new ArticleStockModel(articleId, quantity)));
+
+        Map<Long, Integer> failedItems = new TreeMap<>();
+
+        if (!sortedItems.isEmpty()) {
+            int[] updatedRows = articlePersistencePort.reduceArticleQuantities(sortedItems);
+
+            for (int i = 0; i < sortedItems.size(); i++) {
+                if (updatedRows[i] == 0) {
+                    failedItems.put(sortedItems.get(i).getArticleId(), sortedItems.get(i).getQuantity());
+                }
+            }
+        }
+
+        // The database lines roll back with the transaction; in-memory lines have to be given back explicitly
+        List<ArticleStockModel> reducedHotItems = new ArrayList<>();
+        try {
+            for (ArticleStockModel item : hotItems) {
+                if (hotStockPort.tryReduce(item.getArticleId(), item.getQuantity())) {
+                    reducedHotItems.add(item);
+                } else {
+                    failedItems.put(item.getArticleId(), item.getQuantity());
+                }
+            }
+        } catch (RuntimeException e) {
+            restoreHotItems(reducedHotItems, e);
+            throw e;
+        }
 
-        articlePersistencePort.reduceArticleQuantity(articleId, quantityToReduce);
+        if (!failedItems.isEmpty()) {
+            InsufficientStockBatchException exception =
+                    new InsufficientStockBatchException(Util.INSUFFICIENT_STOCK, failedItems);
+            restoreHotItems(reducedHotItems, exception);
+            throw exception;
+        }
+    }
+
+    // Every line is given back even if one restore fails; the failures travel with the exception being thrown
+    private void restoreHotItems(List<ArticleStockModel> reducedHotItems, RuntimeException cause) {
+        for (ArticleStockModel item : reducedHotItems) {
+            try {
+                hotStockPort.restoreStock(item.getArticleId(), item.getQuantity());
+            } catch (RuntimeException e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    @Override
+    public void restoreStockBatch(List<ArticleStockModel> items) {
+
+        List<ArticleStockModel> sortedItems = new ArrayList<>();
+        mergeQuantitiesByArticle(items).forEach((articleId, quantity) -> {
+            if (isHot(articleId)) {
+                hotStockPort.restoreStock(articleId, quantity);
+            } else {
+                sortedItems.add(new ArticleStockModel(articleId, quantity));
+            }
+        });
+
+        if (!sortedItems.isEmpty()) {
+            articlePersistencePort.increaseArticleQuantities(sortedItems);
+        }
     }
 
     @Override
     public Double getArticlePriceById(Long articleId) {
-        ArticleModel article = articlePersistencePort.getArticleById(articleId);
+        Double price = articlePersistencePort.getArticlePriceById(articleId);
 
-        validateArticle(article);
+        if (price == null) {
+            throw new NotFoundException(Util.ARTICLE_NOT_FOUND);
+        }
 
-        return article.getPrice();
+        return price;
+    }
+
+    @Override
+    public Map<Long, Double> getArticlePricesByIds(List<Long> articleIds) {
+        if (articleIds == null || articleIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return articlePersistencePort.getArticlePricesByIds(new LinkedHashSet<>(articleIds));
     }
 
     @Override
     public ArticleModel getArticleById(Long id) {
-        return articlePersistencePort.getArticleById(id);
+        ArticleModel article = articlePersistencePort.getArticleById(id);
+
+        // The row lags behind the in-memory counter until the next write-behind flush
+        if (article != null && isHot(id)) {
+            article.setQuantity(hotStockPort.getQuantity(id));
+        }
+
+        return article;
     }
 
     @Override
@@ -94,6 +266,54 @@ public class ArticleModelUseCase implements IArticleModelServicePort {
         return articlePersistencePort.getAllArticlesByIds(articleIds);
     }
 
+    /**
+     * Saves a chunk of new articles with one name lookup for the whole chunk instead of one per article.
+     * Names are compared ignoring case, as the database collation does, so a name already taken in the catalog
+     * or earlier in the chunk is skipped rather than failing the chunk.
+     *
+     * @return the positions in {@code articles} that were skipped because their name is taken
+     */
+    @Override
+    public Set<Integer> importArticles(List<ArticleModel> articles) {
+        Set<String> takenNames = new HashSet<>();
+        articlePersistencePort.getExistingNames(articles.stream().map(ArticleModel::getName).toList())
+                .forEach(name -> takenNames.add(normalizeName(name)));
+
+        Set<Integer> skipped = new TreeSet<>();
+        List<ArticleModel> accepted = new ArrayList<>(articles.size());
+
+        for (int position = 0; position < articles.size(); position++) {
+            ArticleModel article = articles.get(position);
+
+            if (takenNames.add(normalizeName(article.getName()))) {
+                accepted.add(article);
+            } else {
+                skipped.add(position);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            articlePersistencePort.saveArticles(accepted);
+        }
+
+        return skipped;
+    }
+
+    private static String normalizeName(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private Map<Long, Integer> mergeQuantitiesByArticle(List<ArticleStockModel> items) {
+        Map<Long, Integer> quantitiesByArticle = new TreeMap<>();
+        items.forEach(item -> quantitiesByArticle.merge(item.getArticleId(), item.getQuantity(), Integer::sum));
+
+        return quantitiesByArticle;
+    }
+
+    private boolean isHot(Long articleId) {
+        return hotStockPort != null && hotStockPort.isHot(articleId);
+    }
+
     private void validateArticle(ArticleModel article) {
         if (article == null) {
             throw new NotFoundException(Util.ARTICLE_NOT_FOUND);
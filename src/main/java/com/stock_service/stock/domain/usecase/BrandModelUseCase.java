@@ -4,6 +4,8 @@ import com.stock_service.stock.domain.api.IBrandModelServicePort;
 import com.stock_service.stock.domain.exception.NameAlreadyExistsException;
 import com.stock_service.stock.domain.model.BrandModel;
 import com.stock_service.stock.domain.spi.IBrandModelPersistencePort;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 import com.stock_service.stock.domain.util.Util;
 
@@ -30,8 +32,14 @@ public class BrandModelUseCase implements IBrandModelServicePort{
 
 
     @Override
-    public Paginated<BrandModel> getBrandsPaginated(int page, int size, String sort, boolean ascending) {
+    public Paginated<BrandModel> getBrandsPaginated(int page, int size, String sort, boolean ascending, CountMode countMode) {
 
-        return brandModelPersistencePort.getBrandsPaginated(page, size, sort, ascending);
+        return brandModelPersistencePort.getBrandsPaginated(page, size, sort, ascending, countMode);
+    }
+
+    @Override
+    public CursorPaginated<BrandModel> getBrandsByCursor(String cursor, int size, String sort, boolean ascending) {
+
+        return brandModelPersistencePort.getBrandsByCursor(cursor, size, sort, ascending);
     }
 }
@@ -7,6 +7,8 @@ import com.stock_service.stock.domain.exception.NotFoundException;
 import com.stock_service.stock.domain.model.ArticleModel;
 import com.stock_service.stock.domain.model.CategoryModel;
 import com.stock_service.stock.domain.spi.ICategoryModelPersistencePort;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 import com.stock_service.stock.domain.util.Util;
 
@@ -35,10 +37,16 @@ public class CategoryModelUseCase implements ICategoryModelServicePort {
 
 
     @Override
-    public Paginated<CategoryModel> getCategoriesPaginated(int page, int size, String sort, boolean ascending) {
+    public Paginated<CategoryModel> getCategoriesPaginated(int page, int size, String sort, boolean ascending, CountMode countMode) {
 
 
-        return categoryModelPersistencePort.getCategoriesPaginated(page, size, sort, ascending);
+        return categoryModelPersistencePort.getCategoriesPaginated(page, size, sort, ascending, countMode);
+    }
+
+    @Override
+    public CursorPaginated<CategoryModel> getCategoriesByCursor(String cursor, int size, String sort, boolean ascending) {
+
+        return categoryModelPersistencePort.getCategoriesByCursor(cursor, size, sort, ascending);
     }
 
     @Override
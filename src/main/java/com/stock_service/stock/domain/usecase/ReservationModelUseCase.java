@@ -0,0 +1,119 @@
+package com.stock_service.stock.domain.usecase;
+
+import com.stock_service.stock.domain.api.IArticleModelServicePort;
+import com.stock_service.stock.domain.api.IReservationModelServicePort;
+import com.stock_service.stock.domain.exception.NotFoundException;
+import com.stock_service.stock.domain.model.ArticleStockModel;
+import com.stock_service.stock.domain.model.ReservationModel;
+import com.stock_service.stock.domain.spi.IReservationModelPersistencePort;
+import com.stock_service.stock.domain.util.Util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A reservation takes its units out of the article quantity when it is made, so availability checks see held
+ * stock as gone without summing holds. Committing keeps the units sold; releasing or expiring gives them back.
+ * Deleting the reservation row decides which of commit, release and the sweeper wins a race. Only the owner may
+ * commit or release a reservation; to anyone else it does not exist.
+ */
+public class ReservationModelUseCase implements IReservationModelServicePort {
+
+    private final IReservationModelPersistencePort reservationPersistencePort;
+    private final IArticleModelServicePort articleModelServicePort;
+    private final Clock clock;
+
+    public ReservationModelUseCase(IReservationModelPersistencePort reservationPersistencePort,
+                                   IArticleModelServicePort articleModelServicePort, Clock clock) {
+        this.reservationPersistencePort = reservationPersistencePort;
+        this.articleModelServicePort = articleModelServicePort;
+        this.clock = clock;
+    }
+
+    @Override
+    public ReservationModel reserveStock(Long articleId, int quantity, Duration timeToLive, String owner) {
+
+        articleModelServicePort.reduceStock(articleId, quantity);
+
+        try {
+            return reservationPersistencePort.saveReservation(
+                    new ReservationModel(null, articleId, quantity, clock.instant().plus(timeToLive), owner));
+        } catch (RuntimeException e) {
+            // Units held in memory for hot articles do not roll back with the transaction
+            articleModelServicePort.restoreStockBatch(List.of(new ArticleStockModel(articleId, quantity)));
+            throw e;
+        }
+    }
+
+    @Override
+    public void commitReservation(Long reservationId, String owner) {
+
+        ReservationModel reservation = getActiveReservation(reservationId, owner);
+
+        deleteOrThrow(reservation);
+    }
+
+    @Override
+    public void releaseReservation(Long reservationId, String owner) {
+
+        ReservationModel reservation = getActiveReservation(reservationId, owner);
+
+        deleteOrThrow(reservation);
+
+        articleModelServicePort.restoreStockBatch(
+                List.of(new ArticleStockModel(reservation.getArticleId(), reservation.getQuantity())));
+    }
+
+    /**
+     * Releases up to {@code limit} expired reservations, oldest first.
+     *
+     * @return how many expired reservations were found; fewer than {@code limit} means none are left
+     */
+    @Override
+    public int releaseExpiredReservations(int limit) {
+
+        List<ReservationModel> expired = reservationPersistencePort.getReservationsExpiredAt(clock.instant(), limit);
+
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        int[] deletedRows = reservationPersistencePort.deleteReservations(
+                expired.stream().map(ReservationModel::getId).toList());
+
+        // A reservation committed or released since it was read is no longer ours to give back
+        List<ArticleStockModel> releasedItems = new ArrayList<>();
+        for (int i = 0; i < expired.size(); i++) {
+            if (deletedRows[i] != 0) {
+                releasedItems.add(new ArticleStockModel(expired.get(i).getArticleId(), expired.get(i).getQuantity()));
+            }
+        }
+
+        if (!releasedItems.isEmpty()) {
+            articleModelServicePort.restoreStockBatch(releasedItems);
+        }
+
+        return expired.size();
+    }
+
+    private ReservationModel getActiveReservation(Long reservationId, String owner) {
+        ReservationModel reservation = reservationPersistencePort.getReservationById(reservationId);
+
+        // Ids are sequential, so another owner's reservation is reported exactly like a missing one.
+        // An expired reservation is left for the sweeper, which gives its units back
+        if (reservation == null || !reservation.getOwner().equals(owner)
+                || !reservation.getExpiresAt().isAfter(clock.instant())) {
+            throw new NotFoundException(Util.RESERVATION_NOT_FOUND);
+        }
+
+        return reservation;
+    }
+
+    private void deleteOrThrow(ReservationModel reservation) {
+        if (reservationPersistencePort.deleteReservations(List.of(reservation.getId()))[0] == 0) {
+            throw new NotFoundException(Util.RESERVATION_NOT_FOUND);
+        }
+    }
+}
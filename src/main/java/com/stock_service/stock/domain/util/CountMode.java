@@ -0,0 +1,12 @@
+package com.stock_service.stock.domain.util;
+
+/**
+ * How the total of a {@link Paginated} result is obtained.
+ * EXACT runs a count with every page, CACHED reuses a recent count for the same filters
+ * and NONE skips the count and only reports whether another page follows.
+ */
+public enum CountMode {
+    EXACT,
+    CACHED,
+    NONE
+}
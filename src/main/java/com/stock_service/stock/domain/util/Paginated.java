@@ -3,11 +3,14 @@ package com.stock_service.stock.domain.util;
 import java.util.List;
 
 public class Paginated<T>{
+    public static final long UNKNOWN_TOTAL = -1;
+
     private List<T> content;
     private int pageNumber;
     private int pageSize;
     private long totalElements;
     private int totalPages;
+    private boolean hasNext;
 
     public Paginated(List<T> content, int pageNumber, int pageSize, long totalElements) {
         this.content = content;
@@ -15,9 +18,27 @@ public class Paginated<T>{
         this.pageSize = pageSize;
         this.totalElements = totalElements;
         this.totalPages = calculateTotalPages();
+        this.hasNext = pageNumber + 1 < totalPages;
+    }
+
+    // hasNext comes from the page query itself, so it stays right even when the total is cached or unknown
+    public Paginated(List<T> content, int pageNumber, int pageSize, long totalElements, boolean hasNext) {
+        this.content = content;
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.totalElements = totalElements;
+        this.totalPages = calculateTotalPages();
+        this.hasNext = hasNext;
+    }
+
+    public <R> Paginated<R> withContent(List<R> newContent) {
+        return new Paginated<>(newContent, pageNumber, pageSize, totalElements, hasNext);
     }
 
     private int calculateTotalPages() {
+        if (totalElements == UNKNOWN_TOTAL) {
+            return (int) UNKNOWN_TOTAL;
+        }
         if (pageSize == 0) {
             return 0;
         }
@@ -61,4 +82,12 @@ public class Paginated<T>{
     public int getTotalPages() {
         return totalPages;
     }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
 }
@@ -0,0 +1,151 @@
+package com.stock_service.stock.domain.util;
+
+import com.stock_service.stock.domain.exception.QueryCostExceededException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounds what a single listing or multi-get request may read. The cost of a page is estimated as the rows the
+ * database has to walk to reach it, weighted by the filters it checks on each row and by a sort that is not the
+ * primary key, plus the size of its ID lists. Work that covers every candidate row whatever the page, such as a
+ * GROUP BY ordering or facet counts, is charged for all of those rows. Oversized pages are clamped, ID lists are read
+ * in chunks, and a request whose cost stays above the budget is rejected before any query runs.
+ */
+public class QueryCostGovernor {
+
+    public static final String PAGE_SIZE_REASON = "page_size";
+    public static final String ID_COUNT_REASON = "id_count";
+    public static final String COST_REASON = "cost";
+
+    private static final String ID_SORT = "id";
+
+    /**
+     * Observes estimates, clamps and rejections so the infrastructure can publish them without the domain knowing
+     * about metrics.
+     */
+    public interface Listener {
+        void onEstimated(String operation, long cost);
+
+        void onClamped(String operation, String reason);
+
+        void onRejected(String operation, String reason);
+    }
+
+    private static final Listener NO_OP_LISTENER = new Listener() {
+        @Override
+        public void onEstimated(String operation, long cost) {
+            // Nothing to record
+        }
+
+        @Override
+        public void onClamped(String operation, String reason) {
+            // Nothing to record
+        }
+
+        @Override
+        public void onRejected(String operation, String reason) {
+            // Nothing to record
+        }
+    };
+
+    private final int maxPageSize;
+    private final int maxIds;
+    private final int idChunkSize;
+    private final long maxCost;
+    private final Listener listener;
+
+    public QueryCostGovernor(int maxPageSize, int maxIds, int idChunkSize, long maxCost, Listener listener) {
+        this.maxPageSize = maxPageSize;
+        this.maxIds = maxIds;
+        this.idChunkSize = idChunkSize;
+        this.maxCost = maxCost;
+        this.listener = listener;
+    }
+
+    public static QueryCostGovernor defaults() {
+        return new QueryCostGovernor(Util.QUERY_MAX_PAGE_SIZE, Util.QUERY_MAX_IDS, Util.QUERY_ID_CHUNK_SIZE,
+                Util.QUERY_MAX_COST, NO_OP_LISTENER);
+    }
+
+    /**
+     * Checks an offset page and returns the page size to read, which is never above the maximum page size.
+     * When the page is restricted to a list of IDs, no more rows than that list can be read.
+     */
+    public int governPage(String operation, int page, int size, int idCount, int filterCount, String sort) {
+        return governPage(operation, page, size, idCount, filterCount, sort, 0);
+    }
+
+    /**
+     * Checks an offset page that also aggregates over its candidate rows. {@code aggregatedRows} is the number of rows
+     * those aggregates read; each of them is checked against every filter like a row of the page.
+     */
+    public int governPage(String operation, int page, int size, int idCount, int filterCount, String sort,
+                          long aggregatedRows) {
+        governIds(operation, idCount);
+
+        int pageSize = size;
+        if (pageSize > maxPageSize) {
+            listener.onClamped(operation, PAGE_SIZE_REASON);
+            pageSize = maxPageSize;
+        }
+
+        long rows = ((long) page + 1) * pageSize;
+        if (idCount > 0) {
+            rows = Math.min(rows, idCount);
+        }
+
+        // An index on the sort field still has to be checked against every filter; only the primary key is free
+        long perRow = 1L + filterCount + (ID_SORT.equals(sort) ? 0 : 1);
+        long cost = rows * perRow + aggregatedRows * (1L + filterCount) + idCount;
+
+        listener.onEstimated(operation, cost);
+
+        if (cost > maxCost) {
+            listener.onRejected(operation, COST_REASON);
+            throw new QueryCostExceededException(Util.QUERY_COST_EXCEEDED);
+        }
+
+        return pageSize;
+    }
+
+    /**
+     * Checks a cursor page and returns the page size to read. A cursor seeks straight to its position, so only the
+     * page itself is read whatever its depth.
+     */
+    public int governCursor(String operation, int size) {
+        return governPage(operation, 0, size, 0, 0, ID_SORT);
+    }
+
+    /**
+     * Splits a multi-get into ID lists short enough for the database to plan each {@code IN} with index dives.
+     * Repeated IDs are read once, and a missing list reads nothing.
+     */
+    public List<List<Long>> chunks(String operation, List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> distinctIds = ids.stream().distinct().toList();
+
+        governIds(operation, distinctIds.size());
+        listener.onEstimated(operation, distinctIds.size());
+
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += idChunkSize) {
+            chunks.add(distinctIds.subList(from, Math.min(from + idChunkSize, distinctIds.size())));
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Rejects ID lists, such as the categories or brands of a filter, that are too long for one query.
+     */
+    public void governIds(String operation, int idCount) {
+        if (idCount > maxIds) {
+            listener.onRejected(operation, ID_COUNT_REASON);
+            throw new QueryCostExceededException(Util.QUERY_TOO_MANY_IDS + maxIds);
+        }
+    }
+}
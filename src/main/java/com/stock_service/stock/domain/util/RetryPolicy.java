@@ -0,0 +1,98 @@
+package com.stock_service.stock.domain.util;
+
+import com.stock_service.stock.domain.exception.ConcurrentUpdateException;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Bounded retry for optimistic writes. An attempt returns an empty result when its version check lost the race;
+ * the next attempt waits a random delay between zero and an exponentially growing cap (full jitter), so
+ * writers that collided once do not collide again in lockstep.
+ */
+public class RetryPolicy {
+
+    /**
+     * Observes conflicts so the infrastructure can publish a conflict rate without the domain knowing about metrics.
+     */
+    public interface Listener {
+        void onAttempt(String operation);
+
+        void onConflict(String operation, int attempt);
+
+        void onExhausted(String operation);
+    }
+
+    private static final Listener NO_OP_LISTENER = new Listener() {
+        @Override
+        public void onAttempt(String operation) {
+            // Nothing to record
+        }
+
+        @Override
+        public void onConflict(String operation, int attempt) {
+            // Nothing to record
+        }
+
+        @Override
+        public void onExhausted(String operation) {
+            // Nothing to record
+        }
+    };
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final Listener listener;
+
+    public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis, Listener listener) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.listener = listener;
+    }
+
+    public static RetryPolicy defaults() {
+        return new RetryPolicy(Util.OPTIMISTIC_RETRY_MAX_ATTEMPTS, Util.OPTIMISTIC_RETRY_BASE_DELAY_MILLIS,
+                Util.OPTIMISTIC_RETRY_MAX_DELAY_MILLIS, NO_OP_LISTENER);
+    }
+
+    public <T> T execute(String operation, Supplier<Optional<T>> attempt) {
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            listener.onAttempt(operation);
+
+            Optional<T> result = attempt.get();
+            if (result.isPresent()) {
+                return result.get();
+            }
+
+            listener.onConflict(operation, attemptNumber);
+
+            if (attemptNumber >= maxAttempts) {
+                listener.onExhausted(operation);
+                throw new ConcurrentUpdateException(Util.ARTICLE_CONCURRENT_UPDATE);
+            }
+
+            pause(delayMillis(attemptNumber));
+        }
+    }
+
+    long delayMillis(int attemptNumber) {
+        long cap = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attemptNumber - 1, 30));
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private void pause(long delayMillis) {
+        if (delayMillis == 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateException(Util.ARTICLE_CONCURRENT_UPDATE);
+        }
+    }
+}
@@ -27,6 +27,24 @@ public class Util {
     public static final String TOKEN_PREFIX = "Bearer ";
     public static final String ARTICLE_NOT_FOUND = "The article ID was not found.";
     public static final String INSUFFICIENT_STOCK = "Insufficient stock.";
+    public static final String ARTICLE_ID_REQUIRED = "The article ID is required.";
+    public static final String ARTICLE_ITEMS_REQUIRED = "At least one article must be provided.";
+    public static final String INVALID_CURSOR = "The cursor is invalid or does not match the requested sort.";
+    public static final String INVALID_PAGE_SIZE = "The page size must be greater than zero.";
+    public static final String ARTICLE_CONCURRENT_UPDATE = "The article was modified concurrently, please try again.";
+    public static final String HOT_ARTICLE_LEASED_ELSEWHERE = "The article stock is held by another instance, please try again.";
+    public static final String RESERVATION_NOT_FOUND = "The reservation was not found or has expired.";
+    public static final String RESERVATION_QUANTITY_MIN = "The reserved quantity must be at least 1.";
+    public static final String RESERVATION_TTL_RANGE = "The reservation time to live must be between 1 and 3600 seconds.";
+    public static final String ARTICLE_IMPORT_BRAND_NOT_FOUND = "The brand ID was not found.";
+    public static final String ARTICLE_IMPORT_CATEGORY_NOT_FOUND = "At least one category ID was not found.";
+    public static final String ARTICLE_IMPORT_MALFORMED_RECORD = "The record could not be read: ";
+    public static final String INVALID_SEARCH_PAGE = "The search page size must be between 1 and 100 and the page cannot go past the first 10000 results.";
+    public static final String ARTICLE_FILTER_PRICE_MIN = "The price filter cannot be negative.";
+    public static final String INVALID_SORT_FIELD = "The sort field is not supported. Sort by one of: ";
+    public static final String ARTICLE_FILTER_PRICE_RANGE = "The minimum price cannot be greater than the maximum price.";
+    public static final String QUERY_TOO_MANY_IDS = "Too many IDs in one request. The maximum is ";
+    public static final String QUERY_COST_EXCEEDED = "The request would read too many rows. Ask for an earlier page, use the cursor endpoint or narrow the filters.";
 
     public static final int ARTICLE_CATEGORIES_MAX_VALUE = 3;
     public static final int ARTICLE_CATEGORIES_MIN_VALUE = 1;
@@ -37,6 +55,21 @@ public class Util {
     public static final int NAME_MIN_VALUE = 1;
     public static final int NAME_MAX_VALUE = 50;
     public static final int TOKEN_PREFIX_LENGTH = 7;
+    public static final int OPTIMISTIC_RETRY_MAX_ATTEMPTS = 5;
+    public static final long OPTIMISTIC_RETRY_BASE_DELAY_MILLIS = 5;
+    public static final long OPTIMISTIC_RETRY_MAX_DELAY_MILLIS = 100;
+    public static final int RESERVATION_QUANTITY_MIN_VALUE = 1;
+    public static final long RESERVATION_DEFAULT_TTL_SECONDS = 900;
+    public static final long RESERVATION_MIN_TTL_SECONDS = 1;
+    public static final long RESERVATION_MAX_TTL_SECONDS = 3600;
+    public static final int ARTICLE_IMPORT_CHUNK_SIZE = 500;
+    public static final int ARTICLE_IMPORT_MAX_REPORTED_ERRORS = 100;
+    public static final int ARTICLE_SEARCH_MAX_PAGE_SIZE = 100;
+    public static final int ARTICLE_SEARCH_MAX_RESULTS = 10_000;
+    public static final int QUERY_MAX_PAGE_SIZE = 100;
+    public static final int QUERY_MAX_IDS = 1000;
+    public static final int QUERY_ID_CHUNK_SIZE = 200;
+    public static final long QUERY_MAX_COST = 100_000;
 
 
     // Private constructor to prevent instantiation
@@ -3,24 +3,63 @@ package com.stock_service.stock.infrastructure.configuration;
 import com.stock_service.stock.domain.api.IArticleModelServicePort;
 import com.stock_service.stock.domain.api.IBrandModelServicePort;
 import com.stock_service.stock.domain.api.ICategoryModelServicePort;
+import com.stock_service.stock.domain.api.IReservationModelServicePort;
+import com.stock_service.stock.domain.spi.IArticleExportPersistencePort;
 import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import com.stock_service.stock.domain.spi.IArticleSearchPort;
 import com.stock_service.stock.domain.spi.IBrandModelPersistencePort;
 import com.stock_service.stock.domain.spi.ICategoryModelPersistencePort;
+import com.stock_service.stock.domain.spi.IHotStockPort;
+import com.stock_service.stock.domain.spi.IReservationModelPersistencePort;
 import com.stock_service.stock.domain.usecase.ArticleModelUseCase;
 import com.stock_service.stock.domain.usecase.BrandModelUseCase;
 import com.stock_service.stock.domain.usecase.CategoryModelUseCase;
+import com.stock_service.stock.domain.usecase.ReservationModelUseCase;
+import com.stock_service.stock.domain.util.QueryCostGovernor;
+import com.stock_service.stock.domain.util.RetryPolicy;
+import com.stock_service.stock.domain.util.Util;
+import com.stock_service.stock.infrastructure.metrics.QueryCostMetricsListener;
+import com.stock_service.stock.infrastructure.metrics.RetryMetricsListener;
+import com.stock_service.stock.infrastructure.metrics.TimedPortProxy;
+import com.stock_service.stock.infrastructure.persistence.cache.ArticleCacheAdapter;
+import com.stock_service.stock.infrastructure.persistence.cache.PaginationCountCache;
+import com.stock_service.stock.infrastructure.persistence.hotstock.HotStockAdapter;
+import com.stock_service.stock.infrastructure.persistence.hotstock.TransactionalHotStockAdapter;
+import com.stock_service.stock.infrastructure.persistence.jpa.adapter.ArticleExportJdbcAdapter;
 import com.stock_service.stock.infrastructure.persistence.jpa.adapter.ArticleJpaAdapter;
 import com.stock_service.stock.infrastructure.persistence.jpa.adapter.BrandJpaAdapter;
 import com.stock_service.stock.infrastructure.persistence.jpa.adapter.CategoryJpaAdapter;
+import com.stock_service.stock.infrastructure.persistence.jpa.adapter.ReservationJpaAdapter;
 import com.stock_service.stock.infrastructure.persistence.jpa.mapper.IArticleEntityMapper;
 import com.stock_service.stock.infrastructure.persistence.jpa.mapper.IBrandEntityMapper;
 import com.stock_service.stock.infrastructure.persistence.jpa.mapper.ICategoryEntityMapper;
+import com.stock_service.stock.infrastructure.persistence.jpa.mapper.IReservationEntityMapper;
 import com.stock_service.stock.infrastructure.persistence.jpa.repository.IArticleRepository;
 import com.stock_service.stock.infrastructure.persistence.jpa.repository.IBrandRepository;
 import com.stock_service.stock.infrastructure.persistence.jpa.repository.ICategoryRepository;
+import com.stock_service.stock.infrastructure.persistence.jpa.repository.IReservationRepository;
+import com.stock_service.stock.infrastructure.persistence.search.ArticleSearchChangeLog;
+import com.stock_service.stock.infrastructure.persistence.search.ArticleSearchIndex;
+import com.stock_service.stock.infrastructure.persistence.search.ArticleSearchIndexer;
+import com.stock_service.stock.infrastructure.persistence.search.ArticleSearchSyncAdapter;
+import com.stock_service.stock.infrastructure.scheduling.ReservationSweeper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
 
 @Configuration
 @RequiredArgsConstructor
@@ -32,35 +71,218 @@ public class BeanConfiguration {
     private final IBrandEntityMapper brandEntityMapper;
     private final IArticleRepository articleRepository;
     private final IArticleEntityMapper articleEntityMapper;
+    private final IReservationRepository reservationRepository;
+    private final IReservationEntityMapper reservationEntityMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${article.cache.enabled:true}")
+    private boolean articleCacheEnabled;
+
+    @Value("${article.cache.maximum-size:10000}")
+    private long articleCacheMaximumSize;
+
+    @Value("${article.cache.expire-after-write-seconds:300}")
+    private long articleCacheExpireAfterWriteSeconds;
+
+    @Value("${pagination.count-cache.maximum-size:1000}")
+    private long countCacheMaximumSize;
+
+    @Value("${pagination.count-cache.expire-after-write-seconds:30}")
+    private long countCacheExpireAfterWriteSeconds;
+
+    @Value("${article.optimistic-retry.max-attempts:" + Util.OPTIMISTIC_RETRY_MAX_ATTEMPTS + "}")
+    private int optimisticRetryMaxAttempts;
+
+    @Value("${article.optimistic-retry.base-delay-millis:" + Util.OPTIMISTIC_RETRY_BASE_DELAY_MILLIS + "}")
+    private long optimisticRetryBaseDelayMillis;
+
+    @Value("${article.optimistic-retry.max-delay-millis:" + Util.OPTIMISTIC_RETRY_MAX_DELAY_MILLIS + "}")
+    private long optimisticRetryMaxDelayMillis;
+
+    @Value("${query.governor.max-page-size:" + Util.QUERY_MAX_PAGE_SIZE + "}")
+    private int queryMaxPageSize;
+
+    @Value("${query.governor.max-ids:" + Util.QUERY_MAX_IDS + "}")
+    private int queryMaxIds;
+
+    @Value("${query.governor.id-chunk-size:" + Util.QUERY_ID_CHUNK_SIZE + "}")
+    private int queryIdChunkSize;
+
+    @Value("${query.governor.max-cost:" + Util.QUERY_MAX_COST + "}")
+    private long queryMaxCost;
+
+    @Value("${article.export.fetch-size:" + Integer.MIN_VALUE + "}")
+    private int articleExportFetchSize;
+
+    @Value("${article.search.index-dir:search-index}")
+    private String searchIndexDir;
+
+    @Value("${article.search.refresh-interval-millis:500}")
+    private long searchRefreshIntervalMillis;
+
+    @Value("${article.search.rebuild-interval-minutes:60}")
+    private long searchRebuildIntervalMinutes;
+
+    @Value("${reservation.sweeper.batch-size:500}")
+    private int reservationSweeperBatchSize;
+
+    @Value("${reservation.sweeper.interval-millis:1000}")
+    private long reservationSweeperIntervalMillis;
+
+    @Value("${article.hot-stock.article-ids:}")
+    private Set<Long> hotStockArticleIds;
+
+    @Value("${article.hot-stock.stripes:8}")
+    private int hotStockStripes;
+
+    @Value("${article.hot-stock.flush-interval-millis:200}")
+    private long hotStockFlushIntervalMillis;
+
+    @Value("${article.hot-stock.lease-ttl-seconds:30}")
+    private long hotStockLeaseTtlSeconds;
+
+    @Value("${article.hot-stock.instance-id:}")
+    private String hotStockInstanceId;
+
+    @Value("${article.hot-stock.journal-dir:stock-journal}")
+    private String hotStockJournalDir;
+
+    @Value("${article.hot-stock.journal-fsync:true}")
+    private boolean hotStockJournalFsync;
 
     @Bean
     public ICategoryModelPersistencePort categoryModelPersistencePort(){
-        return new CategoryJpaAdapter(categoryRepository, categoryEntityMapper);
+        CategoryJpaAdapter categoryJpaAdapter = new CategoryJpaAdapter(categoryRepository, categoryEntityMapper,
+                countCache("pagination.count.category"));
+
+        return TimedPortProxy.instrument(ICategoryModelPersistencePort.class, categoryJpaAdapter, meterRegistry);
+    }
+
+    @Bean
+    public IArticleModelPersistencePort articleModelPersistencePort(ArticleSearchChangeLog articleSearchChangeLog) {
+        IArticleModelPersistencePort articlePersistence = new ArticleJpaAdapter(articleRepository, articleEntityMapper,
+                jdbcTemplate, countCache("pagination.count.article"));
+
+        if (articleCacheEnabled) {
+            ArticleCacheAdapter articleCacheAdapter = new ArticleCacheAdapter(articlePersistence,
+                    articleCacheMaximumSize, Duration.ofSeconds(articleCacheExpireAfterWriteSeconds));
+            articleCacheAdapter.bindTo(meterRegistry);
+            articlePersistence = articleCacheAdapter;
+        }
+
+        ArticleSearchSyncAdapter articleSearchSyncAdapter =
+                new ArticleSearchSyncAdapter(articlePersistence, articleSearchChangeLog);
+
+        // Timed outside the cache so the timer shows what callers wait for, hits included
+        return TimedPortProxy.instrument(IArticleModelPersistencePort.class, articleSearchSyncAdapter, meterRegistry);
+    }
+
+    @Bean
+    public ArticleSearchChangeLog articleSearchChangeLog() {
+        return new ArticleSearchChangeLog();
+    }
+
+    // Not injectable by type, so the timed IArticleSearchPort below is the only search port callers see
+    @Bean(destroyMethod = "close", autowireCandidate = false)
+    public ArticleSearchIndex articleSearchIndex() throws IOException {
+        return new ArticleSearchIndex(FSDirectory.open(Path.of(searchIndexDir)));
+    }
+
+    @Bean
+    public IArticleSearchPort articleSearchPort() throws IOException {
+        return TimedPortProxy.instrument(IArticleSearchPort.class, articleSearchIndex(), meterRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ArticleSearchIndexer articleSearchIndexer(ArticleSearchChangeLog articleSearchChangeLog,
+                                                     IArticleModelPersistencePort articleModelPersistencePort)
+            throws IOException {
+        return new ArticleSearchIndexer(articleSearchIndex(), articleSearchChangeLog, articleModelPersistencePort,
+                articleExportPersistencePort(), Duration.ofMillis(searchRefreshIntervalMillis),
+                Duration.ofMinutes(searchRebuildIntervalMinutes));
+    }
+
+    @Bean
+    public IArticleExportPersistencePort articleExportPersistencePort() {
+        ArticleExportJdbcAdapter articleExportJdbcAdapter = new ArticleExportJdbcAdapter(jdbcTemplate, articleExportFetchSize);
+
+        return TimedPortProxy.instrument(IArticleExportPersistencePort.class, articleExportJdbcAdapter, meterRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "article.hot-stock.enabled", havingValue = "true")
+    public HotStockAdapter hotStockAdapter(PlatformTransactionManager transactionManager) {
+        return new HotStockAdapter(hotStockArticleIds, hotStockStripes, Duration.ofMillis(hotStockFlushIntervalMillis),
+                Duration.ofSeconds(hotStockLeaseTtlSeconds), hotStockInstanceId, Path.of(hotStockJournalDir),
+                hotStockJournalFsync, jdbcTemplate, new TransactionTemplate(transactionManager), meterRegistry);
     }
 
     @Bean
-    public IArticleModelPersistencePort articleModelPersistencePort() {
-        return new ArticleJpaAdapter(articleRepository, articleEntityMapper);
+    public IArticleModelServicePort iArticleServicePort(IArticleModelPersistencePort articleModelPersistencePort,
+                                                        ObjectProvider<HotStockAdapter> hotStockAdapter) {
+        RetryPolicy retryPolicy = new RetryPolicy(optimisticRetryMaxAttempts, optimisticRetryBaseDelayMillis,
+                optimisticRetryMaxDelayMillis, new RetryMetricsListener(meterRegistry));
+
+        HotStockAdapter hotStock = hotStockAdapter.getIfAvailable();
+        IHotStockPort hotStockPort = hotStock == null
+                ? null
+                : TimedPortProxy.instrument(IHotStockPort.class, new TransactionalHotStockAdapter(hotStock), meterRegistry);
+
+        return new ArticleModelUseCase(articleModelPersistencePort, retryPolicy, hotStockPort);
     }
 
     @Bean
-    public IArticleModelServicePort iArticleServicePort(IArticleModelPersistencePort articleModelPersistencePort) {
-        return new ArticleModelUseCase(articleModelPersistencePort);
+    public QueryCostGovernor queryCostGovernor() {
+        return new QueryCostGovernor(queryMaxPageSize, queryMaxIds, queryIdChunkSize, queryMaxCost,
+                new QueryCostMetricsListener(meterRegistry));
     }
 
     @Bean
-    public ICategoryModelServicePort categoryModelServicePort() {
+    public ICategoryModelServicePort categoryModelServicePort(IArticleModelServicePort iArticleServicePort) {
         // Aquí inyectamos correctamente IArticleModelServicePort
-        return new CategoryModelUseCase(categoryModelPersistencePort(), iArticleServicePort(articleModelPersistencePort()));
+        return new CategoryModelUseCase(categoryModelPersistencePort(), iArticleServicePort);
+    }
+
+    @Bean
+    public IReservationModelPersistencePort reservationModelPersistencePort() {
+        ReservationJpaAdapter reservationJpaAdapter = new ReservationJpaAdapter(reservationRepository,
+                reservationEntityMapper, jdbcTemplate);
+
+        return TimedPortProxy.instrument(IReservationModelPersistencePort.class, reservationJpaAdapter, meterRegistry);
+    }
+
+    @Bean
+    public IReservationModelServicePort reservationModelServicePort(IArticleModelServicePort iArticleServicePort) {
+        return new ReservationModelUseCase(reservationModelPersistencePort(), iArticleServicePort, Clock.systemUTC());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "reservation.sweeper.enabled", havingValue = "true", matchIfMissing = true)
+    public ReservationSweeper reservationSweeper(IReservationModelServicePort reservationModelServicePort,
+                                                 PlatformTransactionManager transactionManager) {
+        return new ReservationSweeper(reservationModelServicePort, new TransactionTemplate(transactionManager),
+                reservationSweeperBatchSize, Duration.ofMillis(reservationSweeperIntervalMillis));
     }
 
     @Bean
     public IBrandModelPersistencePort brandModelPersistencePort(){
-        return new BrandJpaAdapter(brandRepository, brandEntityMapper);
+        BrandJpaAdapter brandJpaAdapter = new BrandJpaAdapter(brandRepository, brandEntityMapper,
+                countCache("pagination.count.brand"));
+
+        return TimedPortProxy.instrument(IBrandModelPersistencePort.class, brandJpaAdapter, meterRegistry);
     }
 
     @Bean
     public IBrandModelServicePort brandModelServicePort(){
         return new BrandModelUseCase(brandModelPersistencePort());
     }
+
+    private PaginationCountCache countCache(String name) {
+        PaginationCountCache countCache = new PaginationCountCache(name,
+                countCacheMaximumSize, Duration.ofSeconds(countCacheExpireAfterWriteSeconds));
+        countCache.bindTo(meterRegistry);
+
+        return countCache;
+    }
 }
\ No newline at end of file
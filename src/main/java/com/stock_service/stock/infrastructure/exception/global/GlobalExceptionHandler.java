@@ -1,8 +1,14 @@
 package com.stock_service.stock.infrastructure.exception.global;
 
+import com.stock_service.stock.domain.exception.ConcurrentUpdateException;
+import com.stock_service.stock.domain.exception.InsufficientStockBatchException;
 import com.stock_service.stock.domain.exception.InsufficientStockException;
+import com.stock_service.stock.domain.exception.InvalidPaginationException;
 import com.stock_service.stock.domain.exception.NameAlreadyExistsException;
 import com.stock_service.stock.domain.exception.NotFoundException;
+import com.stock_service.stock.domain.exception.QueryCostExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -15,23 +21,59 @@ import java.util.HashMap;
 import java.util.Map;
 
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    public static final String EXCEPTIONS_METRIC_NAME = "stock.exceptions";
+
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(InsufficientStockException.class)
     public ResponseEntity<String> insufficientStockException(InsufficientStockException ex) {
+        countException(ex);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
 
+    @ExceptionHandler(InsufficientStockBatchException.class)
+    public ResponseEntity<Map<String, Object>> insufficientStockBatchException(InsufficientStockBatchException ex) {
+        countException(ex);
+        Map<String, Object> body = new HashMap<>();
+        body.put("message", ex.getMessage());
+        body.put("failedItems", ex.getFailedItems());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     @ExceptionHandler(NameAlreadyExistsException.class)
     public ResponseEntity<String> nameAlreadyExistsException(NameAlreadyExistsException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidPaginationException.class)
+    public ResponseEntity<String> invalidPaginationException(InvalidPaginationException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(QueryCostExceededException.class)
+    public ResponseEntity<String> queryCostExceededException(QueryCostExceededException ex) {
+        countException(ex);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<String> notFoundException(NotFoundException ex) {
+        countException(ex);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
     }
 
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<String> concurrentUpdateException(ConcurrentUpdateException ex) {
+        countException(ex);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -45,4 +87,8 @@ public class GlobalExceptionHandler {
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(errors);
     }
+
+    private void countException(RuntimeException ex) {
+        meterRegistry.counter(EXCEPTIONS_METRIC_NAME, "exception", ex.getClass().getSimpleName()).increment();
+    }
 }
@@ -0,0 +1,112 @@
+package com.stock_service.stock.infrastructure.http.controller;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.stock_service.stock.application.dto.articledto.ArticleRequest;
+import org.springframework.http.MediaType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+/**
+ * Reads the records of an import body one at a time, so the file is never held in memory. CSV needs a header row
+ * naming the {@link ArticleRequest} fields and lists the category IDs of a row as {@code 3|7|12}; NDJSON holds one
+ * request per line. A record that does not bind is thrown from {@link #next()} and reading resumes at the following
+ * record. A syntax error is thrown the same way but ends the stream, since the reader cannot tell where the next
+ * record starts.
+ */
+class ArticleRequestReader implements Iterator<ArticleRequest>, Closeable {
+
+    static final String CSV_VALUE = "text/csv";
+    static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private static final MediaType CSV = MediaType.parseMediaType(CSV_VALUE);
+    private static final String CSV_ARRAY_ELEMENT_SEPARATOR = "|";
+    private static final String EMPTY_RECORD = "the record is empty";
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final MappingIterator<ArticleRequest> records;
+    private IllegalArgumentException pendingError;
+    private boolean ended;
+
+    private ArticleRequestReader(MappingIterator<ArticleRequest> records) {
+        this.records = records;
+    }
+
+    static ArticleRequestReader open(MediaType contentType, InputStream body, ObjectMapper objectMapper) throws IOException {
+        if (CSV.isCompatibleWith(contentType)) {
+            CsvSchema schema = CsvSchema.emptySchema()
+                    .withHeader()
+                    .withArrayElementSeparator(CSV_ARRAY_ELEMENT_SEPARATOR);
+
+            return new ArticleRequestReader(CSV_MAPPER.readerFor(ArticleRequest.class).with(schema).readValues(body));
+        }
+
+        return new ArticleRequestReader(objectMapper.readerFor(ArticleRequest.class).readValues(body));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pendingError != null) {
+            return true;
+        }
+        if (ended) {
+            return false;
+        }
+
+        try {
+            return records.hasNextValue();
+        } catch (JsonProcessingException e) {
+            ended = true;
+            pendingError = new IllegalArgumentException(e.getOriginalMessage());
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ArticleRequest next() {
+        if (pendingError != null) {
+            IllegalArgumentException error = pendingError;
+            pendingError = null;
+            throw error;
+        }
+
+        try {
+            ArticleRequest request = records.nextValue();
+            if (request == null) {
+                throw new IllegalArgumentException(EMPTY_RECORD);
+            }
+
+            return request;
+        } catch (JsonParseException e) {
+            ended = true;
+            throw new IllegalArgumentException(e.getOriginalMessage());
+        } catch (JsonProcessingException e) {
+            // Binding errors leave the parser at the end of the bad record, so the next one can still be read
+            throw new IllegalArgumentException(e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        records.close();
+    }
+}
@@ -1,10 +1,20 @@
 package com.stock_service.stock.infrastructure.http.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.stock_service.stock.application.dto.articledto.ArticleFilterRequest;
+import com.stock_service.stock.application.dto.articledto.ArticleImportResponse;
 import com.stock_service.stock.application.dto.articledto.ArticleQuantityRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleResponse;
 import com.stock_service.stock.application.dto.articledto.ArticleCartRequest;
+import com.stock_service.stock.application.dto.articledto.ArticleStockBatchRequest;
 import com.stock_service.stock.application.handler.articlehandler.IArticleHandler;
+import com.stock_service.stock.application.handler.articlehandler.IArticleImportHandler;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 import com.stock_service.stock.domain.util.Util;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,24 +22,41 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/article")
 @RequiredArgsConstructor
 public class ArticleRestController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType(ArticleRequestReader.NDJSON_VALUE);
+    private static final int EXPORT_FLUSH_EVERY = 1000;
+    // Only the export gets this long: other async requests keep the default timeout
+    private static final long EXPORT_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
     private final IArticleHandler articleHandler;
+    private final IArticleImportHandler articleImportHandler;
+    private final ObjectMapper objectMapper;
 
     @Operation(
             summary = "Create a new article",
@@ -53,10 +80,37 @@ public class ArticleRestController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedArticle);
     }
 
+    @Operation(
+            summary = "Import articles in bulk",
+            description = "This endpoint reads articles from a CSV body with a header row (category IDs written as 3|7) " +
+                    "or from NDJSON, validates each record like the create endpoint and saves the valid ones in batches. " +
+                    "Records that fail are skipped and reported with their position in the file.",
+            tags = {"Article"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, possibly with rejected records",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ArticleImportResponse.class))),
+            @ApiResponse(responseCode = "415", description = "The body is neither CSV nor NDJSON.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error.",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize(Util.ROLE_ADMIN)
+    @PostMapping(value = "/import", consumes = {ArticleRequestReader.CSV_VALUE, ArticleRequestReader.NDJSON_VALUE})
+    public ResponseEntity<ArticleImportResponse> importArticles(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException {
+        try (ArticleRequestReader reader = ArticleRequestReader.open(MediaType.parseMediaType(contentType), body, objectMapper)) {
+            return ResponseEntity.ok(articleImportHandler.importArticles(reader));
+        }
+    }
+
     @Operation(
             summary = "Get paginated articles",
             description = "This endpoint allows obtaining a paginated list of articles," +
-                    " with sorting and pagination options.",
+                    " with sorting and pagination options. Sort by name, price or id. " +
+                    "Use count=CACHED to reuse a recent total or count=NONE to skip it and rely on hasNext. " +
+                    "Use facets=true to also get how many articles each brand and category has.",
             tags = {"Article"}
     )
     @ApiResponses(value = {
@@ -74,11 +128,70 @@ public class ArticleRestController {
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "10") @Min(1) int size,
             @RequestParam(defaultValue = "name") @NotBlank @Size(min = 1) String sort,
-            @RequestParam(defaultValue = "true") boolean ascending) {
-        Paginated<ArticleResponse> paginatedResult = articleHandler.getArticlesPaginated(page, size, sort, ascending);
+            @RequestParam(defaultValue = "true") boolean ascending,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @RequestParam(defaultValue = "false") boolean facets) {
+        Paginated<ArticleResponse> paginatedResult = articleHandler.getArticlesPaginated(page, size, sort, ascending, count, facets);
         return new ResponseEntity<>(paginatedResult, HttpStatus.OK);
     }
 
+    @Operation(
+            summary = "Get articles by cursor",
+            description = "This endpoint returns articles after the given cursor without counting the whole table. " +
+                    "Pass the nextCursor of the previous response to get the following page.",
+            tags = {"Article"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Articles retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPaginated.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request. Invalid cursor or data validation error.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error.",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize(Util.ROLE_ADMIN + " or " + Util.ROLE_CLIENT + " or " + Util.ROLE_AUX_BODEGA)
+    @GetMapping("/listar/cursor")
+    public ResponseEntity<CursorPaginated<ArticleResponse>> getArticlesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) int size,
+            @RequestParam(defaultValue = "name") @NotBlank @Size(min = 1) String sort,
+            @RequestParam(defaultValue = "true") boolean ascending) {
+
+        CursorPaginated<ArticleResponse> cursorResult = articleHandler.getArticlesByCursor(cursor, size, sort, ascending);
+
+        return new ResponseEntity<>(cursorResult, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Search articles",
+            description = "This endpoint finds articles whose name, description, brand or categories contain every word " +
+                    "of q, exactly, as a prefix or with a typo, best match first. Use inStock=true to leave out articles " +
+                    "without stock. At most 100 articles per page and the first 10000 results can be paged through.",
+            tags = {"Article"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Articles retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Paginated.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request. Page out of range or data validation error.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error.",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize(Util.ROLE_ADMIN + " or " + Util.ROLE_CLIENT + " or " + Util.ROLE_AUX_BODEGA)
+    @GetMapping("/search")
+    public ResponseEntity<Paginated<ArticleResponse>> searchArticles(
+            @RequestParam @NotBlank String q,
+            @RequestParam(defaultValue = "false") boolean inStock,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) int size) {
+
+        Paginated<ArticleResponse> searchResult = articleHandler.searchArticles(q, inStock, page, size);
+
+        return new ResponseEntity<>(searchResult, HttpStatus.OK);
+    }
+
     @Operation(
             summary = "Get article by ID",
             description = "This endpoint allows obtaining an article by its ID.",
@@ -144,6 +257,27 @@ public class ArticleRestController {
         return ResponseEntity.ok(isAvailable);
     }
 
+    @Operation(
+            summary = "Check stock availability of several articles",
+            description = "This endpoint allows checking in a single call if there is sufficient stock " +
+                    "of several articles. Unknown articles are reported as unavailable.",
+            tags = {"Article"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stock checked successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Invalid request. Data validation error.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize(Util.ROLE_CLIENT)
+    @PostMapping("/check-quantity")
+    public ResponseEntity<Map<Long, Boolean>> areStocksSufficient(@RequestBody @Valid ArticleStockBatchRequest request) {
+        Map<Long, Boolean> availability = articleHandler.checkAvailabilityArticles(request);
+        return ResponseEntity.ok(availability);
+    }
+
     @Operation(
             summary = "Reduce article quantity",
             description = "This endpoint allows reducing the quantity of an article in stock.",
@@ -164,6 +298,26 @@ public class ArticleRestController {
         articleHandler.reduceStock(articleId, request);
     }
 
+    @Operation(
+            summary = "Reduce quantity of several articles",
+            description = "This endpoint allows reducing the stock of several articles at once. " +
+                    "Either every line is applied or none is.",
+            tags = {"Article"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Article quantities reduced successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Insufficient stock for one or more articles",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize(Util.ROLE_CLIENT)
+    @PatchMapping("/subtract-stock")
+    public void reduceArticleQuantities(@RequestBody @Valid ArticleStockBatchRequest request) {
+        articleHandler.reduceStockBatch(request);
+    }
+
     @Operation(
             summary = "Get article price by ID",
             description = "This endpoint allows obtaining the price of an article by its ID.",
@@ -185,10 +339,35 @@ public class ArticleRestController {
         return ResponseEntity.ok(price);
     }
 
+    @Operation(
+            summary = "Get prices of several articles",
+            description = "This endpoint allows obtaining the prices of several articles by their IDs " +
+                    "in a single call. Unknown IDs are left out of the result.",
+            tags = {"Article"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Article prices retrieved successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Invalid request. Data validation error.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize(Util.ROLE_CLIENT)
+    @PostMapping("/prices")
+    public ResponseEntity<Map<Long, Double>> getArticlePricesByIds(@RequestBody @Valid ArticleCartRequest articleCartRequest) {
+        Map<Long, Double> prices = articleHandler.getArticlePricesByIds(articleCartRequest.getArticleIds());
+        return ResponseEntity.ok(prices);
+    }
+
     @Operation(
             summary = "Get all paginated articles by IDs",
             description = "This endpoint allows obtaining a paginated list of articles by their IDs, " +
-                    "with sorting and pagination options.",
+                    "with sorting and pagination options. Sort by name, price or id. " +
+                    "Use count=CACHED to reuse a recent total or count=NONE to skip it and rely on hasNext; " +
+                    "totals filtered by inStock are never reused, since stock changes with every sale. " +
+                    "Use facets=true to also get how many of the filtered articles each brand and category has. " +
+                    "Filter by categoryIds and brandIds (any of them), a minPrice/maxPrice range or inStock=true.",
             tags = {"Article"}
     )
     @ApiResponses(value = {
@@ -207,11 +386,12 @@ public class ArticleRestController {
             @RequestParam(defaultValue = "10") @Min(1) int size,
             @RequestParam(defaultValue = "name") @NotBlank @Size(min = 1) String sort,
             @RequestParam(defaultValue = "true") boolean ascending,
-            @RequestParam(required = false) String categoryName,
-            @RequestParam(required = false) String brandName,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @ParameterObject @Valid ArticleFilterRequest filter,
+            @RequestParam(defaultValue = "false") boolean facets,
             @RequestBody @Valid ArticleCartRequest articleCartRequest) {
         Paginated<ArticleResponse> paginatedResult = articleHandler.getAllArticlesPaginatedByIds(
-                page, size, sort, ascending, categoryName, brandName, articleCartRequest.getArticleIds());
+                page, size, sort, ascending, filter, articleCartRequest.getArticleIds(), count, facets);
         return new ResponseEntity<>(paginatedResult, HttpStatus.OK);
     }
 
@@ -235,4 +415,51 @@ public class ArticleRestController {
         List<ArticleResponse> articleResponses = articleHandler.getAllArticlesByIds(articleCartRequest.getArticleIds());
         return ResponseEntity.ok(articleResponses);
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Export the full catalog",
+            description = "This endpoint streams every article with its brand and categories as newline-delimited " +
+                    "JSON, one article per line in ID order, read in a single pass.",
+            tags = {"Article"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Catalog streamed successfully",
+                    content = @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = ArticleResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize(Util.ROLE_ADMIN)
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportArticles(HttpServletResponse response) {
+        // Flushing per value would cost a network write per article; the response is flushed every
+        // EXPORT_FLUSH_EVERY articles instead
+        ObjectWriter writer = objectMapper.writerFor(ArticleResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        // Written straight to the response: a StreamingResponseBody could only use the global async timeout
+        return new WebAsyncTask<>(EXPORT_TIMEOUT_MILLIS, () -> {
+            response.setContentType(NDJSON.toString());
+
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+                // Lines are terminated explicitly instead of Jackson's default space between root values
+                generator.setRootValueSeparator(null);
+                int[] written = {0};
+                articleHandler.exportArticles(article -> {
+                    try {
+                        writer.writeValue(generator, article);
+                        generator.writeRaw('\n');
+                        if (++written[0] % EXPORT_FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        // The client went away: stop reading rows instead of exporting into the void
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+
+            return null;
+        });
+    }
+}
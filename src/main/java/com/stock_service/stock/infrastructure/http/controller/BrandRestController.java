@@ -3,6 +3,8 @@ package com.stock_service.stock.infrastructure.http.controller;
 import com.stock_service.stock.application.dto.branddto.BrandRequest;
 import com.stock_service.stock.application.dto.branddto.BrandResponse;
 import com.stock_service.stock.application.handler.brandhandler.BrandHandler;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 import com.stock_service.stock.domain.util.Util;
 import io.swagger.v3.oas.annotations.Operation;
@@ -50,7 +52,8 @@ public class BrandRestController {
 
     @Operation(
             summary = "Get paginated brands",
-            description = "This endpoint allows obtaining a paginated list of brands, with sorting and pagination options.",
+            description = "This endpoint allows obtaining a paginated list of brands, with sorting and pagination options. Sort by name or id. " +
+                    "Use count=CACHED to reuse a recent total or count=NONE to skip it and rely on hasNext.",
             tags = {"Brand"}
     )
     @ApiResponses(value = {
@@ -68,9 +71,38 @@ public class BrandRestController {
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "10") @Min(1) int size,
             @RequestParam(defaultValue = "name") @NotBlank @Size(min = 1) String sort,
-            @RequestParam(defaultValue = "true") boolean ascending) {
+            @RequestParam(defaultValue = "true") boolean ascending,
+            @RequestParam(defaultValue = "EXACT") CountMode count) {
 
-        Paginated<BrandResponse> paginatedResult = brandHandler.getBrandsPaginated(page, size, sort, ascending);
+        Paginated<BrandResponse> paginatedResult = brandHandler.getBrandsPaginated(page, size, sort, ascending, count);
         return new ResponseEntity<>(paginatedResult, HttpStatus.OK);
     }
+
+    @Operation(
+            summary = "Get brands by cursor",
+            description = "This endpoint returns brands after the given cursor without counting the whole table. " +
+                    "Pass the nextCursor of the previous response to get the following page.",
+            tags = {"Brand"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Brands retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPaginated.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request. Invalid cursor or data validation error.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error.",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize(Util.ROLE_ADMIN + " or " + Util.ROLE_CLIENT + " or " + Util.ROLE_AUX_BODEGA)
+    @GetMapping("/listar/cursor")
+    public ResponseEntity<CursorPaginated<BrandResponse>> getBrandsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) int size,
+            @RequestParam(defaultValue = "name") @NotBlank @Size(min = 1) String sort,
+            @RequestParam(defaultValue = "true") boolean ascending) {
+
+        CursorPaginated<BrandResponse> cursorResult = brandHandler.getBrandsByCursor(cursor, size, sort, ascending);
+
+        return new ResponseEntity<>(cursorResult, HttpStatus.OK);
+    }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.stock_service.stock.infrastructure.http.controller;
 import com.stock_service.stock.application.dto.categorydto.CategoryRequest;
 import com.stock_service.stock.application.dto.categorydto.CategoryResponse;
 import com.stock_service.stock.application.handler.categoryhandler.CategoryHandler;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 import com.stock_service.stock.domain.util.Util;
 import io.swagger.v3.oas.annotations.Operation;
@@ -56,7 +58,8 @@ public class CategoryRestController {
     @Operation(
             summary = "Get paginated categories",
             description = "This endpoint allows obtaining a paginated list of categories, " +
-                    "with sorting and pagination options.",
+                    "with sorting and pagination options. Sort by name or id. " +
+                    "Use count=CACHED to reuse a recent total or count=NONE to skip it and rely on hasNext.",
             tags = {"Category"}
     )
     @ApiResponses(value = {
@@ -75,13 +78,42 @@ public class CategoryRestController {
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "10") @Min(1) int size,
             @RequestParam(defaultValue = "name") @NotBlank @Size(min = 1) String sort,
-            @RequestParam(defaultValue = "true") boolean ascending) {
+            @RequestParam(defaultValue = "true") boolean ascending,
+            @RequestParam(defaultValue = "EXACT") CountMode count) {
 
-        Paginated<CategoryResponse> paginatedResult = categoryHandler.getCategories(page, size, sort, ascending);
+        Paginated<CategoryResponse> paginatedResult = categoryHandler.getCategories(page, size, sort, ascending, count);
 
         return new ResponseEntity<>(paginatedResult, HttpStatus.OK);
     }
 
+    @Operation(
+            summary = "Get categories by cursor",
+            description = "This endpoint returns categories after the given cursor without counting the whole table. " +
+                    "Pass the nextCursor of the previous response to get the following page.",
+            tags = {"Category"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPaginated.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request. Invalid cursor or data validation error.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error.",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize(Util.ROLE_ADMIN + " or " + Util.ROLE_CLIENT + " or " + Util.ROLE_AUX_BODEGA)
+    @GetMapping("/listar/cursor")
+    public ResponseEntity<CursorPaginated<CategoryResponse>> getCategoriesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) int size,
+            @RequestParam(defaultValue = "name") @NotBlank @Size(min = 1) String sort,
+            @RequestParam(defaultValue = "true") boolean ascending) {
+
+        CursorPaginated<CategoryResponse> cursorResult = categoryHandler.getCategoriesByCursor(cursor, size, sort, ascending);
+
+        return new ResponseEntity<>(cursorResult, HttpStatus.OK);
+    }
+
     @Operation(
             summary = "Get category names by article ID",
             description = "This endpoint allows obtaining a list of category names " +
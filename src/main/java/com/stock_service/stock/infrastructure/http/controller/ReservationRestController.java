@@ -0,0 +1,93 @@
+package com.stock_service.stock.infrastructure.http.controller;
+
+import com.stock_service.stock.application.dto.reservationdto.ReservationRequest;
+import com.stock_service.stock.application.dto.reservationdto.ReservationResponse;
+import com.stock_service.stock.application.handler.reservationhandler.IReservationHandler;
+import com.stock_service.stock.domain.util.Util;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/reservation")
+@RequiredArgsConstructor
+public class ReservationRestController {
+
+    private final IReservationHandler reservationHandler;
+
+    @Operation(
+            summary = "Reserve article stock",
+            description = "This endpoint holds units of an article for a cart. The units stop counting as available " +
+                    "until the reservation is committed, released or expires after ttlSeconds (900 by default). " +
+                    "The reservation belongs to the authenticated user.",
+            tags = {"Reservation"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Stock reserved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ReservationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Insufficient stock or data validation error",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "404", description = "Article not found",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize(Util.ROLE_CLIENT)
+    @PostMapping
+    public ResponseEntity<ReservationResponse> reserveStock(@RequestBody @Valid ReservationRequest request,
+                                                            Principal principal) {
+        ReservationResponse reservation = reservationHandler.reserveStock(request, principal.getName());
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
+    }
+
+    @Operation(
+            summary = "Commit a reservation",
+            description = "This endpoint turns the reserved units into a sale. Only the user who made the " +
+                    "reservation can commit it.",
+            tags = {"Reservation"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation committed successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "404", description = "Reservation not found, expired or owned by another user",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize(Util.ROLE_CLIENT)
+    @PostMapping("/{reservationId}/commit")
+    public void commitReservation(@PathVariable Long reservationId, Principal principal) {
+        reservationHandler.commitReservation(reservationId, principal.getName());
+    }
+
+    @Operation(
+            summary = "Release a reservation",
+            description = "This endpoint gives the reserved units back to the article stock. Only the user who made " +
+                    "the reservation can release it.",
+            tags = {"Reservation"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation released successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "404", description = "Reservation not found, expired or owned by another user",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PreAuthorize(Util.ROLE_CLIENT)
+    @DeleteMapping("/{reservationId}")
+    public void releaseReservation(@PathVariable Long reservationId, Principal principal) {
+        reservationHandler.releaseReservation(reservationId, principal.getName());
+    }
+}
@@ -0,0 +1,43 @@
+package com.stock_service.stock.infrastructure.metrics;
+
+import com.stock_service.stock.domain.util.QueryCostGovernor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Publishes the estimated cost of listing and multi-get requests, and counts the ones that were clamped or
+ * rejected per operation and reason.
+ */
+public class QueryCostMetricsListener implements QueryCostGovernor.Listener {
+
+    public static final String COST_METRIC_NAME = "stock.query.cost";
+    public static final String CLAMPED_METRIC_NAME = "stock.query.clamped";
+    public static final String REJECTED_METRIC_NAME = "stock.query.rejected";
+
+    private static final String OPERATION_TAG = "operation";
+    private static final String REASON_TAG = "reason";
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryCostMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onEstimated(String operation, long cost) {
+        DistributionSummary.builder(COST_METRIC_NAME)
+                .tag(OPERATION_TAG, operation)
+                .register(meterRegistry)
+                .record(cost);
+    }
+
+    @Override
+    public void onClamped(String operation, String reason) {
+        meterRegistry.counter(CLAMPED_METRIC_NAME, OPERATION_TAG, operation, REASON_TAG, reason).increment();
+    }
+
+    @Override
+    public void onRejected(String operation, String reason) {
+        meterRegistry.counter(REJECTED_METRIC_NAME, OPERATION_TAG, operation, REASON_TAG, reason).increment();
+    }
+}
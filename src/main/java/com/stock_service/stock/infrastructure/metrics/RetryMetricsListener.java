@@ -0,0 +1,38 @@
+package com.stock_service.stock.infrastructure.metrics;
+
+import com.stock_service.stock.domain.util.RetryPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Publishes optimistic write attempts, version conflicts and exhausted retries per operation.
+ * The conflict rate is {@value #CONFLICTS_METRIC_NAME} divided by {@value #ATTEMPTS_METRIC_NAME}.
+ */
+public class RetryMetricsListener implements RetryPolicy.Listener {
+
+    public static final String ATTEMPTS_METRIC_NAME = "stock.optimistic.attempts";
+    public static final String CONFLICTS_METRIC_NAME = "stock.optimistic.conflicts";
+    public static final String EXHAUSTED_METRIC_NAME = "stock.optimistic.exhausted";
+
+    private static final String OPERATION_TAG = "operation";
+
+    private final MeterRegistry meterRegistry;
+
+    public RetryMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onAttempt(String operation) {
+        meterRegistry.counter(ATTEMPTS_METRIC_NAME, OPERATION_TAG, operation).increment();
+    }
+
+    @Override
+    public void onConflict(String operation, int attempt) {
+        meterRegistry.counter(CONFLICTS_METRIC_NAME, OPERATION_TAG, operation).increment();
+    }
+
+    @Override
+    public void onExhausted(String operation) {
+        meterRegistry.counter(EXHAUSTED_METRIC_NAME, OPERATION_TAG, operation).increment();
+    }
+}
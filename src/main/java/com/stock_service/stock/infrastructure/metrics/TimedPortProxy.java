@@ -0,0 +1,76 @@
+package com.stock_service.stock.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps a persistence port so every call is recorded in the {@value #METRIC_NAME} timer, tagged with the port,
+ * the operation (method name) and the outcome. Failed calls also carry the simple name of the exception.
+ */
+public class TimedPortProxy implements InvocationHandler {
+
+    public static final String METRIC_NAME = "stock.port.calls";
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String NO_EXCEPTION = "none";
+
+    private final Object target;
+    private final String portName;
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    private TimedPortProxy(Object target, String portName, MeterRegistry meterRegistry) {
+        this.target = target;
+        this.portName = portName;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T instrument(Class<T> port, T target, MeterRegistry meterRegistry) {
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port},
+                new TimedPortProxy(target, port.getSimpleName(), meterRegistry));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(target, args);
+        }
+
+        long startedAt = System.nanoTime();
+
+        try {
+            Object result = method.invoke(target, args);
+            successTimers.computeIfAbsent(method, key -> timer(key, OUTCOME_SUCCESS, NO_EXCEPTION))
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            String exception = cause.getClass().getSimpleName();
+
+            errorTimers.computeIfAbsent(method.getName() + '/' + exception, key -> timer(method, OUTCOME_ERROR, exception))
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw cause;
+        }
+    }
+
+    private Timer timer(Method method, String outcome, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time spent in persistence port calls")
+                .tag("port", portName)
+                .tag("operation", method.getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
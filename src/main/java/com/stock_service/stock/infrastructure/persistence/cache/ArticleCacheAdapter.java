@@ -0,0 +1,209 @@
+package com.stock_service.stock.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stock_service.stock.domain.model.ArticleFacetsModel;
+import com.stock_service.stock.domain.model.ArticleFilterModel;
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
+import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
+import com.stock_service.stock.domain.util.Paginated;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ArticleCacheAdapter implements IArticleModelPersistencePort, MeterBinder {
+
+    private static final String ARTICLE_CACHE_NAME = "article.byId";
+    private static final String PRICE_CACHE_NAME = "article.priceById";
+
+    private final IArticleModelPersistencePort delegate;
+    private final Cache<Long, ArticleModel> articleCache;
+    private final Cache<Long, Double> priceCache;
+
+    public ArticleCacheAdapter(IArticleModelPersistencePort delegate, long maximumSize, Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.articleCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.priceCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, articleCache, ARTICLE_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(registry, priceCache, PRICE_CACHE_NAME);
+    }
+
+    @Override
+    public ArticleModel saveArticle(ArticleModel articleModel) {
+        ArticleModel savedArticle = delegate.saveArticle(articleModel);
+
+        if (savedArticle != null && savedArticle.getId() != null) {
+            evictOnWrite(List.of(savedArticle.getId()), true);
+        }
+
+        return savedArticle;
+    }
+
+    // New articles are in neither cache, so there is nothing to evict
+    @Override
+    public void saveArticles(List<ArticleModel> articles) {
+        delegate.saveArticles(articles);
+    }
+
+    @Override
+    public Paginated<ArticleModel> getArticlesPaginated(int page, int size, String sort, boolean ascending, boolean categoryFirst, CountMode countMode) {
+        return delegate.getArticlesPaginated(page, size, sort, ascending, categoryFirst, countMode);
+    }
+
+    @Override
+    public CursorPaginated<ArticleModel> getArticlesByCursor(String cursor, int size, String sort, boolean ascending) {
+        return delegate.getArticlesByCursor(cursor, size, sort, ascending);
+    }
+
+    @Override
+    public boolean existByName(String name) {
+        return delegate.existByName(name);
+    }
+
+    @Override
+    public Set<String> getExistingNames(Collection<String> names) {
+        return delegate.getExistingNames(names);
+    }
+
+    @Override
+    public ArticleModel getArticleById(Long id) {
+        return copyOf(articleCache.get(id, delegate::getArticleById));
+    }
+
+    @Override
+    public int reduceArticleQuantity(Long articleId, int quantityToReduce) {
+        int updatedRows = delegate.reduceArticleQuantity(articleId, quantityToReduce);
+
+        evictOnWrite(List.of(articleId), false);
+
+        return updatedRows;
+    }
+
+    // Evicted even when the version check fails, so the retry reads the row that won instead of a cached copy
+    @Override
+    public int updateArticleQuantity(Long articleId, int quantity, Long expectedVersion) {
+        int updatedRows = delegate.updateArticleQuantity(articleId, quantity, expectedVersion);
+
+        evictOnWrite(List.of(articleId), false);
+
+        return updatedRows;
+    }
+
+    @Override
+    public int[] reduceArticleQuantities(List<ArticleStockModel> items) {
+        int[] updatedRows = delegate.reduceArticleQuantities(items);
+
+        evictOnWrite(items.stream().map(ArticleStockModel::getArticleId).toList(), false);
+
+        return updatedRows;
+    }
+
+    @Override
+    public int[] increaseArticleQuantities(List<ArticleStockModel> items) {
+        int[] updatedRows = delegate.increaseArticleQuantities(items);
+
+        evictOnWrite(items.stream().map(ArticleStockModel::getArticleId).toList(), false);
+
+        return updatedRows;
+    }
+
+    @Override
+    public Map<Long, Integer> getArticleQuantitiesByIds(Collection<Long> articleIds) {
+        return delegate.getArticleQuantitiesByIds(articleIds);
+    }
+
+    @Override
+    public Double getArticlePriceById(Long articleId) {
+        return priceCache.get(articleId, delegate::getArticlePriceById);
+    }
+
+    @Override
+    public Map<Long, Double> getArticlePricesByIds(Collection<Long> articleIds) {
+        return priceCache.getAll(articleIds, missingIds -> delegate.getArticlePricesByIds(new ArrayList<>(missingIds)));
+    }
+
+    @Override
+    public Paginated<ArticleModel> getArticlesPaginatedByFilters(
+            int page, int size, String sort, boolean ascending, ArticleFilterModel filter, CountMode countMode) {
+        return delegate.getArticlesPaginatedByFilters(page, size, sort, ascending, filter, countMode);
+    }
+
+    @Override
+    public ArticleFacetsModel getArticleFacets(ArticleFilterModel filter) {
+        return delegate.getArticleFacets(filter);
+    }
+
+    @Override
+    public long countArticles() {
+        return delegate.countArticles();
+    }
+
+    @Override
+    public List<ArticleModel> getAllArticlesByIds(List<Long> articleIds) {
+        return delegate.getAllArticlesByIds(articleIds);
+    }
+
+    // Entries are dropped right away and again once the transaction ends, so a read that
+    // races with an uncommitted write cannot leave the old value cached.
+    private void evictOnWrite(List<Long> articleIds, boolean includePrice) {
+        evict(articleIds, includePrice);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(articleIds, includePrice);
+                }
+            });
+        }
+    }
+
+    private void evict(List<Long> articleIds, boolean includePrice) {
+        articleCache.invalidateAll(articleIds);
+
+        if (includePrice) {
+            priceCache.invalidateAll(articleIds);
+        }
+    }
+
+    // Callers such as updateArticleQuantity mutate the returned model, so the cached instance is never handed out
+    private ArticleModel copyOf(ArticleModel article) {
+        if (article == null) {
+            return null;
+        }
+
+        List<CategoryModel> categories =
+                article.getCategories() == null ? null : new ArrayList<>(article.getCategories());
+
+        ArticleModel copy = new ArticleModel(article.getId(), article.getName(), article.getDescription(),
+                article.getQuantity(), article.getPrice(), article.getBrand(), categories);
+        copy.setVersion(article.getVersion());
+
+        return copy;
+    }
+}
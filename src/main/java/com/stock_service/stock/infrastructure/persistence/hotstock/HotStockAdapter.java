@@ -0,0 +1,288 @@
+package com.stock_service.stock.infrastructure.persistence.hotstock;
+
+import com.stock_service.stock.domain.exception.ConcurrentUpdateException;
+import com.stock_service.stock.domain.exception.NotFoundException;
+import com.stock_service.stock.domain.spi.IHotStockPort;
+import com.stock_service.stock.domain.util.Util;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serves the stock of hot articles from striped in-memory counters. The first call for a hot article takes its
+ * lease and loads the quantity; from then on decrements only touch memory and the local journal, and a background
+ * flush writes the net deltas to the article table in one batch per interval.
+ *
+ * <p>Only the lease holder may change a hot article's stock: other instances get a {@link ConcurrentUpdateException}
+ * until the lease expires, so hot traffic should be routed to one instance per article. The lease TTL must be well
+ * above the flush interval. Each counter keeps a local deadline three quarters of a TTL after its last successful
+ * renewal started; once it passes, the counter is dropped before another instance can take the lease over, and the
+ * article is leased and loaded again, which first writes back what this instance journaled.
+ */
+public class HotStockAdapter implements IHotStockPort {
+
+    public static final String FLUSH_METRIC_NAME = "stock.hotstock.flush";
+    public static final String LEASED_METRIC_NAME = "stock.hotstock.leased";
+
+    private static final Logger logger = LoggerFactory.getLogger(HotStockAdapter.class);
+
+    private final Set<Long> hotArticleIds;
+    private final int stripes;
+    private final Duration flushInterval;
+    private final StockJournal journal;
+    private final HotStockJdbcStore store;
+    private final Duration leaseValidity;
+    private final Clock clock;
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+    // Not a monitor: it is held across JDBC calls, which would pin the carrier of a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("hot-stock-flush").daemon().factory());
+    private final Timer flushTimer;
+
+    public HotStockAdapter(Set<Long> hotArticleIds, int stripes, Duration flushInterval, Duration leaseTtl,
+                           String instanceId, Path journalDirectory, boolean fsync, JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this(hotArticleIds, stripes, flushInterval, new StockJournal(journalDirectory, fsync),
+                new HotStockJdbcStore(jdbcTemplate, transactionTemplate,
+                        instanceId.isBlank() ? StockJournal.loadOrCreateInstanceId(journalDirectory) : instanceId,
+                        leaseTtl, Clock.systemUTC()),
+                leaseTtl, Clock.systemUTC(), meterRegistry);
+    }
+
+    HotStockAdapter(Set<Long> hotArticleIds, int stripes, Duration flushInterval, StockJournal journal,
+                    HotStockJdbcStore store, Duration leaseTtl, Clock clock, MeterRegistry meterRegistry) {
+        this.hotArticleIds = Set.copyOf(hotArticleIds);
+        this.stripes = stripes;
+        this.flushInterval = flushInterval;
+        this.journal = journal;
+        this.store = store;
+        // The rest of the TTL absorbs clock skew between instances and a renewal that is slow to reach the database
+        this.leaseValidity = leaseTtl.minus(leaseTtl.dividedBy(4));
+        this.clock = clock;
+        this.flushTimer = meterRegistry.timer(FLUSH_METRIC_NAME);
+
+        Gauge.builder(LEASED_METRIC_NAME, leases, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Applies whatever a previous run left in the journal before any counter is loaded, then starts the flusher.
+     */
+    public void start() {
+        journal.open(store.lastAppliedSegment());
+        flush();
+
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean isHot(Long articleId) {
+        return hotArticleIds.contains(articleId);
+    }
+
+    @Override
+    public boolean tryReduce(Long articleId, int quantityToReduce) {
+        StripedStockCounter counter = counter(articleId);
+
+        if (!counter.tryTake(quantityToReduce)) {
+            return false;
+        }
+
+        try {
+            journal.append(articleId, quantityToReduce);
+        } catch (UncheckedIOException e) {
+            counter.add(quantityToReduce);
+            throw e;
+        }
+        return true;
+    }
+
+    @Override
+    public void restoreStock(Long articleId, int quantity) {
+        StripedStockCounter counter = counter(articleId);
+
+        journal.append(articleId, -quantity);
+        counter.add(quantity);
+    }
+
+    @Override
+    public int getQuantity(Long articleId) {
+        return (int) counter(articleId).total();
+    }
+
+    @Override
+    public void setQuantity(Long articleId, int quantity) {
+        StripedStockCounter counter = counter(articleId);
+
+        long drained = counter.drain();
+        try {
+            journal.append(articleId, drained - quantity);
+        } catch (UncheckedIOException e) {
+            counter.add(drained);
+            throw e;
+        }
+        counter.add(quantity);
+    }
+
+    /**
+     * Writes every sealed segment to the database, then renews the leases of the loaded counters.
+     */
+    void flush() {
+        applySegments();
+        renewLeases();
+    }
+
+    /**
+     * Seals the journal and writes every sealed segment to the database.
+     */
+    void applySegments() {
+        lock.lock();
+        try {
+            flushTimer.record(() -> {
+                journal.rotate();
+
+                long lastAppliedSegment = store.lastAppliedSegment();
+                for (long segment : journal.sealedSegments()) {
+                    // A segment at or below the checkpoint was applied before a crash that kept its file
+                    if (segment > lastAppliedSegment) {
+                        store.applySegment(segment, journal.read(segment));
+                    }
+                    journal.delete(segment);
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Extends the leases of the loaded counters and drops the counters whose lease was taken over.
+     */
+    void renewLeases() {
+        lock.lock();
+        try {
+            if (leases.isEmpty()) {
+                return;
+            }
+
+            Instant renewalStarted = clock.instant();
+            List<Long> renewed = store.renewLeases(leases.keySet());
+
+            leases.keySet().retainAll(renewed);
+            leases.values().forEach(lease -> lease.extendUntil(renewalStarted.plus(leaseValidity)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        lock.lock();
+        try {
+            flusher.shutdown();
+            applySegments();
+            store.releaseLeases(leases.keySet());
+            leases.clear();
+            journal.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private StripedStockCounter counter(Long articleId) {
+        Lease lease = leases.get(articleId);
+
+        if (lease != null && lease.isValidAt(clock.instant())) {
+            return lease.counter;
+        }
+        if (lease != null && leases.remove(articleId, lease)) {
+            logger.warn("Lease of hot article {} was not renewed in time; loading it again", articleId);
+        }
+
+        return lease(articleId);
+    }
+
+    private StripedStockCounter lease(Long articleId) {
+        lock.lock();
+        try {
+            Lease lease = leases.get(articleId);
+            if (lease != null && lease.isValidAt(clock.instant())) {
+                return lease.counter;
+            }
+            leases.remove(articleId);
+
+            if (store.getQuantity(articleId) == null) {
+                throw new NotFoundException(Util.ARTICLE_NOT_FOUND);
+            }
+
+            Instant leaseStarted = clock.instant();
+            if (!store.acquireLease(articleId)) {
+                throw new ConcurrentUpdateException(Util.HOT_ARTICLE_LEASED_ELSEWHERE);
+            }
+
+            // Deltas journaled under an earlier lease must reach the row before it is loaded
+            applySegments();
+
+            lease = new Lease(new StripedStockCounter(stripes, store.getQuantity(articleId)),
+                    leaseStarted.plus(leaseValidity));
+            leases.put(articleId, lease);
+
+            return lease.counter;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Renewal runs on its own, so a segment that cannot be written does not let the leases lapse behind it
+    private void flushQuietly() {
+        try {
+            renewLeases();
+        } catch (RuntimeException e) {
+            logger.warn("Hot stock lease renewal failed", e);
+        }
+
+        try {
+            applySegments();
+        } catch (RuntimeException e) {
+            // Segments stay on disk and are retried on the next tick
+            logger.warn("Hot stock flush failed", e);
+        }
+    }
+
+    private static final class Lease {
+
+        private final StripedStockCounter counter;
+        private volatile Instant validUntil;
+
+        private Lease(StripedStockCounter counter, Instant validUntil) {
+            this.counter = counter;
+            this.validUntil = validUntil;
+        }
+
+        private boolean isValidAt(Instant now) {
+            return now.isBefore(validUntil);
+        }
+
+        private void extendUntil(Instant validUntil) {
+            this.validUntil = validUntil;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.stock_service.stock.infrastructure.persistence.hotstock;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Database side of the hot-stock mode: article leases, the write-behind of journal segments and the checkpoint that
+ * keeps a segment from being applied twice.
+ */
+class HotStockJdbcStore {
+
+    private static final String SELECT_QUANTITY_SQL = "SELECT quantity FROM article WHERE id = ?";
+    private static final String APPLY_DELTA_SQL =
+            "UPDATE article SET quantity = quantity - ?, version = version + 1 WHERE id = ?";
+
+    private static final String TAKE_LEASE_SQL =
+            "UPDATE article_stock_lease SET owner = ?, expires_at = ? WHERE id_article = ? AND (owner = ? OR expires_at < ?)";
+    private static final String INSERT_LEASE_SQL =
+            "INSERT INTO article_stock_lease (id_article, owner, expires_at) VALUES (?, ?, ?)";
+    private static final String RENEW_LEASE_SQL =
+            "UPDATE article_stock_lease SET expires_at = ? WHERE id_article = ? AND owner = ?";
+    private static final String RELEASE_LEASE_SQL =
+            "DELETE FROM article_stock_lease WHERE id_article = ? AND owner = ?";
+
+    private static final String SELECT_CHECKPOINT_SQL =
+            "SELECT last_segment FROM stock_journal_checkpoint WHERE owner = ?";
+    private static final String UPDATE_CHECKPOINT_SQL =
+            "UPDATE stock_journal_checkpoint SET last_segment = ? WHERE owner = ?";
+    private static final String INSERT_CHECKPOINT_SQL =
+            "INSERT INTO stock_journal_checkpoint (owner, last_segment) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner;
+    private final Duration leaseTtl;
+    private final Clock clock;
+
+    HotStockJdbcStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, String owner,
+                      Duration leaseTtl, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.owner = owner;
+        this.leaseTtl = leaseTtl;
+        this.clock = clock;
+    }
+
+    Integer getQuantity(Long articleId) {
+        List<Integer> quantities = jdbcTemplate.queryForList(SELECT_QUANTITY_SQL, Integer.class, articleId);
+
+        return quantities.isEmpty() ? null : quantities.get(0);
+    }
+
+    /**
+     * Takes the lease when it is free, expired or already ours.
+     */
+    boolean acquireLease(Long articleId) {
+        Timestamp now = Timestamp.from(clock.instant());
+        Timestamp expiresAt = Timestamp.from(clock.instant().plus(leaseTtl));
+
+        if (jdbcTemplate.update(TAKE_LEASE_SQL, owner, expiresAt, articleId, owner, now) == 1) {
+            return true;
+        }
+
+        try {
+            return jdbcTemplate.update(INSERT_LEASE_SQL, articleId, owner, expiresAt) == 1;
+        } catch (DuplicateKeyException e) {
+            // Held by another instance
+            return false;
+        }
+    }
+
+    /**
+     * @return the articles whose lease was renewed; the others expired and were taken over
+     */
+    List<Long> renewLeases(Collection<Long> articleIds) {
+        List<Long> ids = List.copyOf(articleIds);
+        Timestamp expiresAt = Timestamp.from(clock.instant().plus(leaseTtl));
+
+        int[] renewed = jdbcTemplate.batchUpdate(RENEW_LEASE_SQL,
+                ids.stream().map(id -> new Object[]{expiresAt, id, owner}).toList());
+
+        return IntStream.range(0, ids.size())
+                .filter(i -> renewed[i] != 0)
+                .mapToObj(ids::get)
+                .toList();
+    }
+
+    void releaseLeases(Collection<Long> articleIds) {
+        jdbcTemplate.batchUpdate(RELEASE_LEASE_SQL,
+                articleIds.stream().map(id -> new Object[]{id, owner}).toList());
+    }
+
+    long lastAppliedSegment() {
+        List<Long> segments = jdbcTemplate.queryForList(SELECT_CHECKPOINT_SQL, Long.class, owner);
+
+        return segments.isEmpty() ? 0 : segments.get(0);
+    }
+
+    /**
+     * Writes the net deltas of a segment and moves the checkpoint past it in one transaction, so a crash either
+     * keeps both or neither.
+     */
+    void applySegment(long segment, Map<Long, Long> deltas) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Sorted by ID so the write-behind locks rows in the same order as batched checkouts
+            jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                    .toList());
+
+            if (jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, segment, owner) == 0) {
+                jdbcTemplate.update(INSERT_CHECKPOINT_SQL, owner, segment);
+            }
+        });
+    }
+}
@@ -0,0 +1,239 @@
+package com.stock_service.stock.infrastructure.persistence.hotstock;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of stock deltas acknowledged from memory but not yet written to the article table. Records go to
+ * numbered segment files; the flusher seals the current segment, applies it and deletes it, so anything still on
+ * disk after a crash is exactly what the database may be missing.
+ *
+ * <p>With {@code fsync} enabled an append only returns once its record is on disk. Appenders waiting on the same
+ * {@link FileChannel#force} share it (group commit), so the cost is one sync per burst rather than per decrement.
+ *
+ * <p>Both locks are {@link ReentrantLock}s rather than monitors: they are held across file writes and syncs, and a
+ * virtual thread blocked inside {@code synchronized} pins its carrier thread.
+ */
+class StockJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String INSTANCE_ID_FILE = "instance-id";
+    private static final int RECORD_BYTES = 2 * Long.BYTES;
+
+    private final Path directory;
+    private final boolean fsync;
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock
+    private FileChannel channel;
+    private long segment;
+    private long segmentRecords;
+    private long appendedRecords;
+
+    private volatile long syncedRecords;
+
+    StockJournal(Path directory, boolean fsync) {
+        this.directory = directory;
+        this.fsync = fsync;
+    }
+
+    /**
+     * The owner name stored next to the segments. The checkpoint is kept per owner, so a journal directory must keep
+     * the same owner across restarts or its leftover segments could be applied twice.
+     */
+    static String loadOrCreateInstanceId(Path directory) {
+        Path file = directory.resolve(INSTANCE_ID_FILE);
+
+        try {
+            if (Files.exists(file)) {
+                return Files.readString(file).trim();
+            }
+
+            Files.createDirectories(directory);
+            String instanceId = UUID.randomUUID().toString();
+            Files.writeString(file, instanceId, StandardOpenOption.CREATE_NEW, StandardOpenOption.SYNC);
+            return instanceId;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Opens a fresh segment numbered after every segment on disk and after {@code lastAppliedSegment}, so new records
+     * are never mistaken for ones the database already has.
+     */
+    void open(long lastAppliedSegment) {
+        lock.lock();
+        try {
+            Files.createDirectories(directory);
+            long lastSegment = Math.max(lastAppliedSegment, segments().stream().mapToLong(Long::longValue).max().orElse(0));
+            openSegment(lastSegment + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void append(long articleId, long delta) {
+        long record;
+
+        lock.lock();
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES).putLong(articleId).putLong(delta).flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            segmentRecords++;
+            record = ++appendedRecords;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+
+        if (fsync) {
+            syncUpTo(record);
+        }
+    }
+
+    /**
+     * Seals the current segment and starts a new one.
+     *
+     * @return whether anything was sealed; an empty segment stays current
+     */
+    boolean rotate() {
+        syncLock.lock();
+        lock.lock();
+        try {
+            if (segmentRecords == 0) {
+                return false;
+            }
+
+            channel.force(false);
+            channel.close();
+            syncedRecords = appendedRecords;
+            openSegment(segment + 1);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Segments that no longer receive appends, oldest first.
+     */
+    List<Long> sealedSegments() {
+        lock.lock();
+        try {
+            return segments().stream().filter(id -> id < segment).sorted().toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Net delta per article in a sealed segment. A record cut short by a crash was never acknowledged and is ignored.
+     */
+    Map<Long, Long> read(long sealedSegment) {
+        Map<Long, Long> deltas = new HashMap<>();
+
+        try {
+            ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(segmentPath(sealedSegment)));
+            while (records.remaining() >= RECORD_BYTES) {
+                deltas.merge(records.getLong(), records.getLong(), Long::sum);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return deltas;
+    }
+
+    void delete(long sealedSegment) {
+        try {
+            Files.deleteIfExists(segmentPath(sealedSegment));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        syncLock.lock();
+        lock.lock();
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    private void syncUpTo(long record) {
+        syncLock.lock();
+        try {
+            if (syncedRecords >= record) {
+                return;
+            }
+
+            long target;
+            FileChannel syncedChannel;
+            lock.lock();
+            try {
+                target = appendedRecords;
+                syncedChannel = channel;
+            } finally {
+                lock.unlock();
+            }
+
+            syncedChannel.force(false);
+            syncedRecords = target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void openSegment(long id) throws IOException {
+        channel = FileChannel.open(segmentPath(id), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segment = id;
+        segmentRecords = 0;
+    }
+
+    private List<Long> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(SEGMENT_PREFIX + id + SEGMENT_SUFFIX);
+    }
+}
@@ -0,0 +1,95 @@
+package com.stock_service.stock.infrastructure.persistence.hotstock;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Stock of one article split across stripes, so concurrent decrements CAS different cache lines instead of one
+ * contended word. A caller starts on the stripe picked by its thread and borrows from the others when its own runs
+ * short; the total never goes below zero. Close to a sell-out a take can be refused while another caller is handing
+ * back a partial take, which errs on the side of not overselling.
+ */
+class StripedStockCounter {
+
+    // 16 longs = 128 bytes between stripes, so neighbours never share a cache line (or an adjacent-line prefetch)
+    private static final int PADDING = 16;
+
+    private final int stripes;
+    private final AtomicLongArray cells;
+
+    StripedStockCounter(int stripes, long quantity) {
+        this.stripes = stripes;
+        this.cells = new AtomicLongArray(stripes * PADDING);
+
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            cells.set(stripe * PADDING, quantity / stripes + (stripe < quantity % stripes ? 1 : 0));
+        }
+    }
+
+    boolean tryTake(long quantity) {
+        int home = homeStripe();
+        long remaining = quantity;
+        long[] taken = new long[stripes];
+
+        for (int i = 0; i < stripes && remaining > 0; i++) {
+            int stripe = (home + i) % stripes;
+            taken[stripe] = takeUpTo(stripe, remaining);
+            remaining -= taken[stripe];
+        }
+
+        if (remaining == 0) {
+            return true;
+        }
+
+        // Not enough across all stripes: give back the partial take
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            if (taken[stripe] > 0) {
+                cells.addAndGet(stripe * PADDING, taken[stripe]);
+            }
+        }
+        return false;
+    }
+
+    void add(long quantity) {
+        cells.addAndGet(homeStripe() * PADDING, quantity);
+    }
+
+    /**
+     * Empties every stripe and returns what they held. Decrements racing with the drain either finish before it
+     * or see an empty stripe, so the drained amount plus the successful decrements equals the previous total.
+     */
+    long drain() {
+        long drained = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            drained += cells.getAndSet(stripe * PADDING, 0);
+        }
+        return drained;
+    }
+
+    long total() {
+        long total = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            total += cells.get(stripe * PADDING);
+        }
+        return total;
+    }
+
+    private long takeUpTo(int stripe, long wanted) {
+        int index = stripe * PADDING;
+
+        while (true) {
+            long available = cells.get(index);
+            if (available <= 0) {
+                return 0;
+            }
+
+            long take = Math.min(available, wanted);
+            if (cells.compareAndSet(index, available, available - take)) {
+                return take;
+            }
+        }
+    }
+
+    private int homeStripe() {
+        return (int) (Thread.currentThread().threadId() % stripes);
+    }
+}
@@ -0,0 +1,106 @@
+package com.stock_service.stock.infrastructure.persistence.hotstock;
+
+import com.stock_service.stock.domain.spi.IHotStockPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Ties in-memory reductions to the database transaction they run in. Counters are taken straight away, so a
+ * checkout can fail fast when a hot article runs out, but what the transaction took is given back if it rolls back,
+ * for instance when the flush of a cold line of the same batch fails. Units given back inside the same transaction
+ * cancel its reductions first, so lines the use case already restored are not restored twice.
+ *
+ * <p>Only reductions are undone: a restore or a {@code setQuantity} whose transaction rolls back stays in effect.
+ * Outside a transaction every call applies immediately, as on the delegate.
+ */
+public class TransactionalHotStockAdapter implements IHotStockPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionalHotStockAdapter.class);
+
+    private final IHotStockPort delegate;
+
+    public TransactionalHotStockAdapter(IHotStockPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isHot(Long articleId) {
+        return delegate.isHot(articleId);
+    }
+
+    @Override
+    public boolean tryReduce(Long articleId, int quantityToReduce) {
+        if (!delegate.tryReduce(articleId, quantityToReduce)) {
+            return false;
+        }
+
+        Map<Long, Integer> taken = takenInTransaction();
+        if (taken != null) {
+            taken.merge(articleId, quantityToReduce, Integer::sum);
+        }
+        return true;
+    }
+
+    @Override
+    public void restoreStock(Long articleId, int quantity) {
+        delegate.restoreStock(articleId, quantity);
+
+        Map<Long, Integer> taken = takenInTransaction();
+        if (taken != null) {
+            taken.computeIfPresent(articleId, (id, units) -> units > quantity ? units - quantity : null);
+        }
+    }
+
+    @Override
+    public int getQuantity(Long articleId) {
+        return delegate.getQuantity(articleId);
+    }
+
+    @Override
+    public void setQuantity(Long articleId, int quantity) {
+        delegate.setQuantity(articleId, quantity);
+    }
+
+    // Bound to the transaction on first use and released when it completes; null when there is no transaction
+    private Map<Long, Integer> takenInTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, Integer> taken = (Map<Long, Integer>) TransactionSynchronizationManager.getResource(this);
+        if (taken != null) {
+            return taken;
+        }
+
+        Map<Long, Integer> newTaken = new TreeMap<>();
+        TransactionSynchronizationManager.bindResource(this, newTaken);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalHotStockAdapter.this);
+
+                if (status == STATUS_ROLLED_BACK) {
+                    giveBack(newTaken);
+                }
+            }
+        });
+        return newTaken;
+    }
+
+    // Runs after the transaction is over, so a failure can only be logged for the stock to be corrected by hand
+    private void giveBack(Map<Long, Integer> taken) {
+        taken.forEach((articleId, units) -> {
+            try {
+                delegate.restoreStock(articleId, units);
+            } catch (RuntimeException e) {
+                logger.error("Could not give back {} units of hot article {} after a rollback", units, articleId, e);
+            }
+        });
+    }
+}
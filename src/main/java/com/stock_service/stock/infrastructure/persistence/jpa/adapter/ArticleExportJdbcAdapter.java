@@ -0,0 +1,110 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.adapter;
+
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.BrandModel;
+import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.spi.IArticleExportPersistencePort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Reads the whole catalog through one forward-only, read-only cursor. Articles come out already joined with their
+ * brand and categories in ID order, so each one is complete as soon as the next ID shows up and can be handed on
+ * while the rest of the rows are still streaming in. A single statement also gives the export one consistent
+ * snapshot, which offset paging cannot.
+ */
+public class ArticleExportJdbcAdapter implements IArticleExportPersistencePort {
+
+    private static final String EXPORT_SQL = """
+            SELECT a.id, a.name, a.description, a.quantity, a.price, a.version,
+                   b.id AS brand_id, b.name AS brand_name, b.description AS brand_description,
+                   c.id AS category_id, c.name AS category_name, c.description AS category_description
+            FROM article a
+            LEFT JOIN brand b ON b.id = a.id_brand
+            LEFT JOIN article_category ac ON ac.id_article = a.id
+            LEFT JOIN category c ON c.id = ac.id_category
+            ORDER BY a.id""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    /**
+     * @param fetchSize rows the driver buffers per round trip; MySQL Connector/J only streams with
+     *                  {@link Integer#MIN_VALUE} (row by row) unless {@code useCursorFetch=true} is set on the URL
+     */
+    public ArticleExportJdbcAdapter(JdbcTemplate jdbcTemplate, int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void streamAllArticles(Consumer<ArticleModel> consumer) {
+        ArticleRowAssembler assembler = new ArticleRowAssembler(consumer);
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, assembler);
+
+        assembler.finish();
+    }
+
+    /**
+     * Folds consecutive rows of the same article into one model, holding at most one article at a time.
+     */
+    static class ArticleRowAssembler implements RowCallbackHandler {
+
+        private final Consumer<ArticleModel> consumer;
+        private ArticleModel current;
+
+        ArticleRowAssembler(Consumer<ArticleModel> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            long articleId = resultSet.getLong("id");
+
+            if (current == null || current.getId() != articleId) {
+                finish();
+                current = readArticle(resultSet, articleId);
+            }
+
+            long categoryId = resultSet.getLong("category_id");
+            if (!resultSet.wasNull()) {
+                current.getCategories().add(new CategoryModel(categoryId,
+                        resultSet.getString("category_name"), resultSet.getString("category_description")));
+            }
+        }
+
+        void finish() {
+            if (current != null) {
+                consumer.accept(current);
+                current = null;
+            }
+        }
+
+        private ArticleModel readArticle(ResultSet resultSet, long articleId) throws SQLException {
+            BrandModel brand = null;
+            long brandId = resultSet.getLong("brand_id");
+            if (!resultSet.wasNull()) {
+                brand = new BrandModel(brandId, resultSet.getString("brand_name"), resultSet.getString("brand_description"));
+            }
+
+            ArticleModel article = new ArticleModel(articleId, resultSet.getString("name"),
+                    resultSet.getString("description"), resultSet.getInt("quantity"), resultSet.getDouble("price"),
+                    brand, new ArrayList<>());
+            article.setVersion(resultSet.getLong("version"));
+
+            return article;
+        }
+    }
+}
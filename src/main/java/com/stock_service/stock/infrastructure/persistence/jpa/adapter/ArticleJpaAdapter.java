@@ -1,29 +1,64 @@
 package com.stock_service.stock.infrastructure.persistence.jpa.adapter;
 
-import com.stock_service.stock.domain.exception.NotFoundException;
+import com.stock_service.stock.domain.model.ArticleFacetsModel;
+import com.stock_service.stock.domain.model.ArticleFilterModel;
 import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
+import com.stock_service.stock.domain.model.FacetCountModel;
 import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
-import com.stock_service.stock.domain.util.Util;
+import com.stock_service.stock.infrastructure.persistence.cache.PaginationCountCache;
 import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
 import com.stock_service.stock.infrastructure.persistence.jpa.mapper.IArticleEntityMapper;
+import com.stock_service.stock.infrastructure.persistence.jpa.projection.ArticleFacetRow;
+import com.stock_service.stock.infrastructure.persistence.jpa.projection.ArticlePriceProjection;
+import com.stock_service.stock.infrastructure.persistence.jpa.projection.ArticleQuantityProjection;
 import com.stock_service.stock.infrastructure.persistence.jpa.repository.IArticleRepository;
 import com.stock_service.stock.infrastructure.persistence.jpa.specifications.ArticleSpecifications;
+import com.stock_service.stock.infrastructure.persistence.jpa.specifications.KeysetSpecifications;
+import com.stock_service.stock.infrastructure.persistence.jpa.util.KeysetCursor;
+import com.stock_service.stock.infrastructure.persistence.jpa.util.SortableFields;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class ArticleJpaAdapter implements IArticleModelPersistencePort {
 
+    private static final String REDUCE_QUANTITY_SQL =
+            "UPDATE article SET quantity = quantity - ?, version = version + 1 WHERE id = ? AND quantity >= ?";
+    private static final String INCREASE_QUANTITY_SQL =
+            "UPDATE article SET quantity = quantity + ?, version = version + 1 WHERE id = ?";
+
     private final IArticleRepository articleRepository;
     private final IArticleEntityMapper articleEntityMapper;
+    private static final String ALL_ARTICLES = "all";
+    // Backed by idx_article_name and idx_article_price; the quantity and description columns have no index
+    private static final SortableFields SORTABLE_FIELDS = SortableFields.of("name", "price");
+    private static final Comparator<FacetCountModel> FACET_ORDER = Comparator
+            .comparingLong(FacetCountModel::getCount).reversed()
+            .thenComparing(FacetCountModel::getName);
 
+    private final JdbcTemplate jdbcTemplate;
+    private final PaginationCountCache countCache;
 
 
     @Override
@@ -31,28 +66,70 @@ public class ArticleJpaAdapter implements IArticleModelPersistencePort {
 
         ArticleEntity articleEntity = articleEntityMapper.articleModelToArticleEntity(articleModel);
         ArticleEntity savedArticle = articleRepository.save(articleEntity);
+        countCache.invalidateOnWrite();
 
         return articleEntityMapper.articleEntityToArticleModel(savedArticle);
     }
 
     @Override
-    public Paginated<ArticleModel> getArticlesPaginated(int page, int size, String sort, boolean ascending) {
+    public void saveArticles(List<ArticleModel> articles) {
+        List<ArticleEntity> articleEntities = articles.stream()
+                .map(articleEntityMapper::articleModelToArticleEntity)
+                .toList();
+        articleRepository.insertAll(articleEntities);
+        countCache.invalidateOnWrite();
+
+        // The IDs are generated on insert and decorators such as the search index key their work on them
+        for (int i = 0; i < articles.size(); i++) {
+            articles.get(i).setId(articleEntities.get(i).getId());
+        }
+    }
+
+    @Override
+    public Paginated<ArticleModel> getArticlesPaginated(int page, int size, String sort, boolean ascending, boolean categoryFirst, CountMode countMode) {
 
-        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        PageRequest pageRequest = PageRequest.of(page, size, SORTABLE_FIELDS.sortOf(sort, ascending));
 
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(direction, sort));
+        if (countMode == CountMode.EXACT) {
+            Page<Long> articleIds = categoryFirst
+                    ? articleRepository.findIdsOrderByCategories(pageRequest)
+                    : articleRepository.findIds(Specification.where(null), pageRequest);
 
-        Page<ArticleEntity> articleEntities = articleRepository.findAll(pageRequest);
+            return toPaginatedArticles(articleIds, articleIds.getTotalElements());
+        }
+
+        Slice<Long> articleIds = categoryFirst
+                ? articleRepository.findIdSliceOrderByCategories(pageRequest)
+                : articleRepository.findIdSlice(Specification.where(null), pageRequest);
+        long totalElements = countMode == CountMode.CACHED
+                ? countCache.get(ALL_ARTICLES, articleRepository::count)
+                : Paginated.UNKNOWN_TOTAL;
+
+        return toPaginatedArticles(articleIds, totalElements);
+    }
+
+    @Override
+    public CursorPaginated<ArticleModel> getArticlesByCursor(String cursor, int size, String sort, boolean ascending) {
+
+        KeysetCursor.checkPageSize(size);
+        SORTABLE_FIELDS.check(sort);
+        KeysetCursor after = KeysetCursor.decode(cursor, sort, ascending);
+
+        List<Long> articleIds = articleRepository.findIds(
+                KeysetSpecifications.after(after), KeysetCursor.sortOf(sort, ascending), size + 1);
+
+        boolean hasNext = articleIds.size() > size;
+        List<ArticleEntity> articleEntities = findArticlesInOrder(hasNext ? articleIds.subList(0, size) : articleIds);
 
         List<ArticleModel> articles = articleEntities.stream()
-                .map(articleEntityMapper::articleEntityToArticleModel).toList();
+                .map(articleEntityMapper::articleEntityToArticleModel)
+                .toList();
 
-        return new Paginated<>(
-                articles,
-                articleEntities.getNumber(),
-                articleEntities.getSize(),
-                articleEntities.getTotalElements()
-        );
+        String nextCursor = hasNext && !articleEntities.isEmpty()
+                ? KeysetCursor.fromEntity(articleEntities.get(articleEntities.size() - 1), sort, ascending).encode()
+                : null;
+
+        return new CursorPaginated<>(articles, size, nextCursor);
     }
 
     @Override
@@ -60,6 +137,11 @@ public class ArticleJpaAdapter implements IArticleModelPersistencePort {
         return articleRepository.findByName(name).isPresent();
     }
 
+    @Override
+    public Set<String> getExistingNames(Collection<String> names) {
+        return new HashSet<>(articleRepository.findNamesByNameIn(names));
+    }
+
     @Override
     public ArticleModel getArticleById(Long id) {
 
@@ -69,44 +151,165 @@ public class ArticleJpaAdapter implements IArticleModelPersistencePort {
     }
 
     @Override
-    public void reduceArticleQuantity(Long articleId, int quantityToReduce) {
-        ArticleEntity entity = articleRepository.findById(articleId)
-                .orElseThrow(() -> new NotFoundException(Util.ARTICLE_NOT_FOUND));
+    public int reduceArticleQuantity(Long articleId, int quantityToReduce) {
+        return articleRepository.decrementQuantity(articleId, quantityToReduce);
+    }
 
-        int newQuantity = entity.getQuantity() - quantityToReduce;
+    @Override
+    public int updateArticleQuantity(Long articleId, int quantity, Long expectedVersion) {
+        return articleRepository.updateQuantityIfVersion(articleId, quantity, expectedVersion);
+    }
 
-        entity.setQuantity(newQuantity);
-        articleRepository.save(entity);
+    @Override
+    public int[] reduceArticleQuantities(List<ArticleStockModel> items) {
+        List<Object[]> batchArgs = items.stream()
+                .map(item -> new Object[]{item.getQuantity(), item.getArticleId(), item.getQuantity()})
+                .toList();
+
+        return jdbcTemplate.batchUpdate(REDUCE_QUANTITY_SQL, batchArgs);
     }
 
     @Override
-    public Paginated<ArticleModel> getArticlesPaginatedByFilters(int page, int size, String sort, boolean ascending, String categoryName, String brandName, List<Long> articleIds) {
-        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(direction, sort));
+    public int[] increaseArticleQuantities(List<ArticleStockModel> items) {
+        List<Object[]> batchArgs = items.stream()
+                .map(item -> new Object[]{item.getQuantity(), item.getArticleId()})
+                .toList();
 
-        Specification<ArticleEntity> specification = Specification.where(ArticleSpecifications.inArticleIds(articleIds))
-                .and(ArticleSpecifications.byCategoryName(categoryName))
-                .and(ArticleSpecifications.byBrandName(brandName));
+        return jdbcTemplate.batchUpdate(INCREASE_QUANTITY_SQL, batchArgs);
+    }
 
-        Page<ArticleEntity> articleEntities = articleRepository.findAll(specification, pageRequest);
+    @Override
+    public Map<Long, Integer> getArticleQuantitiesByIds(Collection<Long> articleIds) {
+        return articleRepository.findQuantitiesByIdIn(articleIds).stream()
+                .collect(Collectors.toMap(ArticleQuantityProjection::getId, ArticleQuantityProjection::getQuantity));
+    }
 
-        List<ArticleModel> articles = articleEntities.stream()
-                .map(articleEntityMapper::articleEntityToArticleModel).toList();
+    @Override
+    public Double getArticlePriceById(Long articleId) {
+        return articleRepository.findPriceById(articleId).orElse(null);
+    }
 
-        return new Paginated<>(
-                articles,
-                articleEntities.getNumber(),
-                articleEntities.getSize(),
-                articleEntities.getTotalElements()
-        );
+    @Override
+    public Map<Long, Double> getArticlePricesByIds(Collection<Long> articleIds) {
+        return articleRepository.findPricesByIdIn(articleIds).stream()
+                .collect(Collectors.toMap(ArticlePriceProjection::getId, ArticlePriceProjection::getPrice));
+    }
+
+    @Override
+    public Paginated<ArticleModel> getArticlesPaginatedByFilters(int page, int size, String sort, boolean ascending, ArticleFilterModel filter, CountMode countMode) {
+        PageRequest pageRequest = PageRequest.of(page, size, SORTABLE_FIELDS.sortOf(sort, ascending));
+
+        Specification<ArticleEntity> specification = filterSpecification(filter);
+
+        if (countMode == CountMode.EXACT) {
+            Page<Long> pageIds = articleRepository.findIds(specification, pageRequest);
+
+            return toPaginatedArticles(pageIds, pageIds.getTotalElements());
+        }
+
+        Slice<Long> pageIds = articleRepository.findIdSlice(specification, pageRequest);
+        long totalElements = countMode == CountMode.CACHED
+                ? cachedCount(filter, specification)
+                : Paginated.UNKNOWN_TOTAL;
+
+        return toPaginatedArticles(pageIds, totalElements);
+    }
+
+    @Override
+    public ArticleFacetsModel getArticleFacets(ArticleFilterModel filter) {
+        List<FacetCountModel> brands = new ArrayList<>();
+        List<FacetCountModel> categories = new ArrayList<>();
+
+        for (ArticleFacetRow row : articleRepository.countFacets(filterSpecification(filter))) {
+            FacetCountModel facetCount = new FacetCountModel(row.id(), row.name(), row.count());
+            (row.facet() == ArticleFacetRow.Facet.BRAND ? brands : categories).add(facetCount);
+        }
+
+        brands.sort(FACET_ORDER);
+        categories.sort(FACET_ORDER);
+
+        return new ArticleFacetsModel(brands, categories);
+    }
+
+    // The same cached total the listing reports, so estimating a request does not add a count of its own
+    @Override
+    public long countArticles() {
+        return countCache.get(ALL_ARTICLES, articleRepository::count);
     }
 
     @Override
     public List<ArticleModel> getAllArticlesByIds(List<Long> articleIds) {
-        List<ArticleEntity> articleEntities = articleRepository.findAllById(articleIds);
+        List<ArticleEntity> articleEntities = articleRepository.findAllWithBrandAndCategoriesByIdIn(articleIds);
         return articleEntityMapper.toArticleModelList(articleEntities);
     }
 
+    // The page is resolved over IDs first and the articles are then loaded with brand and categories in a
+    // single query, so a page costs the same number of statements whatever its size
+    private Paginated<ArticleModel> toPaginatedArticles(Slice<Long> articleIds, long totalElements) {
+        List<ArticleModel> articles = findArticlesInOrder(articleIds.getContent()).stream()
+                .map(articleEntityMapper::articleEntityToArticleModel)
+                .toList();
+
+        return new Paginated<>(
+                articles,
+                articleIds.getNumber(),
+                articleIds.getSize(),
+                totalElements,
+                articleIds.hasNext()
+        );
+    }
+
+    private static Specification<ArticleEntity> filterSpecification(ArticleFilterModel filter) {
+        return Specification.where(ArticleSpecifications.inArticleIds(filter.getArticleIds()))
+                .and(ArticleSpecifications.byCategoryName(filter.getCategoryName()))
+                .and(ArticleSpecifications.byBrandName(filter.getBrandName()))
+                .and(ArticleSpecifications.inCategoryIds(filter.getCategoryIds()))
+                .and(ArticleSpecifications.inBrandIds(filter.getBrandIds()))
+                .and(ArticleSpecifications.priceBetween(filter.getMinPrice(), filter.getMaxPrice()))
+                .and(ArticleSpecifications.inStock(filter.isInStock()));
+    }
+
+    // Same filters give the same total whatever the order the IDs arrive in
+    // Quantities change on every checkout, reservation and hot-stock flush without going through saveArticle, so an
+    // in-stock total is counted each time rather than served stale from the cache
+    private long cachedCount(ArticleFilterModel filter, Specification<ArticleEntity> specification) {
+        if (filter.isInStock()) {
+            return articleRepository.count(specification);
+        }
+
+        return countCache.get(filterSignature(filter), () -> articleRepository.count(specification));
+    }
+
+    private static String filterSignature(ArticleFilterModel filter) {
+        return String.join("|", "filters",
+                String.valueOf(filter.getCategoryName()),
+                String.valueOf(filter.getBrandName()),
+                idSignature(filter.getCategoryIds()),
+                idSignature(filter.getBrandIds()),
+                String.valueOf(filter.getMinPrice()),
+                String.valueOf(filter.getMaxPrice()),
+                idSignature(filter.getArticleIds()));
+    }
+
+    private static String idSignature(List<Long> ids) {
+        return ids == null ? "" : new TreeSet<>(ids).toString();
+    }
+
+    private List<ArticleEntity> findArticlesInOrder(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ArticleEntity> articlesById = articleRepository
+                .findAllWithBrandAndCategoriesByIdIn(articleIds).stream()
+                .collect(Collectors.toMap(ArticleEntity::getId, Function.identity(), (first, second) -> first));
+
+        return articleIds.stream()
+                .map(articlesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
 
 
 }
@@ -2,23 +2,36 @@ package com.stock_service.stock.infrastructure.persistence.jpa.adapter;
 
 import com.stock_service.stock.domain.model.BrandModel;
 import com.stock_service.stock.domain.spi.IBrandModelPersistencePort;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.infrastructure.persistence.cache.PaginationCountCache;
 import com.stock_service.stock.infrastructure.persistence.jpa.entity.BrandEntity;
 import com.stock_service.stock.infrastructure.persistence.jpa.mapper.IBrandEntityMapper;
 import com.stock_service.stock.infrastructure.persistence.jpa.repository.IBrandRepository;
+import com.stock_service.stock.infrastructure.persistence.jpa.specifications.KeysetSpecifications;
+import com.stock_service.stock.infrastructure.persistence.jpa.util.KeysetCursor;
+import com.stock_service.stock.infrastructure.persistence.jpa.util.SortableFields;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.List;
 
 
 @RequiredArgsConstructor
 public class BrandJpaAdapter implements IBrandModelPersistencePort {
 
+     private static final String ALL_BRANDS = "all";
+     // The name is unique, so its index returns the brands in order
+     private static final SortableFields SORTABLE_FIELDS = SortableFields.of("name");
+
      private final IBrandRepository brandRepository;
      private final IBrandEntityMapper brandEntityMapper;
+     private final PaginationCountCache countCache;
 
 
     @Override
@@ -26,6 +39,7 @@ public class BrandJpaAdapter implements IBrandModelPersistencePort {
 
         BrandEntity brandEntity = brandEntityMapper.brandModelToBrandEntity(brandModel);
         brandEntity = brandRepository.save(brandEntity);
+        countCache.invalidateOnWrite();
 
         return brandEntityMapper.brandEntityToBrandModel(brandEntity);
     }
@@ -38,23 +52,48 @@ public class BrandJpaAdapter implements IBrandModelPersistencePort {
     }
 
     @Override
-    public Paginated<BrandModel> getBrandsPaginated(int page, int size, String sort, boolean ascending) {
+    public Paginated<BrandModel> getBrandsPaginated(int page, int size, String sort, boolean ascending, CountMode countMode) {
 
-        PageRequest pageRequest = PageRequest.of(page, size, ascending ? Sort.Direction.ASC : Sort.Direction.DESC, sort);
+        PageRequest pageRequest = PageRequest.of(page, size, SORTABLE_FIELDS.sortOf(sort, ascending));
 
-        Page<BrandEntity> brandEntities = brandRepository.findAll(pageRequest);
+        if (countMode == CountMode.EXACT) {
+            Page<BrandEntity> brandEntities = brandRepository.findAll(pageRequest);
 
+            return toPaginatedBrands(brandEntities, brandEntities.getTotalElements());
+        }
 
-        List<BrandModel> brandModels = brandEntities.stream()
+        Slice<BrandEntity> brandEntities = brandRepository.findSliceBy(pageRequest);
+        long totalElements = countMode == CountMode.CACHED
+                ? countCache.get(ALL_BRANDS, brandRepository::count)
+                : Paginated.UNKNOWN_TOTAL;
+
+        return toPaginatedBrands(brandEntities, totalElements);
+    }
+
+    @Override
+    public CursorPaginated<BrandModel> getBrandsByCursor(String cursor, int size, String sort, boolean ascending) {
+
+        KeysetCursor.checkPageSize(size);
+        SORTABLE_FIELDS.check(sort);
+        KeysetCursor after = KeysetCursor.decode(cursor, sort, ascending);
+        Sort keysetSort = KeysetCursor.sortOf(sort, ascending);
+
+        List<BrandEntity> brandEntities = brandRepository.findBy(
+                KeysetSpecifications.<BrandEntity>after(after),
+                query -> query.sortBy(keysetSort).limit(size + 1).all());
+
+        boolean hasNext = brandEntities.size() > size;
+        List<BrandEntity> pageEntities = hasNext ? brandEntities.subList(0, size) : brandEntities;
+
+        List<BrandModel> brandModels = pageEntities.stream()
                 .map(brandEntityMapper::brandEntityToBrandModel)
                 .toList();
 
-        return new Paginated<>(
-                brandModels,
-                brandEntities.getNumber(),
-                brandEntities.getSize(),
-                brandEntities.getTotalElements()
-        );
+        String nextCursor = hasNext
+                ? KeysetCursor.fromEntity(pageEntities.get(size - 1), sort, ascending).encode()
+                : null;
+
+        return new CursorPaginated<>(brandModels, size, nextCursor);
     }
 
     @Override
@@ -64,4 +103,26 @@ public class BrandJpaAdapter implements IBrandModelPersistencePort {
 
         return brandEntityMapper.brandEntityToBrandModel(brandEntity);
     }
+
+    @Override
+    public List<BrandModel> getBrandsByIds(Collection<Long> ids) {
+        return brandRepository.findAllById(ids).stream()
+                .map(brandEntityMapper::brandEntityToBrandModel)
+                .toList();
+    }
+
+    private Paginated<BrandModel> toPaginatedBrands(Slice<BrandEntity> brandEntities, long totalElements) {
+
+        List<BrandModel> brandModels = brandEntities.stream()
+                .map(brandEntityMapper::brandEntityToBrandModel)
+                .toList();
+
+        return new Paginated<>(
+                brandModels,
+                brandEntities.getNumber(),
+                brandEntities.getSize(),
+                totalElements,
+                brandEntities.hasNext()
+        );
+    }
 }
@@ -2,13 +2,20 @@ package com.stock_service.stock.infrastructure.persistence.jpa.adapter;
 
 import com.stock_service.stock.domain.model.CategoryModel;
 import com.stock_service.stock.domain.spi.ICategoryModelPersistencePort;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.infrastructure.persistence.cache.PaginationCountCache;
 import com.stock_service.stock.infrastructure.persistence.jpa.entity.CategoryEntity;
 import com.stock_service.stock.infrastructure.persistence.jpa.mapper.ICategoryEntityMapper;
 import com.stock_service.stock.infrastructure.persistence.jpa.repository.ICategoryRepository;
+import com.stock_service.stock.infrastructure.persistence.jpa.specifications.KeysetSpecifications;
+import com.stock_service.stock.infrastructure.persistence.jpa.util.KeysetCursor;
+import com.stock_service.stock.infrastructure.persistence.jpa.util.SortableFields;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
@@ -17,8 +24,13 @@ import java.util.List;
 public class CategoryJpaAdapter implements ICategoryModelPersistencePort {
 
 
+    private static final String ALL_CATEGORIES = "all";
+    // The name is unique, so its index returns the categories in order
+    private static final SortableFields SORTABLE_FIELDS = SortableFields.of("name");
+
     private final ICategoryRepository categoryRepository;
     private final ICategoryEntityMapper categoryEntityMapper;
+    private final PaginationCountCache countCache;
 
     @Override
     public CategoryModel saveCategory(CategoryModel categoryModel) {
@@ -26,6 +38,7 @@ public class CategoryJpaAdapter implements ICategoryModelPersistencePort {
         CategoryEntity categoryEntity = categoryEntityMapper.categoryModelToCategoryEntity(categoryModel);
 
         categoryEntity = categoryRepository.save(categoryEntity);
+        countCache.invalidateOnWrite();
 
         return categoryEntityMapper.categoryEntityToCategoryModel(categoryEntity);
     }
@@ -37,22 +50,48 @@ public class CategoryJpaAdapter implements ICategoryModelPersistencePort {
     }
 
     @Override
-    public Paginated<CategoryModel> getCategoriesPaginated(int page, int size, String sort, boolean ascending) {
+    public Paginated<CategoryModel> getCategoriesPaginated(int page, int size, String sort, boolean ascending, CountMode countMode) {
 
-        PageRequest pageRequest = PageRequest.of(page, size, ascending ? Sort.Direction.ASC : Sort.Direction.DESC, sort);
+        PageRequest pageRequest = PageRequest.of(page, size, SORTABLE_FIELDS.sortOf(sort, ascending));
 
-        Page<CategoryEntity> categoryEntities = categoryRepository.findAll(pageRequest);
+        if (countMode == CountMode.EXACT) {
+            Page<CategoryEntity> categoryEntities = categoryRepository.findAll(pageRequest);
 
-        List<CategoryModel> categoryModels = categoryEntities.stream()
+            return toPaginatedCategories(categoryEntities, categoryEntities.getTotalElements());
+        }
+
+        Slice<CategoryEntity> categoryEntities = categoryRepository.findSliceBy(pageRequest);
+        long totalElements = countMode == CountMode.CACHED
+                ? countCache.get(ALL_CATEGORIES, categoryRepository::count)
+                : Paginated.UNKNOWN_TOTAL;
+
+        return toPaginatedCategories(categoryEntities, totalElements);
+    }
+
+    @Override
+    public CursorPaginated<CategoryModel> getCategoriesByCursor(String cursor, int size, String sort, boolean ascending) {
+
+        KeysetCursor.checkPageSize(size);
+        SORTABLE_FIELDS.check(sort);
+        KeysetCursor after = KeysetCursor.decode(cursor, sort, ascending);
+        Sort keysetSort = KeysetCursor.sortOf(sort, ascending);
+
+        List<CategoryEntity> categoryEntities = categoryRepository.findBy(
+                KeysetSpecifications.<CategoryEntity>after(after),
+                query -> query.sortBy(keysetSort).limit(size + 1).all());
+
+        boolean hasNext = categoryEntities.size() > size;
+        List<CategoryEntity> pageEntities = hasNext ? categoryEntities.subList(0, size) : categoryEntities;
+
+        List<CategoryModel> categoryModels = pageEntities.stream()
                 .map(categoryEntityMapper::categoryEntityToCategoryModel)
                 .toList();
 
-        return new Paginated<>(
-                categoryModels,
-                categoryEntities.getNumber(),
-                categoryEntities.getSize(),
-                categoryEntities.getTotalPages()
-        );
+        String nextCursor = hasNext
+                ? KeysetCursor.fromEntity(pageEntities.get(size - 1), sort, ascending).encode()
+                : null;
+
+        return new CursorPaginated<>(categoryModels, size, nextCursor);
     }
 
     @Override
@@ -65,5 +104,18 @@ public class CategoryJpaAdapter implements ICategoryModelPersistencePort {
                 .toList();
     }
 
+    private Paginated<CategoryModel> toPaginatedCategories(Slice<CategoryEntity> categoryEntities, long totalElements) {
+
+        List<CategoryModel> categoryModels = categoryEntities.stream()
+                .map(categoryEntityMapper::categoryEntityToCategoryModel)
+                .toList();
 
+        return new Paginated<>(
+                categoryModels,
+                categoryEntities.getNumber(),
+                categoryEntities.getSize(),
+                totalElements,
+                categoryEntities.hasNext()
+        );
+    }
 }
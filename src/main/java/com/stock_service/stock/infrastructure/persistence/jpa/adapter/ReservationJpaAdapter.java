@@ -0,0 +1,58 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.adapter;
+
+import com.stock_service.stock.domain.model.ReservationModel;
+import com.stock_service.stock.domain.spi.IReservationModelPersistencePort;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ReservationEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.mapper.IReservationEntityMapper;
+import com.stock_service.stock.infrastructure.persistence.jpa.repository.IReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReservationJpaAdapter implements IReservationModelPersistencePort {
+
+    private static final String DELETE_RESERVATION_SQL = "DELETE FROM stock_reservation WHERE id = ?";
+
+    private final IReservationRepository reservationRepository;
+    private final IReservationEntityMapper reservationEntityMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public ReservationModel saveReservation(ReservationModel reservationModel) {
+
+        ReservationEntity reservationEntity = reservationEntityMapper.reservationModelToReservationEntity(reservationModel);
+        reservationEntity = reservationRepository.save(reservationEntity);
+
+        return reservationEntityMapper.reservationEntityToReservationModel(reservationEntity);
+    }
+
+    @Override
+    public ReservationModel getReservationById(Long id) {
+
+        return reservationRepository.findById(id)
+                .map(reservationEntityMapper::reservationEntityToReservationModel)
+                .orElse(null);
+    }
+
+    @Override
+    public List<ReservationModel> getReservationsExpiredAt(Instant instant, int limit) {
+
+        return reservationRepository.findByExpiresAtLessThanEqualOrderByExpiresAtAsc(instant, Limit.of(limit)).stream()
+                .map(reservationEntityMapper::reservationEntityToReservationModel)
+                .toList();
+    }
+
+    // Per-row counts tell the caller which deletes it won against a concurrent commit, release or sweep
+    @Override
+    public int[] deleteReservations(List<Long> reservationIds) {
+        List<Object[]> batchArgs = reservationIds.stream()
+                .map(id -> new Object[]{id})
+                .toList();
+
+        return jdbcTemplate.batchUpdate(DELETE_RESERVATION_SQL, batchArgs);
+    }
+}
@@ -17,8 +17,15 @@ import java.util.List;
 @Getter
 @Setter
 public class ArticleEntity {
+
+    // Ids are handed out in pooled blocks so inserts can be batched, which IDENTITY rules out
+    public static final int ID_ALLOCATION_SIZE = 50;
+    private static final String ID_GENERATOR = "article_id";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = ID_GENERATOR)
+    @TableGenerator(name = ID_GENERATOR, table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "article", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -45,4 +52,8 @@ public class ArticleEntity {
     )
     private List<CategoryEntity> categories = new ArrayList<>();
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
 }
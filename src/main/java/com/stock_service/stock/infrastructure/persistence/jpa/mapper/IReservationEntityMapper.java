@@ -0,0 +1,15 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.mapper;
+
+import com.stock_service.stock.domain.model.ReservationModel;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ReservationEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring",
+        unmappedTargetPolicy = ReportingPolicy.IGNORE,
+        unmappedSourcePolicy = ReportingPolicy.IGNORE)
+public interface IReservationEntityMapper {
+
+    ReservationEntity reservationModelToReservationEntity(ReservationModel reservationModel);
+    ReservationModel reservationEntityToReservationModel(ReservationEntity reservationEntity);
+}
@@ -0,0 +1,9 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.projection;
+
+public record ArticleFacetRow(Facet facet, Long id, String name, long count) {
+
+    public enum Facet {
+        BRAND,
+        CATEGORY
+    }
+}
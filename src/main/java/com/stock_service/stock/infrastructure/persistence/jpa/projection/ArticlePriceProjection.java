@@ -0,0 +1,6 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.projection;
+
+public interface ArticlePriceProjection {
+    Long getId();
+    Double getPrice();
+}
@@ -0,0 +1,6 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.projection;
+
+public interface ArticleQuantityProjection {
+    Long getId();
+    Integer getQuantity();
+}
@@ -0,0 +1,10 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.repository;
+
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+
+import java.util.List;
+
+public interface IArticleBatchRepository {
+
+    void insertAll(List<ArticleEntity> articles);
+}
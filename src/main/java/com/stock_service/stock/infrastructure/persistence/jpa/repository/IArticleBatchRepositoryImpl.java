@@ -0,0 +1,24 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.repository;
+
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class IArticleBatchRepositoryImpl implements IArticleBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // One flush sends the rows in JDBC batches. The articles are detached afterwards because the persistence
+    // context outlives the transaction under open-in-view, and a long import would otherwise keep them all
+    @Override
+    @Transactional
+    public void insertAll(List<ArticleEntity> articles) {
+        articles.forEach(entityManager::persist);
+        entityManager.flush();
+        articles.forEach(entityManager::detach);
+    }
+}
@@ -0,0 +1,12 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.repository;
+
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.projection.ArticleFacetRow;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface IArticleFacetRepository {
+
+    List<ArticleFacetRow> countFacets(Specification<ArticleEntity> specification);
+}
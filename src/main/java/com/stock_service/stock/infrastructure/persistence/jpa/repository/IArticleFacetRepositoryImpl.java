@@ -0,0 +1,65 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.repository;
+
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.projection.ArticleFacetRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class IArticleFacetRepositoryImpl implements IArticleFacetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Brand and category counts come back from one UNION ALL statement, each branch grouping the same filtered
+    // articles. The first column names the facet a row belongs to
+    @Override
+    public List<ArticleFacetRow> countFacets(Specification<ArticleEntity> specification) {
+        HibernateCriteriaBuilder criteriaBuilder = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> brandQuery = criteriaBuilder.createTupleQuery();
+        Root<ArticleEntity> brandRoot = brandQuery.from(ArticleEntity.class);
+        Join<ArticleEntity, ?> brand = brandRoot.join("brand");
+        brandQuery.multiselect(criteriaBuilder.literal(ArticleFacetRow.Facet.BRAND.name()), brand.get("id"),
+                        brand.get("name"), criteriaBuilder.count(brandRoot))
+                .groupBy(brand.get("id"), brand.get("name"));
+        filter(brandQuery, brandRoot, specification, criteriaBuilder);
+
+        CriteriaQuery<Tuple> categoryQuery = criteriaBuilder.createTupleQuery();
+        Root<ArticleEntity> categoryRoot = categoryQuery.from(ArticleEntity.class);
+        Join<ArticleEntity, ?> category = categoryRoot.join("categories");
+        categoryQuery.multiselect(criteriaBuilder.literal(ArticleFacetRow.Facet.CATEGORY.name()), category.get("id"),
+                        category.get("name"), criteriaBuilder.count(categoryRoot))
+                .groupBy(category.get("id"), category.get("name"));
+        filter(categoryQuery, categoryRoot, specification, criteriaBuilder);
+
+        return entityManager.createQuery(criteriaBuilder.unionAll(brandQuery, categoryQuery))
+                .getResultList()
+                .stream()
+                .map(IArticleFacetRepositoryImpl::toFacetRow)
+                .toList();
+    }
+
+    private static void filter(CriteriaQuery<Tuple> query, Root<ArticleEntity> root,
+                               Specification<ArticleEntity> specification, HibernateCriteriaBuilder criteriaBuilder) {
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    private static ArticleFacetRow toFacetRow(Tuple row) {
+        ArticleFacetRow.Facet facet = ArticleFacetRow.Facet.valueOf(row.get(0, String.class));
+
+        return new ArticleFacetRow(facet, row.get(1, Long.class), row.get(2, String.class), row.get(3, Long.class));
+    }
+}
@@ -0,0 +1,19 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.repository;
+
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface IArticleIdRepository {
+
+    Page<Long> findIds(Specification<ArticleEntity> specification, Pageable pageable);
+
+    Slice<Long> findIdSlice(Specification<ArticleEntity> specification, Pageable pageable);
+
+    List<Long> findIds(Specification<ArticleEntity> specification, Sort sort, int limit);
+}
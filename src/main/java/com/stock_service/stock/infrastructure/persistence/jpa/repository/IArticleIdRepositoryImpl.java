@@ -0,0 +1,94 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.repository;
+
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+public class IArticleIdRepositoryImpl implements IArticleIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Long> findIds(Specification<ArticleEntity> specification, Pageable pageable) {
+        List<Long> ids = findIdRange(specification, pageable, pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(ids, pageable, () -> count(specification));
+    }
+
+    // One extra row tells whether another page follows, so no count query is needed
+    @Override
+    public Slice<Long> findIdSlice(Specification<ArticleEntity> specification, Pageable pageable) {
+        List<Long> ids = findIdRange(specification, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = ids.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? ids.subList(0, pageable.getPageSize()) : ids, pageable, hasNext);
+    }
+
+    @Override
+    public List<Long> findIds(Specification<ArticleEntity> specification, Sort sort, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> idQuery = criteriaBuilder.createQuery(Long.class);
+        Root<ArticleEntity> root = idQuery.from(ArticleEntity.class);
+        Predicate predicate = specification.toPredicate(root, idQuery, criteriaBuilder);
+
+        idQuery.select(root.get("id"));
+        if (predicate != null) {
+            idQuery.where(predicate);
+        }
+        idQuery.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        return entityManager.createQuery(idQuery)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private List<Long> findIdRange(Specification<ArticleEntity> specification, Pageable pageable, int maxResults) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> idQuery = criteriaBuilder.createQuery(Long.class);
+        Root<ArticleEntity> root = idQuery.from(ArticleEntity.class);
+        Predicate predicate = specification.toPredicate(root, idQuery, criteriaBuilder);
+
+        idQuery.select(root.get("id"));
+        if (predicate != null) {
+            idQuery.where(predicate);
+        }
+        idQuery.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        return entityManager.createQuery(idQuery)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+
+    private long count(Specification<ArticleEntity> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
+        Root<ArticleEntity> root = countQuery.from(ArticleEntity.class);
+        Predicate predicate = specification.toPredicate(root, countQuery, criteriaBuilder);
+
+        countQuery.select(criteriaBuilder.count(root));
+        if (predicate != null) {
+            countQuery.where(predicate);
+        }
+
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+}
@@ -1,16 +1,66 @@
 package com.stock_service.stock.infrastructure.persistence.jpa.repository;
 
 import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.projection.ArticlePriceProjection;
+import com.stock_service.stock.infrastructure.persistence.jpa.projection.ArticleQuantityProjection;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface IArticleRepository extends JpaRepository<ArticleEntity, Long>, JpaSpecificationExecutor<ArticleEntity> {
+public interface IArticleRepository extends JpaRepository<ArticleEntity, Long>, JpaSpecificationExecutor<ArticleEntity>,
+        IArticleIdRepository, IArticleBatchRepository, IArticleFacetRepository {
     Optional<ArticleEntity> findByName(String aString);
 
+    @Query("SELECT a.name FROM ArticleEntity a WHERE a.name IN :names")
+    List<String> findNamesByNameIn(@Param("names") Collection<String> names);
+
     Page<ArticleEntity> findAll(Pageable pageable);
-}
\ No newline at end of file
+
+    @Query(value = "SELECT a.id FROM ArticleEntity a LEFT JOIN a.categories c GROUP BY a.id " +
+            "ORDER BY MIN(c.name) ASC, COUNT(c) ASC",
+            countQuery = "SELECT COUNT(a) FROM ArticleEntity a")
+    Page<Long> findIdsOrderByCategories(Pageable pageable);
+
+    @Query("SELECT a.id FROM ArticleEntity a LEFT JOIN a.categories c GROUP BY a.id " +
+            "ORDER BY MIN(c.name) ASC, COUNT(c) ASC")
+    Slice<Long> findIdSliceOrderByCategories(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"brand", "categories"})
+    @Query("SELECT a FROM ArticleEntity a WHERE a.id IN :articleIds")
+    List<ArticleEntity> findAllWithBrandAndCategoriesByIdIn(@Param("articleIds") Collection<Long> articleIds);
+
+    @Modifying
+    @Query("UPDATE ArticleEntity a SET a.quantity = a.quantity - :quantity, a.version = a.version + 1 " +
+            "WHERE a.id = :articleId AND a.quantity >= :quantity")
+    int decrementQuantity(@Param("articleId") Long articleId, @Param("quantity") int quantity);
+
+    // Called outside any transaction so each optimistic attempt commits on its own. The persistence context is
+    // cleared after the update, so under open-in-view the next attempt reads the row again instead of the stale copy
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ArticleEntity a SET a.quantity = :quantity, a.version = a.version + 1 " +
+            "WHERE a.id = :articleId AND a.version = :version")
+    int updateQuantityIfVersion(@Param("articleId") Long articleId, @Param("quantity") int quantity,
+                                @Param("version") Long version);
+
+    @Query("SELECT a.id AS id, a.quantity AS quantity FROM ArticleEntity a WHERE a.id IN :articleIds")
+    List<ArticleQuantityProjection> findQuantitiesByIdIn(@Param("articleIds") Collection<Long> articleIds);
+
+    @Query("SELECT a.price FROM ArticleEntity a WHERE a.id = :articleId")
+    Optional<Double> findPriceById(@Param("articleId") Long articleId);
+
+    @Query("SELECT a.id AS id, a.price AS price FROM ArticleEntity a WHERE a.id IN :articleIds")
+    List<ArticlePriceProjection> findPricesByIdIn(@Param("articleIds") Collection<Long> articleIds);
+}
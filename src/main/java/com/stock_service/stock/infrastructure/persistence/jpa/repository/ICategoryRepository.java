@@ -3,14 +3,17 @@ package com.stock_service.stock.infrastructure.persistence.jpa.repository;
 import com.stock_service.stock.infrastructure.persistence.jpa.entity.CategoryEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.util.Optional;
 
-public interface ICategoryRepository extends JpaRepository<CategoryEntity, Long> {
+public interface ICategoryRepository extends JpaRepository<CategoryEntity, Long>, JpaSpecificationExecutor<CategoryEntity> {
 
     Optional<CategoryEntity> findByName(String aString);
     Page<CategoryEntity> findAll(Pageable pageable);
+    Slice<CategoryEntity> findSliceBy(Pageable pageable);
 
 
 }
@@ -0,0 +1,14 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.repository;
+
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ReservationEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface IReservationRepository extends JpaRepository<ReservationEntity, Long> {
+
+    // Range scan on idx_stock_reservation_expires_at, so a sweep reads only the expired head of the index
+    List<ReservationEntity> findByExpiresAtLessThanEqualOrderByExpiresAtAsc(Instant instant, Limit limit);
+}
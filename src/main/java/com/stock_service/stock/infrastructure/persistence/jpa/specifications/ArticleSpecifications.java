@@ -1,9 +1,18 @@
 package com.stock_service.stock.infrastructure.persistence.jpa.specifications;
 
 import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.CategoryEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 
 public class ArticleSpecifications {
     private ArticleSpecifications() {}
@@ -17,7 +26,15 @@ public class ArticleSpecifications {
     public static Specification<ArticleEntity> byCategoryName(String categoryName) {
         return (root, query, criteriaBuilder) -> categoryName == null || categoryName.isEmpty()
                 ? criteriaBuilder.conjunction()
-                : criteriaBuilder.equal(root.join("categories").get("name"), categoryName);
+                : hasCategory(root, query.subquery(Long.class), criteriaBuilder,
+                        category -> criteriaBuilder.equal(category.get("name"), categoryName));
+    }
+
+    public static Specification<ArticleEntity> inCategoryIds(Collection<Long> categoryIds) {
+        return (root, query, criteriaBuilder) -> categoryIds == null || categoryIds.isEmpty()
+                ? criteriaBuilder.conjunction()
+                : hasCategory(root, query.subquery(Long.class), criteriaBuilder,
+                        category -> category.get("id").in(categoryIds));
     }
 
     public static Specification<ArticleEntity> byBrandName(String brandName) {
@@ -26,4 +43,45 @@ public class ArticleSpecifications {
                 : criteriaBuilder.equal(root.join("brand").get("name"), brandName);
     }
 
-}
\ No newline at end of file
+    // Reads the foreign key on the article row, so no join to the brand table is needed
+    public static Specification<ArticleEntity> inBrandIds(Collection<Long> brandIds) {
+        return (root, query, criteriaBuilder) -> brandIds == null || brandIds.isEmpty()
+                ? criteriaBuilder.conjunction()
+                : root.get("brand").get("id").in(brandIds);
+    }
+
+    public static Specification<ArticleEntity> priceBetween(Double minPrice, Double maxPrice) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> bounds = new ArrayList<>(2);
+
+            if (minPrice != null) {
+                bounds.add(criteriaBuilder.greaterThanOrEqualTo(root.<Double>get("price"), minPrice));
+            }
+            if (maxPrice != null) {
+                bounds.add(criteriaBuilder.lessThanOrEqualTo(root.<Double>get("price"), maxPrice));
+            }
+
+            return criteriaBuilder.and(bounds.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<ArticleEntity> inStock(boolean inStock) {
+        return (root, query, criteriaBuilder) -> inStock
+                ? criteriaBuilder.greaterThan(root.<Integer>get("quantity"), 0)
+                : criteriaBuilder.conjunction();
+    }
+
+    // A join on categories would repeat an article once per matching category, and the page, its count and the
+    // facets would all see the duplicates. EXISTS matches each article at most once
+    private static Predicate hasCategory(Root<ArticleEntity> root, Subquery<Long> subquery, CriteriaBuilder criteriaBuilder,
+                                         Function<Join<ArticleEntity, CategoryEntity>, Predicate> condition) {
+        Root<ArticleEntity> article = subquery.correlate(root);
+        Join<ArticleEntity, CategoryEntity> category = article.join("categories");
+
+        subquery.select(category.<Long>get("id"))
+                .where(condition.apply(category));
+
+        return criteriaBuilder.exists(subquery);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.specifications;
+
+import com.stock_service.stock.domain.exception.InvalidPaginationException;
+import com.stock_service.stock.domain.util.Util;
+import com.stock_service.stock.infrastructure.persistence.jpa.util.KeysetCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+public class KeysetSpecifications {
+    private KeysetSpecifications() {}
+
+    public static <T> Specification<T> after(KeysetCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return criteriaBuilder.conjunction();
+            }
+
+            Path<Long> idPath = root.get(KeysetCursor.ID_FIELD);
+            Predicate afterId = beyond(criteriaBuilder, idPath, cursor.getId(), cursor.isAscending());
+
+            if (KeysetCursor.ID_FIELD.equals(cursor.getSortField())) {
+                return afterId;
+            }
+
+            Path<Comparable<Object>> sortPath = root.get(cursor.getSortField());
+            Comparable<Object> sortValue = convert(cursor.getSortValue(), sortPath.getJavaType());
+
+            return criteriaBuilder.or(
+                    beyond(criteriaBuilder, sortPath, sortValue, cursor.isAscending()),
+                    criteriaBuilder.and(criteriaBuilder.equal(sortPath, sortValue), afterId)
+            );
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate beyond(
+            CriteriaBuilder criteriaBuilder, Path<? extends Y> path, Y value, boolean ascending) {
+        return ascending
+                ? criteriaBuilder.greaterThan(path, value)
+                : criteriaBuilder.lessThan(path, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> convert(String rawValue, Class<?> type) {
+        Comparable<?> value;
+
+        try {
+            if (type == Long.class || type == long.class) {
+                value = Long.valueOf(rawValue);
+            } else if (type == Integer.class || type == int.class) {
+                value = Integer.valueOf(rawValue);
+            } else if (type == Double.class || type == double.class) {
+                value = Double.valueOf(rawValue);
+            } else {
+                value = rawValue;
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidPaginationException(Util.INVALID_CURSOR);
+        }
+
+        return (Comparable<Object>) value;
+    }
+}
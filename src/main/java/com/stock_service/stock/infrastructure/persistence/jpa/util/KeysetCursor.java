@@ -0,0 +1,97 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.util;
+
+import com.stock_service.stock.domain.exception.InvalidPaginationException;
+import com.stock_service.stock.domain.util.Util;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page, encoded as an opaque URL-safe token.
+ * The token carries the sort it was issued for so it cannot be replayed against a different ordering.
+ */
+public class KeysetCursor {
+
+    public static final String ID_FIELD = "id";
+
+    private static final String SEPARATOR = "\n";
+    private static final String ASC = "A";
+    private static final String DESC = "D";
+
+    private final String sortField;
+    private final boolean ascending;
+    private final Long id;
+    private final String sortValue;
+
+    private KeysetCursor(String sortField, boolean ascending, Long id, String sortValue) {
+        this.sortField = sortField;
+        this.ascending = ascending;
+        this.id = id;
+        this.sortValue = sortValue;
+    }
+
+    public static KeysetCursor fromEntity(Object entity, String sortField, boolean ascending) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+
+        return new KeysetCursor(sortField, ascending, (Long) wrapper.getPropertyValue(ID_FIELD),
+                String.valueOf(wrapper.getPropertyValue(sortField)));
+    }
+
+    public static KeysetCursor decode(String token, String sortField, boolean ascending) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 4);
+
+            if (parts.length != 4 || !parts[0].equals(sortField) || !parts[1].equals(ascending ? ASC : DESC)) {
+                throw new InvalidPaginationException(Util.INVALID_CURSOR);
+            }
+
+            return new KeysetCursor(parts[0], ascending, Long.valueOf(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPaginationException(Util.INVALID_CURSOR);
+        }
+    }
+
+    public static void checkPageSize(int size) {
+        if (size < 1) {
+            throw new InvalidPaginationException(Util.INVALID_PAGE_SIZE);
+        }
+    }
+
+    public static Sort sortOf(String sortField, boolean ascending) {
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        return ID_FIELD.equals(sortField)
+                ? Sort.by(direction, ID_FIELD)
+                : Sort.by(direction, sortField).and(Sort.by(direction, ID_FIELD));
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortField, ascending ? ASC : DESC, String.valueOf(id), sortValue);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getSortField() {
+        return sortField;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSortValue() {
+        return sortValue;
+    }
+}
@@ -0,0 +1,42 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.util;
+
+import com.stock_service.stock.domain.exception.InvalidPaginationException;
+import com.stock_service.stock.domain.util.Util;
+import org.springframework.data.domain.Sort;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fields a listing may be sorted by. Each one is read from an index that already returns the rows in that order,
+ * so a page never sorts the whole table. Sorts end on the ID, so rows with equal values keep their order from one
+ * page to the next. Any other field is rejected before a query is built.
+ */
+public class SortableFields {
+
+    private final Set<String> fields;
+
+    private SortableFields(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static SortableFields of(String... fields) {
+        Set<String> sortable = new LinkedHashSet<>(List.of(fields));
+        sortable.add(KeysetCursor.ID_FIELD);
+
+        return new SortableFields(sortable);
+    }
+
+    public String check(String field) {
+        if (!fields.contains(field)) {
+            throw new InvalidPaginationException(Util.INVALID_SORT_FIELD + String.join(", ", fields));
+        }
+
+        return field;
+    }
+
+    public Sort sortOf(String field, boolean ascending) {
+        return KeysetCursor.sortOf(check(field), ascending);
+    }
+}
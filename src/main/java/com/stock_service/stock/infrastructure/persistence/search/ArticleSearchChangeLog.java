@@ -0,0 +1,43 @@
+package com.stock_service.stock.infrastructure.persistence.search;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Articles written since the search index last caught up. Writers record IDs once their transaction has committed
+ * and the indexer drains them, so an article that changes many times between two passes is read once.
+ */
+public class ArticleSearchChangeLog {
+
+    private final Set<Long> changedArticles = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changedQuantities = ConcurrentHashMap.newKeySet();
+
+    public void articlesChanged(Collection<Long> articleIds) {
+        changedArticles.addAll(articleIds);
+    }
+
+    public void quantitiesChanged(Collection<Long> articleIds) {
+        changedQuantities.addAll(articleIds);
+    }
+
+    Set<Long> drainArticles() {
+        return drain(changedArticles);
+    }
+
+    Set<Long> drainQuantities() {
+        return drain(changedQuantities);
+    }
+
+    // Removing while iterating keeps an ID recorded concurrently either in the drained set or in the log
+    private static Set<Long> drain(Set<Long> changes) {
+        Set<Long> drained = new HashSet<>();
+        for (Iterator<Long> iterator = changes.iterator(); iterator.hasNext(); ) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+}
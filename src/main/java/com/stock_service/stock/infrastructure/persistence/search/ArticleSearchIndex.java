@@ -0,0 +1,263 @@
+package com.stock_service.stock.infrastructure.persistence.search;
+
+import com.stock_service.stock.domain.exception.InvalidPaginationException;
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.spi.IArticleSearchPort;
+import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.domain.util.Util;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-process Lucene index over article name, description, brand and category names. The text fields are only
+ * indexed for matching; the stock level lives in an updatable doc-values field, so a quantity change rewrites one
+ * value instead of the whole document. Searches run on a near-real-time reader that {@link #refresh()} reopens.
+ */
+public class ArticleSearchIndex implements IArticleSearchPort, AutoCloseable {
+
+    static final String ID_FIELD = "id";
+    static final String NAME_FIELD = "name";
+    static final String DESCRIPTION_FIELD = "description";
+    static final String BRAND_FIELD = "brand";
+    static final String CATEGORY_FIELD = "category";
+    static final String QUANTITY_FIELD = "quantity";
+
+    // A word found in the name says more about the article than one found in its description
+    private static final Map<String, Float> FIELD_BOOSTS = fieldBoosts();
+    private static final float PREFIX_BOOST = 0.5f;
+    private static final float FUZZY_BOOST = 0.25f;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_ONE_EDIT_LENGTH = 4;
+    private static final int MIN_TWO_EDITS_LENGTH = 8;
+    // Fuzzy terms must share the first letter and expand to a few candidates, which keeps them cheap
+    private static final int FUZZY_PREFIX_LENGTH = 1;
+    private static final int FUZZY_MAX_EXPANSIONS = 10;
+    private static final int MAX_QUERY_TERMS = 10;
+
+    private final Directory directory;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public ArticleSearchIndex(Directory directory) throws IOException {
+        this.directory = directory;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @Override
+    public Paginated<Long> searchArticleIds(String text, boolean inStockOnly, int page, int size) {
+        checkPage(page, size);
+
+        Query query = buildQuery(text, inStockOnly);
+        if (query == null) {
+            return new Paginated<>(List.of(), page, size, 0);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, (page + 1) * size);
+                // Lucene stops counting exactly after 1000 hits to save work; the total is only recounted then
+                long total = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                        ? topDocs.totalHits.value
+                        : searcher.count(query);
+
+                StoredFields storedFields = searcher.storedFields();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                List<Long> articleIds = new ArrayList<>(size);
+                for (int i = page * size; i < scoreDocs.length; i++) {
+                    articleIds.add(Long.valueOf(storedFields.document(scoreDocs[i].doc).get(ID_FIELD)));
+                }
+
+                return new Paginated<>(articleIds, page, size, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void upsert(Collection<ArticleModel> articles) {
+        try {
+            for (ArticleModel article : articles) {
+                writer.updateDocument(idTerm(article.getId()), toDocument(article));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Articles that are not indexed yet are skipped; they arrive whole through upsert
+    public void updateQuantities(Map<Long, Integer> quantities) {
+        try {
+            for (Map.Entry<Long, Integer> quantity : quantities.entrySet()) {
+                writer.updateNumericDocValue(idTerm(quantity.getKey()), QUANTITY_FIELD, quantity.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Makes the changes written so far visible to searches and durable on disk.
+     */
+    public void publish() {
+        try {
+            writer.commit();
+            refresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void refresh() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    Query buildQuery(String text, boolean inStockOnly) {
+        Set<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            query.add(anyFieldQuery(term), BooleanClause.Occur.MUST);
+        }
+        if (inStockOnly) {
+            query.add(NumericDocValuesField.newSlowRangeQuery(QUANTITY_FIELD, 1, Long.MAX_VALUE),
+                    BooleanClause.Occur.FILTER);
+        }
+
+        return query.build();
+    }
+
+    private static Query anyFieldQuery(String term) {
+        int maxEdits = term.length() >= MIN_TWO_EDITS_LENGTH ? 2 : term.length() >= MIN_ONE_EDIT_LENGTH ? 1 : 0;
+
+        BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+        FIELD_BOOSTS.forEach((field, boost) -> {
+            Term fieldTerm = new Term(field, term);
+            anyField.add(new BoostQuery(new TermQuery(fieldTerm), boost), BooleanClause.Occur.SHOULD);
+
+            if (term.length() >= MIN_PREFIX_LENGTH) {
+                anyField.add(new BoostQuery(new PrefixQuery(fieldTerm), boost * PREFIX_BOOST),
+                        BooleanClause.Occur.SHOULD);
+            }
+            if (maxEdits > 0) {
+                anyField.add(new BoostQuery(new FuzzyQuery(fieldTerm, maxEdits, FUZZY_PREFIX_LENGTH,
+                        FUZZY_MAX_EXPANSIONS, true), boost * FUZZY_BOOST), BooleanClause.Occur.SHOULD);
+            }
+        });
+
+        return anyField.build();
+    }
+
+    private Set<String> analyze(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+
+        try (TokenStream tokens = analyzer.tokenStream(NAME_FIELD, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (terms.size() < MAX_QUERY_TERMS && tokens.incrementToken()) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return terms;
+    }
+
+    private static Document toDocument(ArticleModel article) {
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, String.valueOf(article.getId()), Field.Store.YES));
+        document.add(new TextField(NAME_FIELD, article.getName(), Field.Store.NO));
+
+        if (article.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION_FIELD, article.getDescription(), Field.Store.NO));
+        }
+        if (article.getBrand() != null && article.getBrand().getName() != null) {
+            document.add(new TextField(BRAND_FIELD, article.getBrand().getName(), Field.Store.NO));
+        }
+        if (article.getCategories() != null) {
+            for (CategoryModel category : article.getCategories()) {
+                document.add(new TextField(CATEGORY_FIELD, category.getName(), Field.Store.NO));
+            }
+        }
+
+        document.add(new NumericDocValuesField(QUANTITY_FIELD, article.getQuantity()));
+
+        return document;
+    }
+
+    private static Term idTerm(Long articleId) {
+        return new Term(ID_FIELD, String.valueOf(articleId));
+    }
+
+    // Deep pages cost as much as collecting every hit before them, so the window is bounded
+    private static void checkPage(int page, int size) {
+        if (page < 0 || size < 1 || size > Util.ARTICLE_SEARCH_MAX_PAGE_SIZE
+                || (long) (page + 1) * size > Util.ARTICLE_SEARCH_MAX_RESULTS) {
+            throw new InvalidPaginationException(Util.INVALID_SEARCH_PAGE);
+        }
+    }
+
+    private static Map<String, Float> fieldBoosts() {
+        Map<String, Float> boosts = new LinkedHashMap<>();
+        boosts.put(NAME_FIELD, 4f);
+        boosts.put(BRAND_FIELD, 2f);
+        boosts.put(CATEGORY_FIELD, 2f);
+        boosts.put(DESCRIPTION_FIELD, 1f);
+        return boosts;
+    }
+}
@@ -0,0 +1,141 @@
+package com.stock_service.stock.infrastructure.persistence.search;
+
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.spi.IArticleExportPersistencePort;
+import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the {@link ArticleSearchIndex} in line with the article table. Every interval the articles in the
+ * {@link ArticleSearchChangeLog} are read back from the database and published. A full pass on startup, and then
+ * every rebuild interval, picks up what the log cannot see, such as writes made by other instances. Both run on
+ * one thread, so a full pass never overwrites a newer incremental one.
+ */
+public class ArticleSearchIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArticleSearchIndexer.class);
+
+    static final int BATCH_SIZE = 500;
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final ArticleSearchIndex index;
+    private final ArticleSearchChangeLog changeLog;
+    private final IArticleModelPersistencePort articleModelPersistencePort;
+    private final IArticleExportPersistencePort articleExportPersistencePort;
+    private final Duration interval;
+    private final Duration rebuildInterval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("article-search-indexer").daemon().factory());
+
+    public ArticleSearchIndexer(ArticleSearchIndex index, ArticleSearchChangeLog changeLog,
+                                IArticleModelPersistencePort articleModelPersistencePort,
+                                IArticleExportPersistencePort articleExportPersistencePort,
+                                Duration interval, Duration rebuildInterval) {
+        this.index = index;
+        this.changeLog = changeLog;
+        this.articleModelPersistencePort = articleModelPersistencePort;
+        this.articleExportPersistencePort = articleExportPersistencePort;
+        this.interval = interval;
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    // The index on disk keeps answering searches while the first full pass runs in the background
+    public void start() {
+        scheduler.execute(this::rebuildQuietly);
+
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+        if (!rebuildInterval.isZero()) {
+            long rebuildIntervalMillis = rebuildInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::rebuildQuietly, rebuildIntervalMillis, rebuildIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void close() throws InterruptedException {
+        scheduler.shutdown();
+
+        if (!scheduler.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            logger.warn("Article search indexing did not stop within {} seconds", CLOSE_TIMEOUT_SECONDS);
+        }
+    }
+
+    void sync() {
+        Set<Long> articleIds = changeLog.drainArticles();
+        Set<Long> quantityIds = changeLog.drainQuantities();
+        quantityIds.removeAll(articleIds);
+
+        if (articleIds.isEmpty() && quantityIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (List<Long> batch : batches(articleIds)) {
+                index.upsert(articleModelPersistencePort.getAllArticlesByIds(batch));
+            }
+            for (List<Long> batch : batches(quantityIds)) {
+                index.updateQuantities(articleModelPersistencePort.getArticleQuantitiesByIds(batch));
+            }
+            index.publish();
+        } catch (RuntimeException e) {
+            // Recorded again so the next pass retries them
+            changeLog.articlesChanged(articleIds);
+            changeLog.quantitiesChanged(quantityIds);
+            throw e;
+        }
+    }
+
+    // Rows are upserted while the export cursor reads them, so memory does not grow with the catalog
+    void rebuild() {
+        List<ArticleModel> batch = new ArrayList<>(BATCH_SIZE);
+
+        articleExportPersistencePort.streamAllArticles(article -> {
+            batch.add(article);
+            if (batch.size() == BATCH_SIZE) {
+                index.upsert(batch);
+                batch.clear();
+            }
+        });
+
+        index.upsert(batch);
+        index.publish();
+    }
+
+    private static List<List<Long>> batches(Set<Long> articleIds) {
+        List<Long> ids = new ArrayList<>(articleIds);
+        List<List<Long>> batches = new ArrayList<>();
+
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            batches.add(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+        }
+
+        return batches;
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            logger.warn("Article search sync failed", e);
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // Searches keep the previous index until the next full pass
+            logger.warn("Article search rebuild failed", e);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.stock_service.stock.infrastructure.persistence.search;
+
+import com.stock_service.stock.domain.model.ArticleFacetsModel;
+import com.stock_service.stock.domain.model.ArticleFilterModel;
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
+import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
+import com.stock_service.stock.domain.util.Paginated;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Records every article write in the {@link ArticleSearchChangeLog} once it has committed, so the index never
+ * shows a write that was rolled back. New and saved articles are reindexed whole; stock changes only refresh the
+ * quantity used by the in-stock filter.
+ */
+public class ArticleSearchSyncAdapter implements IArticleModelPersistencePort {
+
+    private final IArticleModelPersistencePort delegate;
+    private final ArticleSearchChangeLog changeLog;
+
+    public ArticleSearchSyncAdapter(IArticleModelPersistencePort delegate, ArticleSearchChangeLog changeLog) {
+        this.delegate = delegate;
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public ArticleModel saveArticle(ArticleModel articleModel) {
+        ArticleModel savedArticle = delegate.saveArticle(articleModel);
+
+        if (savedArticle != null && savedArticle.getId() != null) {
+            afterCommit(changeLog::articlesChanged, List.of(savedArticle.getId()));
+        }
+
+        return savedArticle;
+    }
+
+    @Override
+    public void saveArticles(List<ArticleModel> articles) {
+        delegate.saveArticles(articles);
+
+        afterCommit(changeLog::articlesChanged, articles.stream().map(ArticleModel::getId).toList());
+    }
+
+    @Override
+    public Paginated<ArticleModel> getArticlesPaginated(int page, int size, String sort, boolean ascending, boolean categoryFirst, CountMode countMode) {
+        return delegate.getArticlesPaginated(page, size, sort, ascending, categoryFirst, countMode);
+    }
+
+    @Override
+    public CursorPaginated<ArticleModel> getArticlesByCursor(String cursor, int size, String sort, boolean ascending) {
+        return delegate.getArticlesByCursor(cursor, size, sort, ascending);
+    }
+
+    @Override
+    public boolean existByName(String name) {
+        return delegate.existByName(name);
+    }
+
+    @Override
+    public Set<String> getExistingNames(Collection<String> names) {
+        return delegate.getExistingNames(names);
+    }
+
+    @Override
+    public ArticleModel getArticleById(Long id) {
+        return delegate.getArticleById(id);
+    }
+
+    @Override
+    public int reduceArticleQuantity(Long articleId, int quantityToReduce) {
+        int updatedRows = delegate.reduceArticleQuantity(articleId, quantityToReduce);
+
+        if (updatedRows > 0) {
+            afterCommit(changeLog::quantitiesChanged, List.of(articleId));
+        }
+
+        return updatedRows;
+    }
+
+    @Override
+    public int updateArticleQuantity(Long articleId, int quantity, Long expectedVersion) {
+        int updatedRows = delegate.updateArticleQuantity(articleId, quantity, expectedVersion);
+
+        if (updatedRows > 0) {
+            afterCommit(changeLog::quantitiesChanged, List.of(articleId));
+        }
+
+        return updatedRows;
+    }
+
+    @Override
+    public int[] reduceArticleQuantities(List<ArticleStockModel> items) {
+        int[] updatedRows = delegate.reduceArticleQuantities(items);
+
+        afterCommit(changeLog::quantitiesChanged, items.stream().map(ArticleStockModel::getArticleId).toList());
+
+        return updatedRows;
+    }
+
+    @Override
+    public int[] increaseArticleQuantities(List<ArticleStockModel> items) {
+        int[] updatedRows = delegate.increaseArticleQuantities(items);
+
+        afterCommit(changeLog::quantitiesChanged, items.stream().map(ArticleStockModel::getArticleId).toList());
+
+        return updatedRows;
+    }
+
+    @Override
+    public Map<Long, Integer> getArticleQuantitiesByIds(Collection<Long> articleIds) {
+        return delegate.getArticleQuantitiesByIds(articleIds);
+    }
+
+    @Override
+    public Double getArticlePriceById(Long articleId) {
+        return delegate.getArticlePriceById(articleId);
+    }
+
+    @Override
+    public Map<Long, Double> getArticlePricesByIds(Collection<Long> articleIds) {
+        return delegate.getArticlePricesByIds(articleIds);
+    }
+
+    @Override
+    public Paginated<ArticleModel> getArticlesPaginatedByFilters(
+            int page, int size, String sort, boolean ascending, ArticleFilterModel filter, CountMode countMode) {
+        return delegate.getArticlesPaginatedByFilters(page, size, sort, ascending, filter, countMode);
+    }
+
+    @Override
+    public ArticleFacetsModel getArticleFacets(ArticleFilterModel filter) {
+        return delegate.getArticleFacets(filter);
+    }
+
+    @Override
+    public long countArticles() {
+        return delegate.countArticles();
+    }
+
+    @Override
+    public List<ArticleModel> getAllArticlesByIds(List<Long> articleIds) {
+        return delegate.getAllArticlesByIds(articleIds);
+    }
+
+    private static void afterCommit(Consumer<Collection<Long>> record, List<Long> articleIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record.accept(articleIds);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record.accept(articleIds);
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.stock_service.stock.infrastructure.scheduling;
+
+import com.stock_service.stock.domain.api.IReservationModelServicePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gives the units of expired reservations back to their articles. Each tick releases batches in their own
+ * transaction until a batch comes back short, so a backlog drains without one long transaction holding locks.
+ */
+public class ReservationSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationSweeper.class);
+
+    private final IReservationModelServicePort reservationModelServicePort;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("reservation-sweeper").daemon().factory());
+
+    public ReservationSweeper(IReservationModelServicePort reservationModelServicePort,
+                              TransactionTemplate transactionTemplate, int batchSize, Duration interval) {
+        this.reservationModelServicePort = reservationModelServicePort;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.interval = interval;
+    }
+
+    public void start() {
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::sweepQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void close() {
+        scheduler.shutdown();
+    }
+
+    void sweep() {
+        Integer found;
+        do {
+            found = transactionTemplate.execute(status -> reservationModelServicePort.releaseExpiredReservations(batchSize));
+        } while (found != null && found == batchSize);
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            // Expired rows stay in place and are picked up on the next tick
+            logger.warn("Reservation sweep failed", e);
+        }
+    }
+}
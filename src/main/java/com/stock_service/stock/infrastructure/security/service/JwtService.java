@@ -1,10 +1,18 @@
 package com.stock_service.stock.infrastructure.security.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.stock_service.stock.domain.util.Util;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +20,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -19,9 +29,41 @@ public class JwtService {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
 
+    private static final String CLAIMS_CACHE_NAME = "jwt.claims";
+    private static final String VERIFICATION_METRIC_NAME = "stock.jwt.verification";
+
+    private final MeterRegistry meterRegistry;
+
     @Value("${JWT_SECRET_KEY}")
     private String secretKey;
 
+    @Value("${jwt.claims-cache.maximum-size:10000}")
+    private long claimsCacheMaximumSize;
+
+    @Value("${jwt.claims-cache.max-ttl-seconds:900}")
+    private long claimsCacheMaxTtlSeconds;
+
+    private JwtParser jwtParser;
+    private Cache<String, Claims> claimsCache;
+    private Timer verificationTimer;
+
+    @PostConstruct
+    void init() {
+        jwtParser = Jwts.parserBuilder().setSigningKey(generateKey()).build();
+
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(new ClaimsExpiry(TimeUnit.SECONDS.toNanos(claimsCacheMaxTtlSeconds)))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, CLAIMS_CACHE_NAME);
+
+        verificationTimer = Timer.builder(VERIFICATION_METRIC_NAME)
+                .description("Time spent verifying the signature of tokens missing from the claims cache")
+                .register(meterRegistry);
+    }
+
     private Key generateKey() {
         byte[] secretAsBytes = Decoders.BASE64.decode(secretKey);
         return Keys.hmacShaKeyFor(secretAsBytes);
@@ -36,7 +78,39 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String jwt) {
-        return Jwts.parserBuilder().setSigningKey(generateKey()).build()
-                .parseClaimsJws(jwt).getBody();
+        return claimsCache.get(jwt, token -> verificationTimer.record(() -> jwtParser.parseClaimsJws(token).getBody()));
+    }
+
+    // Verified claims are kept until the token itself expires, never longer than the configured max TTL
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        ClaimsExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+-- Schema as it existed before migrations were introduced. Databases created earlier are
+-- baselined at this version (spring.flyway.baseline-on-migrate), so this script only runs on empty schemas.
+
+CREATE TABLE IF NOT EXISTS brand (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(50),
+    description VARCHAR(120),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_brand_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS category (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(50),
+    description VARCHAR(90),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_category_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS article (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    quantity    INT          NOT NULL,
+    price       DOUBLE       NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    id_brand    BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_article_brand FOREIGN KEY (id_brand) REFERENCES brand (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS article_category (
+    id_article  BIGINT NOT NULL,
+    id_category BIGINT NOT NULL,
+    CONSTRAINT fk_article_category_article FOREIGN KEY (id_article) REFERENCES article (id),
+    CONSTRAINT fk_article_category_category FOREIGN KEY (id_category) REFERENCES category (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,8 @@
+-- Lookups by article name (existByName, name sorted listings and keyset pages)
+CREATE INDEX idx_article_name ON article (name);
+
+-- Category filter: category name resolves to an id, then the join walks to the articles
+CREATE INDEX idx_article_category_category_article ON article_category (id_category, id_article);
+
+-- Brand filter, already ordered by name for the default listing sort
+CREATE INDEX idx_article_brand_name ON article (id_brand, name);
@@ -0,0 +1,3 @@
+-- Optimistic concurrency for article writes: every quantity change bumps the version,
+-- and read-modify-write updates only apply when the version they read is still current.
+ALTER TABLE article ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Hot-stock mode: the instance named in owner serves the article's stock from memory until expires_at,
+-- and stock_journal_checkpoint records the last journal segment each instance wrote back to article.quantity.
+CREATE TABLE IF NOT EXISTS article_stock_lease (
+    id_article BIGINT       NOT NULL,
+    owner      VARCHAR(100) NOT NULL,
+    expires_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (id_article),
+    CONSTRAINT fk_article_stock_lease_article FOREIGN KEY (id_article) REFERENCES article (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS stock_journal_checkpoint (
+    owner        VARCHAR(100) NOT NULL,
+    last_segment BIGINT       NOT NULL,
+    PRIMARY KEY (owner)
+) ENGINE = InnoDB;
@@ -0,0 +1,11 @@
+-- Stock holds: units are taken out of article.quantity when reserved and given back on release or expiry.
+-- Rows stay narrow and the expiry index lets the sweeper read only the expired head.
+CREATE TABLE IF NOT EXISTS stock_reservation (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    id_article BIGINT       NOT NULL,
+    quantity   INT          NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_stock_reservation_expires_at (expires_at),
+    CONSTRAINT fk_stock_reservation_article FOREIGN KEY (id_article) REFERENCES article (id)
+) ENGINE = InnoDB;
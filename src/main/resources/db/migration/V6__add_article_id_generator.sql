@@ -0,0 +1,11 @@
+-- Article ids come from a pooled table generator instead of AUTO_INCREMENT, so Hibernate can batch article
+-- inserts. Each allocation reserves a block of 50 ids; seeding 50 past the highest id keeps the first block
+-- clear of existing rows whether Hibernate stores the last used or the next value.
+CREATE TABLE IF NOT EXISTS id_generator (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT       NOT NULL,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'article', COALESCE(MAX(id), 0) + 50 FROM article;
@@ -0,0 +1,9 @@
+-- Price range filter
+CREATE INDEX idx_article_price ON article (price);
+
+-- Category filters probe article_category once per candidate article (EXISTS); with both columns the probe
+-- is answered from the index alone
+CREATE INDEX idx_article_category_article_category ON article_category (id_article, id_category);
+
+-- The in-stock filter (quantity > 0) gets no index of its own: most articles are in stock, so it would rarely
+-- be chosen, and every stock decrement would have to maintain it. It is checked on the rows the other indexes find
@@ -0,0 +1,4 @@
+-- A reservation belongs to the user who made it (the JWT subject); commit and release only match the owner's rows.
+-- Holds made before this column existed get an empty owner, so no one can commit or release them and the sweeper
+-- gives their units back when they expire.
+ALTER TABLE stock_reservation ADD COLUMN owner VARCHAR(255) NOT NULL DEFAULT '';
@@ -1,28 +1,49 @@
 package com.stock_service.stock.application.handler.articlehandler;
 
+import com.stock_service.stock.application.dto.articledto.ArticleFacetsResponse;
+import com.stock_service.stock.application.dto.articledto.ArticleFilterRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleQuantityRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleResponse;
+import com.stock_service.stock.application.dto.articledto.ArticleStockBatchRequest;
+import com.stock_service.stock.application.dto.articledto.ArticleStockRequest;
+import com.stock_service.stock.application.dto.articledto.FacetedArticlePage;
 import com.stock_service.stock.application.dto.categorydto.CategoryResponseForArticle;
 import com.stock_service.stock.application.mapper.articlemapper.IArticleRequestMapper;
 import com.stock_service.stock.application.mapper.articlemapper.IArticleResponseMapper;
 import com.stock_service.stock.domain.api.IArticleModelServicePort;
+import com.stock_service.stock.domain.exception.QueryCostExceededException;
+import com.stock_service.stock.domain.model.ArticleFacetsModel;
+import com.stock_service.stock.domain.model.ArticleFilterModel;
 import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
 import com.stock_service.stock.domain.model.BrandModel;
 import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.model.FacetCountModel;
+import com.stock_service.stock.domain.spi.IArticleExportPersistencePort;
 import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import com.stock_service.stock.domain.spi.IArticleSearchPort;
 import com.stock_service.stock.domain.spi.IBrandModelPersistencePort;
 import com.stock_service.stock.domain.spi.ICategoryModelPersistencePort;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.domain.util.QueryCostGovernor;
+import com.stock_service.stock.domain.util.Util;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -47,6 +68,15 @@ class ArticleHandlerTest {
     @Mock
     private IArticleModelPersistencePort articleModelPersistencePort;
 
+    @Mock
+    private IArticleExportPersistencePort articleExportPersistencePort;
+
+    @Mock
+    private IArticleSearchPort articleSearchPort;
+
+    @Spy
+    private QueryCostGovernor queryCostGovernor = QueryCostGovernor.defaults();
+
     @InjectMocks
     private ArticleHandler articleHandler;
 
@@ -112,10 +142,10 @@ class ArticleHandlerTest {
 
         Paginated<ArticleModel> paginatedArticleModel = new Paginated<>(List.of(articleModel), page, size, 1);
 
-        when(articleModelPersistencePort.getArticlesPaginated(page, size, sort, ascending)).thenReturn(paginatedArticleModel);
+        when(articleModelPersistencePort.getArticlesPaginated(page, size, sort, ascending, true, CountMode.EXACT)).thenReturn(paginatedArticleModel);
         when(articleResponseMapper.articleModelToArticleResponse(articleModel)).thenReturn(articleResponse);
 
-        Paginated<ArticleResponse> result = articleHandler.getArticlesPaginated(page, size, sort, ascending);
+        Paginated<ArticleResponse> result = articleHandler.getArticlesPaginated(page, size, sort, ascending, CountMode.EXACT, false);
 
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
@@ -124,7 +154,7 @@ class ArticleHandlerTest {
         assertEquals(size, result.getPageSize());
         assertEquals(1, result.getTotalPages());
 
-        verify(articleModelPersistencePort, times(1)).getArticlesPaginated(page, size, sort, ascending);
+        verify(articleModelPersistencePort, times(1)).getArticlesPaginated(page, size, sort, ascending, true, CountMode.EXACT);
         verify(articleResponseMapper, times(1)).articleModelToArticleResponse(articleModel);
     }
 
@@ -184,6 +214,38 @@ class ArticleHandlerTest {
         verify(articleModelServicePort, times(1)).reduceStock(1L, 5);
     }
 
+    @Test
+    @DisplayName("Should check availability of several articles correctly")
+    void shouldCheckAvailabilityOfSeveralArticlesCorrectly() {
+        List<ArticleStockRequest> items = List.of(new ArticleStockRequest(1L, 2), new ArticleStockRequest(2L, 3));
+        ArticleStockBatchRequest request = new ArticleStockBatchRequest(items);
+        List<ArticleStockModel> stockModels = List.of(new ArticleStockModel(1L, 2), new ArticleStockModel(2L, 3));
+        Map<Long, Boolean> availability = Map.of(1L, true, 2L, false);
+
+        when(articleRequestMapper.articleStockRequestsToArticleStockModels(items)).thenReturn(stockModels);
+        when(articleModelServicePort.isStockAvailableBatch(stockModels)).thenReturn(availability);
+
+        Map<Long, Boolean> result = articleHandler.checkAvailabilityArticles(request);
+
+        assertEquals(availability, result);
+        verify(articleModelServicePort, times(1)).isStockAvailableBatch(stockModels);
+    }
+
+    @Test
+    @DisplayName("Should reduce stock batch correctly")
+    void shouldReduceStockBatchCorrectly() {
+        List<ArticleStockRequest> items = List.of(new ArticleStockRequest(1L, 2), new ArticleStockRequest(2L, 3));
+        ArticleStockBatchRequest request = new ArticleStockBatchRequest(items);
+        List<ArticleStockModel> stockModels = List.of(new ArticleStockModel(1L, 2), new ArticleStockModel(2L, 3));
+
+        when(articleRequestMapper.articleStockRequestsToArticleStockModels(items)).thenReturn(stockModels);
+
+        articleHandler.reduceStockBatch(request);
+
+        verify(articleRequestMapper, times(1)).articleStockRequestsToArticleStockModels(items);
+        verify(articleModelServicePort, times(1)).reduceStockBatch(stockModels);
+    }
+
     @Test
     @DisplayName("Should get article price by ID correctly")
     void shouldGetArticlePriceByIdCorrectly() {
@@ -196,6 +258,20 @@ class ArticleHandlerTest {
         verify(articleModelServicePort, times(1)).getArticlePriceById(1L);
     }
 
+    @Test
+    @DisplayName("Should get article prices by IDs correctly")
+    void shouldGetArticlePricesByIdsCorrectly() {
+        List<Long> articleIds = List.of(1L, 2L);
+        Map<Long, Double> prices = Map.of(1L, 100.0, 2L, 50.0);
+
+        when(articleModelServicePort.getArticlePricesByIds(articleIds)).thenReturn(prices);
+
+        Map<Long, Double> result = articleHandler.getArticlePricesByIds(articleIds);
+
+        assertEquals(prices, result);
+        verify(articleModelServicePort, times(1)).getArticlePricesByIds(articleIds);
+    }
+
     @Test
     @DisplayName("Should return all articles by IDs correctly")
     void shouldReturnAllArticlesByIdsCorrectly() {
@@ -222,14 +298,17 @@ class ArticleHandlerTest {
         int size = 10;
         String sort = "name";
         boolean ascending = true;
-        String categoryName = "Smartphones";
-        String brandName = "Samsung";
+        ArticleFilterRequest filter = new ArticleFilterRequest();
+        filter.setCategoryName("Smartphones");
+        filter.setBrandName("Samsung");
         List<Long> articleIds = Arrays.asList(1L, 2L);
+        ArticleFilterModel filterModel = new ArticleFilterModel();
 
         Paginated<ArticleModel> paginatedArticleModel = new Paginated<>(List.of(articleModel), page, size, 1);
 
-        when(articleModelPersistencePort.getArticlesPaginatedByFilters(page, size, sort, ascending, categoryName,
-                brandName, articleIds)).thenReturn(paginatedArticleModel);
+        when(articleRequestMapper.articleFilterRequestToArticleFilterModel(filter, articleIds)).thenReturn(filterModel);
+        when(articleModelPersistencePort.getArticlesPaginatedByFilters(page, size, sort, ascending, filterModel,
+                CountMode.EXACT)).thenReturn(paginatedArticleModel);
 
         when(articleResponseMapper.articleModelToArticleResponse(articleModel)).thenReturn(articleResponse);
 
@@ -238,7 +317,7 @@ class ArticleHandlerTest {
 
         articleResponse.setCategories(List.of(categoryResponse1));
 
-        Paginated<ArticleResponse> result = articleHandler.getAllArticlesPaginatedByIds(page, size, sort, ascending, categoryName, brandName, articleIds);
+        Paginated<ArticleResponse> result = articleHandler.getAllArticlesPaginatedByIds(page, size, sort, ascending, filter, articleIds, CountMode.EXACT, false);
 
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
@@ -248,7 +327,266 @@ class ArticleHandlerTest {
         assertEquals(1, result.getTotalPages());
         assertEquals("Smartphones", result.getContent().get(0).getCategories().get(0).getName());
 
-        verify(articleModelPersistencePort, times(1)).getArticlesPaginatedByFilters(page, size, sort, ascending, categoryName, brandName, articleIds);
+        verify(articleModelPersistencePort, times(1)).getArticlesPaginatedByFilters(page, size, sort, ascending, filterModel, CountMode.EXACT);
         verify(articleResponseMapper, times(1)).articleModelToArticleResponse(articleModel);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return articles after the cursor with categories sorted by name")
+    void shouldReturnArticlesAfterCursorWithSortedCategories() {
+        CategoryResponseForArticle smartphones = new CategoryResponseForArticle();
+        smartphones.setName("Smartphones");
+        CategoryResponseForArticle audio = new CategoryResponseForArticle();
+        audio.setName("Audio");
+
+        articleResponse.setCategories(List.of(smartphones, audio));
+
+        CursorPaginated<ArticleModel> cursorArticleModel = new CursorPaginated<>(List.of(articleModel), 10, "next");
+
+        when(articleModelPersistencePort.getArticlesByCursor("cursor", 10, "price", false)).thenReturn(cursorArticleModel);
+        when(articleResponseMapper.articleModelToArticleResponse(articleModel)).thenReturn(articleResponse);
+
+        CursorPaginated<ArticleResponse> result = articleHandler.getArticlesByCursor("cursor", 10, "price", false);
+
+        assertEquals(List.of(articleResponse), result.getContent());
+        assertEquals(List.of(audio, smartphones), result.getContent().get(0).getCategories());
+        assertEquals("next", result.getNextCursor());
+        verify(articleModelPersistencePort, never()).getArticlesPaginated(anyInt(), anyInt(), any(), anyBoolean(), anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("Should hand every exported article to the consumer with its categories sorted by name")
+    void shouldExportArticlesWithSortedCategories() {
+        CategoryResponseForArticle tools = new CategoryResponseForArticle();
+        tools.setName("Tools");
+        CategoryResponseForArticle garden = new CategoryResponseForArticle();
+        garden.setName("Garden");
+        articleResponse.setCategories(List.of(tools, garden));
+
+        doAnswer(invocation -> {
+            Consumer<ArticleModel> consumer = invocation.getArgument(0);
+            consumer.accept(articleModel);
+            return null;
+        }).when(articleExportPersistencePort).streamAllArticles(any());
+        when(articleResponseMapper.articleModelToArticleResponse(articleModel)).thenReturn(articleResponse);
+
+        List<ArticleResponse> exported = new ArrayList<>();
+        articleHandler.exportArticles(exported::add);
+
+        assertEquals(1, exported.size());
+        assertEquals(List.of("Garden", "Tools"),
+                exported.get(0).getCategories().stream().map(CategoryResponseForArticle::getName).toList());
+    }
+
+    @Test
+    @DisplayName("Should load searched articles in rank order and drop hits that ran out of stock since indexing")
+    void shouldLoadSearchedArticlesInRankOrder() {
+        ArticleModel laptop = new ArticleModel(7L, "Laptop", "Light", 3, 1500.0, null, List.of());
+        ArticleModel sleeve = new ArticleModel(9L, "Laptop sleeve", "Padded", 0, 20.0, null, List.of());
+        ArticleModel stand = new ArticleModel(4L, "Laptop stand", "Aluminium", 8, 40.0, null, List.of());
+        ArticleResponse laptopResponse = new ArticleResponse();
+        laptopResponse.setCategories(List.of());
+        ArticleResponse standResponse = new ArticleResponse();
+        standResponse.setCategories(List.of());
+
+        when(articleSearchPort.searchArticleIds("laptop", true, 0, 3))
+                .thenReturn(new Paginated<>(List.of(7L, 9L, 4L), 0, 3, 5));
+        when(articleModelPersistencePort.getAllArticlesByIds(List.of(7L, 9L, 4L))).thenReturn(List.of(stand, laptop, sleeve));
+        when(articleResponseMapper.articleModelToArticleResponse(laptop)).thenReturn(laptopResponse);
+        when(articleResponseMapper.articleModelToArticleResponse(stand)).thenReturn(standResponse);
+
+        Paginated<ArticleResponse> result = articleHandler.searchArticles("laptop", true, 0, 3);
+
+        assertEquals(List.of(laptopResponse, standResponse), result.getContent());
+        assertEquals(5, result.getTotalElements());
+        assertTrue(result.isHasNext());
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when the search has no hits")
+    void shouldSkipDatabaseWhenSearchHasNoHits() {
+        when(articleSearchPort.searchArticleIds("nothing", false, 0, 10))
+                .thenReturn(new Paginated<>(List.of(), 0, 10, 0));
+
+        Paginated<ArticleResponse> result = articleHandler.searchArticles("nothing", false, 0, 10);
+
+        assertTrue(result.getContent().isEmpty());
+        verify(articleModelPersistencePort, never()).getAllArticlesByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should add the facet counts of the same filters to the page when asked")
+    void shouldAddFacetCountsWhenAsked() {
+        List<Long> articleIds = List.of(1L, 2L);
+        ArticleFacetsModel facetsModel = new ArticleFacetsModel(
+                List.of(new FacetCountModel(1L, "Samsung", 2)), List.of(new FacetCountModel(3L, "Phones", 2)));
+        ArticleFacetsResponse facetsResponse = new ArticleFacetsResponse();
+        articleResponse.setCategories(List.of());
+        ArticleFilterRequest filter = new ArticleFilterRequest();
+        filter.setBrandName("Samsung");
+        ArticleFilterModel filterModel = new ArticleFilterModel();
+
+        when(articleRequestMapper.articleFilterRequestToArticleFilterModel(filter, articleIds)).thenReturn(filterModel);
+        when(articleModelPersistencePort.getArticlesPaginatedByFilters(0, 10, "name", true, filterModel,
+                CountMode.NONE)).thenReturn(new Paginated<>(List.of(articleModel), 0, 10, Paginated.UNKNOWN_TOTAL, false));
+        when(articleResponseMapper.articleModelToArticleResponse(articleModel)).thenReturn(articleResponse);
+        when(articleModelPersistencePort.getArticleFacets(filterModel)).thenReturn(facetsModel);
+        when(articleResponseMapper.articleFacetsModelToArticleFacetsResponse(facetsModel)).thenReturn(facetsResponse);
+
+        Paginated<ArticleResponse> result = articleHandler.getAllArticlesPaginatedByIds(
+                0, 10, "name", true, filter, articleIds, CountMode.NONE, true);
+
+        FacetedArticlePage facetedPage = assertInstanceOf(FacetedArticlePage.class, result);
+        assertSame(facetsResponse, facetedPage.getFacets());
+        assertEquals(List.of(articleResponse), facetedPage.getContent());
+        assertFalse(facetedPage.isHasNext());
+    }
+
+    @Test
+    @DisplayName("Should not count facets unless asked")
+    void shouldNotCountFacetsUnlessAsked() {
+        articleResponse.setCategories(List.of());
+        when(articleModelPersistencePort.getArticlesPaginated(0, 10, "name", true, true, CountMode.EXACT))
+                .thenReturn(new Paginated<>(List.of(articleModel), 0, 10, 1));
+        when(articleResponseMapper.articleModelToArticleResponse(articleModel)).thenReturn(articleResponse);
+
+        Paginated<ArticleResponse> result = articleHandler.getArticlesPaginated(0, 10, "name", true, CountMode.EXACT, false);
+
+        assertFalse(result instanceof FacetedArticlePage);
+        verify(articleModelPersistencePort, never()).getArticleFacets(any());
+    }
+
+    @Test
+    @DisplayName("Should clamp an oversized page to the maximum page size")
+    void shouldClampOversizedPage() {
+        articleResponse.setCategories(List.of());
+        when(articleModelPersistencePort.getArticlesPaginated(0, Util.QUERY_MAX_PAGE_SIZE, "name", true, true, CountMode.EXACT))
+                .thenReturn(new Paginated<>(List.of(articleModel), 0, Util.QUERY_MAX_PAGE_SIZE, 1));
+        when(articleResponseMapper.articleModelToArticleResponse(articleModel)).thenReturn(articleResponse);
+
+        Paginated<ArticleResponse> result = articleHandler.getArticlesPaginated(0, 1_000_000, "name", true, CountMode.EXACT, false);
+
+        assertEquals(Util.QUERY_MAX_PAGE_SIZE, result.getPageSize());
+        verify(articleModelPersistencePort).getArticlesPaginated(0, Util.QUERY_MAX_PAGE_SIZE, "name", true, true, CountMode.EXACT);
+    }
+
+    @Test
+    @DisplayName("Should reject a deep offset page before it reaches the database")
+    void shouldRejectDeepOffsetPage() {
+        assertThrows(QueryCostExceededException.class,
+                () -> articleHandler.getArticlesPaginated(10_000, 100, "name", true, CountMode.EXACT, false));
+
+        verify(articleModelPersistencePort, never()).getArticlesPaginated(anyInt(), anyInt(), any(), anyBoolean(), anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("Should charge a category-ordered page for the whole catalog it groups")
+    void shouldChargeCategoryOrderedPageForWholeCatalog() {
+        when(articleModelPersistencePort.countArticles()).thenReturn(Util.QUERY_MAX_COST);
+
+        assertThrows(QueryCostExceededException.class,
+                () -> articleHandler.getArticlesPaginated(0, 10, "name", true, CountMode.EXACT, false));
+
+        verify(articleModelPersistencePort, never()).getArticlesPaginated(anyInt(), anyInt(), any(), anyBoolean(), anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("Should charge catalog facets for both aggregates over the catalog")
+    void shouldChargeCatalogFacets() {
+        when(articleModelPersistencePort.countArticles()).thenReturn(Util.QUERY_MAX_COST / 3);
+        articleResponse.setCategories(List.of());
+        when(articleModelPersistencePort.getArticlesPaginated(0, 10, "name", true, true, CountMode.EXACT))
+                .thenReturn(new Paginated<>(List.of(articleModel), 0, 10, 1));
+        when(articleResponseMapper.articleModelToArticleResponse(articleModel)).thenReturn(articleResponse);
+
+        articleHandler.getArticlesPaginated(0, 10, "name", true, CountMode.EXACT, false);
+
+        assertThrows(QueryCostExceededException.class,
+                () -> articleHandler.getArticlesPaginated(0, 10, "name", true, CountMode.EXACT, true));
+        verify(articleModelPersistencePort, never()).getArticleFacets(any());
+    }
+
+    @Test
+    @DisplayName("Should charge filtered facets for the whole catalog unless an ID list bounds them")
+    void shouldChargeFilteredFacetsByCandidateRows() {
+        ArticleFilterRequest filter = new ArticleFilterRequest();
+        ArticleFilterModel filterModel = new ArticleFilterModel();
+        when(articleRequestMapper.articleFilterRequestToArticleFilterModel(eq(filter), any())).thenReturn(filterModel);
+        when(articleModelPersistencePort.countArticles()).thenReturn(Util.QUERY_MAX_COST);
+
+        assertThrows(QueryCostExceededException.class, () -> articleHandler.getAllArticlesPaginatedByIds(
+                0, 10, "name", true, filter, null, CountMode.NONE, true));
+
+        when(articleModelPersistencePort.getArticlesPaginatedByFilters(0, 10, "name", true, filterModel, CountMode.NONE))
+                .thenReturn(new Paginated<>(List.of(), 0, 10, Paginated.UNKNOWN_TOTAL, false));
+        when(articleModelPersistencePort.getArticleFacets(filterModel))
+                .thenReturn(new ArticleFacetsModel(List.of(), List.of()));
+
+        articleHandler.getAllArticlesPaginatedByIds(0, 10, "name", true, filter, List.of(1L, 2L), CountMode.NONE, true);
+
+        verify(articleModelPersistencePort).getArticleFacets(filterModel);
+        verify(articleModelPersistencePort, times(1)).countArticles();
+    }
+
+    @Test
+    @DisplayName("Should read article prices in chunks and merge them")
+    void shouldReadPricesInChunks() {
+        List<Long> articleIds = LongStream.rangeClosed(1, Util.QUERY_ID_CHUNK_SIZE + 1).boxed().toList();
+        List<Long> firstChunk = articleIds.subList(0, Util.QUERY_ID_CHUNK_SIZE);
+        List<Long> secondChunk = List.of((long) Util.QUERY_ID_CHUNK_SIZE + 1);
+
+        when(articleModelServicePort.getArticlePricesByIds(firstChunk)).thenReturn(Map.of(1L, 10.0));
+        when(articleModelServicePort.getArticlePricesByIds(secondChunk)).thenReturn(Map.of(201L, 20.0));
+
+        Map<Long, Double> result = articleHandler.getArticlePricesByIds(articleIds);
+
+        assertEquals(Map.of(1L, 10.0, 201L, 20.0), result);
+        verify(articleModelServicePort, times(2)).getArticlePricesByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject a multi-get with more IDs than allowed")
+    void shouldRejectTooManyIds() {
+        List<Long> articleIds = LongStream.rangeClosed(1, Util.QUERY_MAX_IDS + 1).boxed().toList();
+
+        QueryCostExceededException exception = assertThrows(QueryCostExceededException.class,
+                () -> articleHandler.getAllArticlesByIds(articleIds));
+
+        assertEquals(Util.QUERY_TOO_MANY_IDS + Util.QUERY_MAX_IDS, exception.getMessage());
+        verifyNoInteractions(articleModelServicePort);
+    }
+
+    @Test
+    @DisplayName("Should return no prices and no articles for a missing ID list")
+    void shouldReturnNothingForMissingIds() {
+        assertEquals(Map.of(), articleHandler.getArticlePricesByIds(null));
+        assertEquals(List.of(), articleHandler.getAllArticlesByIds(null));
+
+        verifyNoInteractions(articleModelServicePort);
+    }
+
+    @Test
+    @DisplayName("Should check the category and brand ID lists of a filter each against the limit")
+    void shouldCheckFilterIdListsSeparately() {
+        List<Long> categoryIds = LongStream.rangeClosed(1, 600).boxed().toList();
+        List<Long> brandIds = LongStream.rangeClosed(1, 600).boxed().toList();
+        ArticleFilterRequest filter = new ArticleFilterRequest();
+        ArticleFilterModel filterModel = new ArticleFilterModel();
+        filterModel.setCategoryIds(categoryIds);
+        filterModel.setBrandIds(brandIds);
+
+        when(articleRequestMapper.articleFilterRequestToArticleFilterModel(filter, null)).thenReturn(filterModel);
+        when(articleModelPersistencePort.getArticlesPaginatedByFilters(0, 10, "name", true, filterModel, CountMode.NONE))
+                .thenReturn(new Paginated<>(List.of(), 0, 10, Paginated.UNKNOWN_TOTAL, false));
+
+        Paginated<ArticleResponse> result = articleHandler.getAllArticlesPaginatedByIds(
+                0, 10, "name", true, filter, null, CountMode.NONE, false);
+
+        assertTrue(result.getContent().isEmpty());
+
+        filterModel.setCategoryIds(LongStream.rangeClosed(1, Util.QUERY_MAX_IDS + 1).boxed().toList());
+
+        assertThrows(QueryCostExceededException.class, () -> articleHandler.getAllArticlesPaginatedByIds(
+                0, 10, "name", true, filter, null, CountMode.NONE, false));
+    }
+}
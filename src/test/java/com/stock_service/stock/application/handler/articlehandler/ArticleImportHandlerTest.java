@@ -0,0 +1,167 @@
+package com.stock_service.stock.application.handler.articlehandler;
+
+import com.stock_service.stock.application.dto.articledto.ArticleImportError;
+import com.stock_service.stock.application.dto.articledto.ArticleImportResponse;
+import com.stock_service.stock.application.dto.articledto.ArticleRequest;
+import com.stock_service.stock.application.mapper.articlemapper.IArticleRequestMapper;
+import com.stock_service.stock.domain.api.IArticleModelServicePort;
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.BrandModel;
+import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.spi.IBrandModelPersistencePort;
+import com.stock_service.stock.domain.spi.ICategoryModelPersistencePort;
+import com.stock_service.stock.domain.util.Util;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ArticleImportHandlerTest {
+
+    private static final long BRAND_ID = 1L;
+    private static final long CATEGORY_ID = 2L;
+
+    @Mock
+    private IArticleModelServicePort articleModelServicePort;
+
+    @Mock
+    private IArticleRequestMapper articleRequestMapper;
+
+    @Mock
+    private IBrandModelPersistencePort brandModelPersistencePort;
+
+    @Mock
+    private ICategoryModelPersistencePort categoryModelPersistencePort;
+
+    private ArticleImportHandler articleImportHandler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        articleImportHandler = new ArticleImportHandler(articleModelServicePort, articleRequestMapper,
+                brandModelPersistencePort, categoryModelPersistencePort,
+                Validation.buildDefaultValidatorFactory().getValidator());
+
+        when(articleRequestMapper.articleRequestToArticleModel(any())).thenAnswer(invocation -> {
+            ArticleRequest request = invocation.getArgument(0);
+            ArticleModel article = new ArticleModel();
+            article.setName(request.getName());
+            return article;
+        });
+        when(brandModelPersistencePort.getBrandsByIds(anyList()))
+                .thenReturn(List.of(new BrandModel(BRAND_ID, "Brand", "Brand description")));
+        when(categoryModelPersistencePort.getCategoriesByIds(anyList()))
+                .thenReturn(List.of(new CategoryModel(CATEGORY_ID, "Category", "Category description")));
+    }
+
+    @Test
+    @DisplayName("Should save valid records in chunks and look each brand and category up once per import")
+    void shouldSaveValidRecordsInChunksWithCachedLookups() {
+        List<Object> records = new ArrayList<>();
+        for (int i = 0; i <= Util.ARTICLE_IMPORT_CHUNK_SIZE; i++) {
+            records.add(request("Article" + i, BRAND_ID, CATEGORY_ID));
+        }
+
+        ArticleImportResponse response = articleImportHandler.importArticles(records(records.toArray()));
+
+        assertEquals(Util.ARTICLE_IMPORT_CHUNK_SIZE + 1, response.getImported());
+        assertEquals(0, response.getRejected());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArticleModel>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(articleModelServicePort, times(2)).importArticles(chunks.capture());
+        assertEquals(Util.ARTICLE_IMPORT_CHUNK_SIZE, chunks.getAllValues().get(0).size());
+        assertEquals(1, chunks.getAllValues().get(1).size());
+        assertEquals(BRAND_ID, chunks.getAllValues().get(1).get(0).getBrand().getId());
+
+        verify(brandModelPersistencePort, times(1)).getBrandsByIds(List.of(BRAND_ID));
+        verify(categoryModelPersistencePort, times(1)).getCategoriesByIds(List.of(CATEGORY_ID));
+    }
+
+    @Test
+    @DisplayName("Should report each rejected record with its position and keep importing the rest")
+    void shouldReportRejectedRecordsAndKeepImporting() {
+        when(articleModelServicePort.importArticles(anyList())).thenReturn(Set.of(1));
+
+        ArticleImportResponse response = articleImportHandler.importArticles(records(
+                request("Laptop", BRAND_ID, CATEGORY_ID),
+                new IllegalArgumentException("unexpected token"),
+                request("", BRAND_ID, CATEGORY_ID),
+                request("Mouse", 9L, CATEGORY_ID),
+                request("Keyboard", BRAND_ID, 9L),
+                request("Monitor", BRAND_ID, CATEGORY_ID)
+        ));
+
+        assertEquals(1, response.getImported());
+        assertEquals(5, response.getRejected());
+
+        List<ArticleImportError> errors = response.getErrors();
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L), errors.stream().map(ArticleImportError::getRecord).toList());
+        assertEquals(Util.ARTICLE_IMPORT_MALFORMED_RECORD + "unexpected token", errors.get(0).getMessage());
+        assertTrue(errors.get(1).getMessage().startsWith("name: "));
+        assertEquals(Util.ARTICLE_IMPORT_BRAND_NOT_FOUND, errors.get(2).getMessage());
+        assertEquals(Util.ARTICLE_IMPORT_CATEGORY_NOT_FOUND, errors.get(3).getMessage());
+        assertEquals(Util.ARTICLE_NAME_ALREADY_EXISTS, errors.get(4).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should count every rejected record but report only the first ones")
+    void shouldCapReportedErrors() {
+        Object[] records = new Object[Util.ARTICLE_IMPORT_MAX_REPORTED_ERRORS + 50];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = request("", BRAND_ID, CATEGORY_ID);
+        }
+
+        ArticleImportResponse response = articleImportHandler.importArticles(records(records));
+
+        assertEquals(records.length, response.getRejected());
+        assertEquals(Util.ARTICLE_IMPORT_MAX_REPORTED_ERRORS, response.getErrors().size());
+        verify(articleModelServicePort, never()).importArticles(anyList());
+    }
+
+    private static ArticleRequest request(String name, Long brandId, Long categoryId) {
+        ArticleRequest request = new ArticleRequest();
+        request.setName(name);
+        request.setDescription("Description");
+        request.setQuantity(5);
+        request.setPrice(10.0);
+        request.setBrandId(brandId);
+        request.setCategoryIds(List.of(categoryId));
+        return request;
+    }
+
+    // Reader stand-in: an exception in the list is thrown from next(), as a malformed record would be
+    private static Iterator<ArticleRequest> records(Object... records) {
+        Iterator<Object> iterator = List.of(records).iterator();
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public ArticleRequest next() {
+                Object record = iterator.next();
+                if (record instanceof IllegalArgumentException error) {
+                    throw error;
+                }
+                return (ArticleRequest) record;
+            }
+        };
+    }
+}
@@ -6,13 +6,17 @@ import com.stock_service.stock.application.mapper.brandmapper.IBrandRequestMappe
 import com.stock_service.stock.application.mapper.brandmapper.IBrandResponseMapper;
 import com.stock_service.stock.domain.api.IBrandModelServicePort;
 import com.stock_service.stock.domain.model.BrandModel;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.domain.util.QueryCostGovernor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.util.List;
 
@@ -31,6 +35,9 @@ class BrandHandlerTest {
     @Mock
     private IBrandResponseMapper brandResponseMapper;
 
+    @Spy
+    private QueryCostGovernor queryCostGovernor = QueryCostGovernor.defaults();
+
     @InjectMocks
     private BrandHandler brandHandler;
 
@@ -77,10 +84,10 @@ class BrandHandlerTest {
 
         paginatedBrandModel = new Paginated<>(List.of(brandModel), page, size, 1);
 
-        when(brandModelServicePort.getBrandsPaginated(page, size, sort, ascending)).thenReturn(paginatedBrandModel);
+        when(brandModelServicePort.getBrandsPaginated(page, size, sort, ascending, CountMode.EXACT)).thenReturn(paginatedBrandModel);
         when(brandResponseMapper.brandModelToBrandResponse(brandModel)).thenReturn(brandResponse);
 
-        Paginated<BrandResponse> result = brandHandler.getBrandsPaginated(page, size, sort, ascending);
+        Paginated<BrandResponse> result = brandHandler.getBrandsPaginated(page, size, sort, ascending, CountMode.EXACT);
 
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
@@ -89,7 +96,22 @@ class BrandHandlerTest {
         assertEquals(size, result.getPageSize());
         assertEquals(1, result.getTotalPages());
 
-        verify(brandModelServicePort, times(1)).getBrandsPaginated(page, size, sort, ascending);
+        verify(brandModelServicePort, times(1)).getBrandsPaginated(page, size, sort, ascending, CountMode.EXACT);
         verify(brandResponseMapper, times(1)).brandModelToBrandResponse(brandModel);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return brands after the cursor with the next cursor")
+    void shouldReturnBrandsAfterCursor() {
+        CursorPaginated<BrandModel> cursorBrandModel = new CursorPaginated<>(List.of(brandModel), 10, "next");
+
+        when(brandModelServicePort.getBrandsByCursor(null, 10, "name", true)).thenReturn(cursorBrandModel);
+        when(brandResponseMapper.brandModelToBrandResponse(brandModel)).thenReturn(brandResponse);
+
+        CursorPaginated<BrandResponse> result = brandHandler.getBrandsByCursor(null, 10, "name", true);
+
+        assertEquals(List.of(brandResponse), result.getContent());
+        assertEquals(10, result.getPageSize());
+        assertEquals("next", result.getNextCursor());
+    }
+}
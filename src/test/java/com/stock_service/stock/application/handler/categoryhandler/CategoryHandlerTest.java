@@ -6,13 +6,17 @@ import com.stock_service.stock.application.mapper.categorymapper.ICategoryReques
 import com.stock_service.stock.application.mapper.categorymapper.ICategoryResponseMapper;
 import com.stock_service.stock.domain.api.ICategoryModelServicePort;
 import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.domain.util.QueryCostGovernor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.util.List;
 
@@ -30,6 +34,9 @@ class CategoryHandlerTest {
     @Mock
     private  ICategoryResponseMapper categoryResponseMapper;
 
+    @Spy
+    private QueryCostGovernor queryCostGovernor = QueryCostGovernor.defaults();
+
     @InjectMocks
     CategoryHandler categoryHandler;
 
@@ -77,13 +84,13 @@ class CategoryHandlerTest {
 
         paginatedCategoryModel = new Paginated<>(List.of(categoryModel), page, size, 1);
 
-        when(categoryModelServicePort.getCategoriesPaginated(page, size, sort, ascending))
+        when(categoryModelServicePort.getCategoriesPaginated(page, size, sort, ascending, CountMode.EXACT))
                 .thenReturn(paginatedCategoryModel);
 
         when(categoryResponseMapper.categoryModelToCategoryResponse(categoryModel))
                 .thenReturn(categoryResponse);
 
-        Paginated<CategoryResponse> result = categoryHandler.getCategories(page, size, sort, ascending);
+        Paginated<CategoryResponse> result = categoryHandler.getCategories(page, size, sort, ascending, CountMode.EXACT);
 
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
@@ -93,7 +100,7 @@ class CategoryHandlerTest {
         assertEquals(1, result.getTotalPages());
 
         verify(categoryModelServicePort, times(1))
-                .getCategoriesPaginated(page, size, sort, ascending);
+                .getCategoriesPaginated(page, size, sort, ascending, CountMode.EXACT);
 
         verify(categoryResponseMapper, times(1))
                 .categoryModelToCategoryResponse(categoryModel);
@@ -115,4 +122,18 @@ class CategoryHandlerTest {
 
         verify(categoryModelServicePort, times(1)).getCategoryNamesByArticleId(articleId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return categories after the cursor with the next cursor")
+    void shouldReturnCategoriesAfterCursor() {
+        CursorPaginated<CategoryModel> cursorCategoryModel = new CursorPaginated<>(List.of(categoryModel), 10, "next");
+
+        when(categoryModelServicePort.getCategoriesByCursor("cursor", 10, "name", true)).thenReturn(cursorCategoryModel);
+        when(categoryResponseMapper.categoryModelToCategoryResponse(categoryModel)).thenReturn(categoryResponse);
+
+        CursorPaginated<CategoryResponse> result = categoryHandler.getCategoriesByCursor("cursor", 10, "name", true);
+
+        assertEquals(List.of(categoryResponse), result.getContent());
+        assertEquals("next", result.getNextCursor());
+    }
+}
@@ -0,0 +1,79 @@
+package com.stock_service.stock.application.handler.reservationhandler;
+
+import com.stock_service.stock.application.dto.reservationdto.ReservationRequest;
+import com.stock_service.stock.application.dto.reservationdto.ReservationResponse;
+import com.stock_service.stock.application.mapper.reservationmapper.IReservationResponseMapper;
+import com.stock_service.stock.domain.api.IReservationModelServicePort;
+import com.stock_service.stock.domain.model.ReservationModel;
+import com.stock_service.stock.domain.util.Util;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReservationHandlerTest {
+
+    private static final String OWNER = "client@mail.com";
+
+    @Mock
+    private IReservationModelServicePort reservationModelServicePort;
+
+    @Mock
+    private IReservationResponseMapper reservationResponseMapper;
+
+    @InjectMocks
+    private ReservationHandler reservationHandler;
+
+    private ReservationModel reservationModel;
+    private ReservationResponse reservationResponse;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        reservationModel = new ReservationModel(7L, 1L, 3, Instant.parse("2024-11-29T12:15:00Z"), OWNER);
+        reservationResponse = new ReservationResponse();
+        reservationResponse.setId(7L);
+    }
+
+    @Test
+    @DisplayName("Should reserve stock with the requested TTL")
+    void shouldReserveStockWithRequestedTtl() {
+        when(reservationModelServicePort.reserveStock(1L, 3, Duration.ofSeconds(60), OWNER)).thenReturn(reservationModel);
+        when(reservationResponseMapper.reservationModelToReservationResponse(reservationModel)).thenReturn(reservationResponse);
+
+        ReservationResponse result = reservationHandler.reserveStock(new ReservationRequest(1L, 3, 60L), OWNER);
+
+        assertEquals(reservationResponse, result);
+    }
+
+    @Test
+    @DisplayName("Should reserve stock with the default TTL when none is requested")
+    void shouldReserveStockWithDefaultTtl() {
+        when(reservationModelServicePort.reserveStock(1L, 3, Duration.ofSeconds(Util.RESERVATION_DEFAULT_TTL_SECONDS), OWNER))
+                .thenReturn(reservationModel);
+        when(reservationResponseMapper.reservationModelToReservationResponse(reservationModel)).thenReturn(reservationResponse);
+
+        reservationHandler.reserveStock(new ReservationRequest(1L, 3, null), OWNER);
+
+        verify(reservationModelServicePort).reserveStock(1L, 3, Duration.ofSeconds(Util.RESERVATION_DEFAULT_TTL_SECONDS), OWNER);
+    }
+
+    @Test
+    @DisplayName("Should commit and release reservations through the service port on behalf of the owner")
+    void shouldCommitAndReleaseReservations() {
+        reservationHandler.commitReservation(7L, OWNER);
+        reservationHandler.releaseReservation(8L, OWNER);
+
+        verify(reservationModelServicePort).commitReservation(7L, OWNER);
+        verify(reservationModelServicePort).releaseReservation(8L, OWNER);
+    }
+}
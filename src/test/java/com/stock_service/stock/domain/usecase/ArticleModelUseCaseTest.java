@@ -1,18 +1,26 @@
 package com.stock_service.stock.domain.usecase;
 
+import com.stock_service.stock.domain.exception.ConcurrentUpdateException;
+import com.stock_service.stock.domain.exception.InsufficientStockBatchException;
 import com.stock_service.stock.domain.exception.InsufficientStockException;
 import com.stock_service.stock.domain.exception.NameAlreadyExistsException;
+import com.stock_service.stock.domain.exception.NotFoundException;
 import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
 import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import com.stock_service.stock.domain.spi.IHotStockPort;
+import com.stock_service.stock.domain.util.RetryPolicy;
 import com.stock_service.stock.domain.util.Util;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -22,8 +30,12 @@ class ArticleModelUseCaseTest {
     @Mock
     private IArticleModelPersistencePort articleModelPersistencePort;
 
+    @Mock
+    private RetryPolicy.Listener retryListener;
+
+    @Mock
+    private IHotStockPort hotStockPort;
 
-    @InjectMocks
     private ArticleModelUseCase articleModelUseCase;
 
     ArticleModel articleModel;
@@ -32,11 +44,15 @@ class ArticleModelUseCaseTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
 
+        articleModelUseCase = new ArticleModelUseCase(articleModelPersistencePort,
+                new RetryPolicy(3, 0, 0, retryListener));
+
         articleModel = new ArticleModel();
         articleModel.setId(1L);
         articleModel.setName("ArticleName");
         articleModel.setQuantity(10);
         articleModel.setPrice(100.0);
+        articleModel.setVersion(3L);
     }
 
     @Test
@@ -73,13 +89,12 @@ class ArticleModelUseCaseTest {
         Long articleId = 1L;
         int quantityToReduce = 5;
 
-        when(articleModelPersistencePort.getArticleById(articleId)).thenReturn(articleModel);
-        doNothing().when(articleModelPersistencePort).reduceArticleQuantity(articleId, quantityToReduce);
+        when(articleModelPersistencePort.reduceArticleQuantity(articleId, quantityToReduce)).thenReturn(1);
 
         articleModelUseCase.reduceStock(articleId, quantityToReduce);
 
-        verify(articleModelPersistencePort).getArticleById(articleId);
         verify(articleModelPersistencePort).reduceArticleQuantity(articleId, quantityToReduce);
+        verify(articleModelPersistencePort, never()).getArticleById(articleId);
     }
 
     @Test
@@ -88,6 +103,7 @@ class ArticleModelUseCaseTest {
         Long articleId = 1L;
         int quantityToReduce = 15;
 
+        when(articleModelPersistencePort.reduceArticleQuantity(articleId, quantityToReduce)).thenReturn(0);
         when(articleModelPersistencePort.getArticleById(articleId)).thenReturn(articleModel);
 
         InsufficientStockException exception = assertThrows(
@@ -95,7 +111,92 @@ class ArticleModelUseCaseTest {
                 () -> articleModelUseCase.reduceStock(articleId, quantityToReduce)
         );
         assertEquals(Util.INSUFFICIENT_STOCK, exception.getMessage());
-        verify(articleModelPersistencePort, never()).reduceArticleQuantity(articleId, quantityToReduce);
+        verify(articleModelPersistencePort).reduceArticleQuantity(articleId, quantityToReduce);
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when reducing stock of a missing article")
+    void shouldThrowNotFoundExceptionWhenReducingStockOfMissingArticle() {
+        Long articleId = 1L;
+        int quantityToReduce = 5;
+
+        when(articleModelPersistencePort.reduceArticleQuantity(articleId, quantityToReduce)).thenReturn(0);
+        when(articleModelPersistencePort.getArticleById(articleId)).thenReturn(null);
+
+        NotFoundException exception = assertThrows(
+                NotFoundException.class,
+                () -> articleModelUseCase.reduceStock(articleId, quantityToReduce)
+        );
+        assertEquals(Util.ARTICLE_NOT_FOUND, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should check stock availability of several articles with a single lookup")
+    void shouldCheckStockAvailabilityOfSeveralArticlesWithSingleLookup() {
+        List<ArticleStockModel> items = List.of(
+                new ArticleStockModel(1L, 5),
+                new ArticleStockModel(2L, 3),
+                new ArticleStockModel(1L, 6),
+                new ArticleStockModel(4L, 1)
+        );
+
+        when(articleModelPersistencePort.getArticleQuantitiesByIds(Set.of(1L, 2L, 4L)))
+                .thenReturn(Map.of(1L, 10, 2L, 3));
+
+        Map<Long, Boolean> result = articleModelUseCase.isStockAvailableBatch(items);
+
+        assertEquals(3, result.size());
+        assertFalse(result.get(1L));
+        assertTrue(result.get(2L));
+        assertFalse(result.get(4L));
+        verify(articleModelPersistencePort, times(1)).getArticleQuantitiesByIds(Set.of(1L, 2L, 4L));
+        verify(articleModelPersistencePort, never()).getArticleById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reduce stock batch sorted by article ID with duplicated lines merged")
+    void shouldReduceStockBatchSortedByArticleIdWithDuplicatedLinesMerged() {
+        List<ArticleStockModel> items = List.of(
+                new ArticleStockModel(3L, 1),
+                new ArticleStockModel(1L, 2),
+                new ArticleStockModel(3L, 4)
+        );
+
+        when(articleModelPersistencePort.reduceArticleQuantities(anyList())).thenReturn(new int[]{1, 1});
+
+        articleModelUseCase.reduceStockBatch(items);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArticleStockModel>> captor = ArgumentCaptor.forClass(List.class);
+        verify(articleModelPersistencePort).reduceArticleQuantities(captor.capture());
+
+        List<ArticleStockModel> sortedItems = captor.getValue();
+        assertEquals(2, sortedItems.size());
+        assertEquals(1L, sortedItems.get(0).getArticleId());
+        assertEquals(2, sortedItems.get(0).getQuantity());
+        assertEquals(3L, sortedItems.get(1).getArticleId());
+        assertEquals(5, sortedItems.get(1).getQuantity());
+    }
+
+    @Test
+    @DisplayName("Should throw InsufficientStockBatchException listing every failed line")
+    void shouldThrowInsufficientStockBatchExceptionListingEveryFailedLine() {
+        List<ArticleStockModel> items = List.of(
+                new ArticleStockModel(1L, 2),
+                new ArticleStockModel(2L, 50),
+                new ArticleStockModel(3L, 70)
+        );
+
+        when(articleModelPersistencePort.reduceArticleQuantities(anyList())).thenReturn(new int[]{1, 0, 0});
+
+        InsufficientStockBatchException exception = assertThrows(
+                InsufficientStockBatchException.class,
+                () -> articleModelUseCase.reduceStockBatch(items)
+        );
+        assertEquals(Util.INSUFFICIENT_STOCK, exception.getMessage());
+        assertEquals(2, exception.getFailedItems().size());
+        assertEquals(50, exception.getFailedItems().get(2L));
+        assertEquals(70, exception.getFailedItems().get(3L));
     }
 
     @Test
@@ -104,13 +205,42 @@ class ArticleModelUseCaseTest {
         Long articleId = 1L;
         Double expectedPrice = 100.0;
 
-        when(articleModelPersistencePort.getArticleById(articleId)).thenReturn(articleModel);
+        when(articleModelPersistencePort.getArticlePriceById(articleId)).thenReturn(expectedPrice);
 
         Double result = articleModelUseCase.getArticlePriceById(articleId);
 
         assertNotNull(result);
         assertEquals(expectedPrice, result);
-        verify(articleModelPersistencePort).getArticleById(articleId);
+        verify(articleModelPersistencePort).getArticlePriceById(articleId);
+        verify(articleModelPersistencePort, never()).getArticleById(articleId);
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when article price is not found")
+    void shouldThrowNotFoundExceptionWhenArticlePriceIsNotFound() {
+        Long articleId = 1L;
+
+        when(articleModelPersistencePort.getArticlePriceById(articleId)).thenReturn(null);
+
+        NotFoundException exception = assertThrows(
+                NotFoundException.class,
+                () -> articleModelUseCase.getArticlePriceById(articleId)
+        );
+        assertEquals(Util.ARTICLE_NOT_FOUND, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should return article prices by IDs with a single lookup")
+    void shouldReturnArticlePricesByIdsWithSingleLookup() {
+        List<Long> articleIds = List.of(1L, 2L, 1L);
+        Map<Long, Double> prices = Map.of(1L, 100.0, 2L, 50.0);
+
+        when(articleModelPersistencePort.getArticlePricesByIds(Set.of(1L, 2L))).thenReturn(prices);
+
+        Map<Long, Double> result = articleModelUseCase.getArticlePricesByIds(articleIds);
+
+        assertEquals(prices, result);
+        verify(articleModelPersistencePort, times(1)).getArticlePricesByIds(Set.of(1L, 2L));
     }
 
     @Test
@@ -146,14 +276,61 @@ class ArticleModelUseCaseTest {
         int newQuantity = 20;
 
         when(articleModelPersistencePort.getArticleById(articleId)).thenReturn(articleModel);
-        when(articleModelPersistencePort.saveArticle(articleModel)).thenReturn(articleModel);
+        when(articleModelPersistencePort.updateArticleQuantity(articleId, newQuantity, 3L)).thenReturn(1);
 
         ArticleModel result = articleModelUseCase.updateArticleQuantity(articleId, newQuantity);
 
         assertNotNull(result);
         assertEquals(newQuantity, result.getQuantity());
+        assertEquals(4L, result.getVersion());
         verify(articleModelPersistencePort).getArticleById(articleId);
-        verify(articleModelPersistencePort).saveArticle(articleModel);
+        verify(articleModelPersistencePort, never()).saveArticle(any());
+        verify(retryListener, never()).onConflict(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should re-read the article and retry when the version changed concurrently")
+    void shouldRetryUpdateArticleQuantityOnVersionConflict() {
+        Long articleId = 1L;
+        ArticleModel concurrentlyUpdated = new ArticleModel(articleId, "ArticleName", null, 7, 100.0, null, null);
+        concurrentlyUpdated.setVersion(4L);
+
+        when(articleModelPersistencePort.getArticleById(articleId)).thenReturn(articleModel, concurrentlyUpdated);
+        when(articleModelPersistencePort.updateArticleQuantity(articleId, 20, 3L)).thenReturn(0);
+        when(articleModelPersistencePort.updateArticleQuantity(articleId, 20, 4L)).thenReturn(1);
+
+        ArticleModel result = articleModelUseCase.updateArticleQuantity(articleId, 20);
+
+        assertEquals(20, result.getQuantity());
+        assertEquals(5L, result.getVersion());
+        verify(articleModelPersistencePort, times(2)).getArticleById(articleId);
+        verify(retryListener).onConflict("updateArticleQuantity", 1);
+        verify(retryListener, times(2)).onAttempt("updateArticleQuantity");
+    }
+
+    @Test
+    @DisplayName("Should throw ConcurrentUpdateException when every attempt loses the version check")
+    void shouldThrowConcurrentUpdateExceptionWhenRetriesAreExhausted() {
+        Long articleId = 1L;
+
+        when(articleModelPersistencePort.getArticleById(articleId)).thenReturn(articleModel);
+        when(articleModelPersistencePort.updateArticleQuantity(articleId, 20, 3L)).thenReturn(0);
+
+        ConcurrentUpdateException exception = assertThrows(ConcurrentUpdateException.class,
+                () -> articleModelUseCase.updateArticleQuantity(articleId, 20));
+
+        assertEquals(Util.ARTICLE_CONCURRENT_UPDATE, exception.getMessage());
+        verify(articleModelPersistencePort, times(3)).updateArticleQuantity(articleId, 20, 3L);
+        verify(retryListener).onExhausted("updateArticleQuantity");
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when updating the quantity of a missing article")
+    void shouldThrowNotFoundExceptionWhenUpdatingQuantityOfMissingArticle() {
+        when(articleModelPersistencePort.getArticleById(1L)).thenReturn(null);
+
+        assertThrows(NotFoundException.class, () -> articleModelUseCase.updateArticleQuantity(1L, 20));
+        verify(articleModelPersistencePort, never()).updateArticleQuantity(anyLong(), anyInt(), anyLong());
     }
 
     @Test
@@ -214,4 +391,158 @@ class ArticleModelUseCaseTest {
         assertEquals(articleModels, result);
         verify(articleModelPersistencePort).getAllArticlesByIds(articleIds);
     }
+
+    @Test
+    @DisplayName("Should reduce a hot article's stock in memory without touching the database")
+    void shouldReduceHotArticleStockInMemory() {
+        ArticleModelUseCase hotUseCase = hotUseCase();
+        when(hotStockPort.isHot(1L)).thenReturn(true);
+        when(hotStockPort.tryReduce(1L, 2)).thenReturn(true);
+
+        hotUseCase.reduceStock(1L, 2);
+
+        verify(hotStockPort).tryReduce(1L, 2);
+        verify(articleModelPersistencePort, never()).reduceArticleQuantity(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should throw InsufficientStockException when a hot article's counter runs out")
+    void shouldThrowInsufficientStockExceptionWhenHotCounterRunsOut() {
+        ArticleModelUseCase hotUseCase = hotUseCase();
+        when(hotStockPort.isHot(1L)).thenReturn(true);
+        when(hotStockPort.tryReduce(1L, 2)).thenReturn(false);
+
+        assertThrows(InsufficientStockException.class, () -> hotUseCase.reduceStock(1L, 2));
+    }
+
+    @Test
+    @DisplayName("Should send only cold lines of a batch to the database")
+    void shouldSendOnlyColdLinesOfBatchToDatabase() {
+        ArticleModelUseCase hotUseCase = hotUseCase();
+        when(hotStockPort.isHot(1L)).thenReturn(true);
+        when(hotStockPort.tryReduce(1L, 2)).thenReturn(true);
+        when(articleModelPersistencePort.reduceArticleQuantities(anyList())).thenReturn(new int[]{1});
+
+        hotUseCase.reduceStockBatch(List.of(new ArticleStockModel(1L, 2), new ArticleStockModel(2L, 3)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArticleStockModel>> captor = ArgumentCaptor.forClass(List.class);
+        verify(articleModelPersistencePort).reduceArticleQuantities(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(2L, captor.getValue().get(0).getArticleId());
+        verify(hotStockPort, never()).restoreStock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should give hot lines back when another line of the batch fails")
+    void shouldGiveHotLinesBackWhenAnotherLineFails() {
+        ArticleModelUseCase hotUseCase = hotUseCase();
+        when(hotStockPort.isHot(1L)).thenReturn(true);
+        when(hotStockPort.tryReduce(1L, 2)).thenReturn(true);
+        when(articleModelPersistencePort.reduceArticleQuantities(anyList())).thenReturn(new int[]{0});
+
+        InsufficientStockBatchException exception = assertThrows(InsufficientStockBatchException.class,
+                () -> hotUseCase.reduceStockBatch(List.of(new ArticleStockModel(1L, 2), new ArticleStockModel(2L, 3))));
+
+        assertEquals(Map.of(2L, 3), exception.getFailedItems());
+        verify(hotStockPort).restoreStock(1L, 2);
+    }
+
+    @Test
+    @DisplayName("Should give reduced hot lines back when a later hot line throws")
+    void shouldGiveHotLinesBackWhenLaterHotLineThrows() {
+        ArticleModelUseCase hotUseCase = hotUseCase();
+        when(hotStockPort.isHot(1L)).thenReturn(true);
+        when(hotStockPort.isHot(2L)).thenReturn(true);
+        when(hotStockPort.tryReduce(1L, 2)).thenReturn(true);
+        when(hotStockPort.tryReduce(2L, 3)).thenThrow(new ConcurrentUpdateException(Util.ARTICLE_CONCURRENT_UPDATE));
+
+        assertThrows(ConcurrentUpdateException.class,
+                () -> hotUseCase.reduceStockBatch(List.of(new ArticleStockModel(1L, 2), new ArticleStockModel(2L, 3))));
+
+        verify(hotStockPort).restoreStock(1L, 2);
+        verify(hotStockPort, never()).restoreStock(eq(2L), anyInt());
+        verify(articleModelPersistencePort, never()).reduceArticleQuantities(anyList());
+    }
+
+    @Test
+    @DisplayName("Should answer availability of a hot article from its counter")
+    void shouldAnswerHotAvailabilityFromCounter() {
+        ArticleModelUseCase hotUseCase = hotUseCase();
+        when(hotStockPort.isHot(1L)).thenReturn(true);
+        when(hotStockPort.getQuantity(1L)).thenReturn(4);
+        when(articleModelPersistencePort.getArticleQuantitiesByIds(any())).thenReturn(Map.of(1L, 100));
+
+        assertFalse(hotUseCase.isStockAvailable(1L, 5));
+        assertEquals(Map.of(1L, false), hotUseCase.isStockAvailableBatch(List.of(new ArticleStockModel(1L, 5))));
+    }
+
+    @Test
+    @DisplayName("Should set a hot article's quantity through its counter")
+    void shouldSetHotArticleQuantityThroughCounter() {
+        ArticleModelUseCase hotUseCase = hotUseCase();
+        when(hotStockPort.isHot(1L)).thenReturn(true);
+        when(articleModelPersistencePort.getArticleById(1L)).thenReturn(articleModel);
+
+        ArticleModel result = hotUseCase.updateArticleQuantity(1L, 25);
+
+        assertEquals(25, result.getQuantity());
+        verify(hotStockPort).setQuantity(1L, 25);
+        verify(articleModelPersistencePort, never()).updateArticleQuantity(anyLong(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should restore cold lines in one batch and hot lines through their counter")
+    void shouldRestoreColdLinesInBatchAndHotLinesThroughCounter() {
+        ArticleModelUseCase hotUseCase = hotUseCase();
+        when(hotStockPort.isHot(1L)).thenReturn(true);
+
+        hotUseCase.restoreStockBatch(List.of(
+                new ArticleStockModel(2L, 3), new ArticleStockModel(1L, 2), new ArticleStockModel(2L, 1)));
+
+        verify(hotStockPort).restoreStock(1L, 2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArticleStockModel>> captor = ArgumentCaptor.forClass(List.class);
+        verify(articleModelPersistencePort).increaseArticleQuantities(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(2L, captor.getValue().get(0).getArticleId());
+        assertEquals(4, captor.getValue().get(0).getQuantity());
+    }
+
+    @Test
+    @DisplayName("Should skip imported articles whose name is taken in the catalog or earlier in the chunk")
+    void shouldSkipImportedArticlesWithTakenNames() {
+        ArticleModel laptop = new ArticleModel();
+        laptop.setName("Laptop");
+        ArticleModel mouse = new ArticleModel();
+        mouse.setName("Mouse");
+        ArticleModel secondMouse = new ArticleModel();
+        secondMouse.setName("MOUSE");
+        ArticleModel keyboard = new ArticleModel();
+        keyboard.setName("Keyboard");
+
+        when(articleModelPersistencePort.getExistingNames(List.of("Laptop", "Mouse", "MOUSE", "Keyboard")))
+                .thenReturn(Set.of("laptop"));
+
+        Set<Integer> skipped = articleModelUseCase.importArticles(List.of(laptop, mouse, secondMouse, keyboard));
+
+        assertEquals(Set.of(0, 2), skipped);
+        verify(articleModelPersistencePort).saveArticles(List.of(mouse, keyboard));
+    }
+
+    @Test
+    @DisplayName("Should not save anything when every imported name is taken")
+    void shouldNotSaveWhenEveryImportedNameIsTaken() {
+        when(articleModelPersistencePort.getExistingNames(List.of("ArticleName"))).thenReturn(Set.of("ArticleName"));
+
+        Set<Integer> skipped = articleModelUseCase.importArticles(List.of(articleModel));
+
+        assertEquals(Set.of(0), skipped);
+        verify(articleModelPersistencePort, never()).saveArticles(anyList());
+    }
+
+    private ArticleModelUseCase hotUseCase() {
+        return new ArticleModelUseCase(articleModelPersistencePort, new RetryPolicy(3, 0, 0, retryListener), hotStockPort);
+    }
 }
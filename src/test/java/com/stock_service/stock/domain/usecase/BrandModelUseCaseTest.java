@@ -3,6 +3,8 @@ package com.stock_service.stock.domain.usecase;
 import com.stock_service.stock.domain.exception.NameAlreadyExistsException;
 import com.stock_service.stock.domain.model.BrandModel;
 import com.stock_service.stock.domain.spi.IBrandModelPersistencePort;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 import com.stock_service.stock.domain.util.Util;
 import org.junit.jupiter.api.BeforeEach;
@@ -64,9 +66,9 @@ class BrandModelUseCaseTest {
         List<BrandModel> brandList = Arrays.asList(brandModel, brand2);
         Paginated<BrandModel> paginatedResponse = new Paginated<>(brandList, page, size, 10);
 
-        when(brandModelPersistencePort.getBrandsPaginated(page, size, sort, ascending)).thenReturn(paginatedResponse);
+        when(brandModelPersistencePort.getBrandsPaginated(page, size, sort, ascending, CountMode.EXACT)).thenReturn(paginatedResponse);
 
-        Paginated<BrandModel> result = brandModelUseCase.getBrandsPaginated(page, size, sort, ascending);
+        Paginated<BrandModel> result = brandModelUseCase.getBrandsPaginated(page, size, sort, ascending, CountMode.EXACT);
 
         assertNotNull(result);
         assertEquals(2, result.getContent().size());
@@ -74,6 +76,19 @@ class BrandModelUseCaseTest {
         assertEquals(5, result.getPageSize());
         assertEquals(10, result.getTotalElements());
         assertEquals(2, result.getTotalPages());
-        verify(brandModelPersistencePort, times(1)).getBrandsPaginated(page, size, sort, ascending);
+        verify(brandModelPersistencePort, times(1)).getBrandsPaginated(page, size, sort, ascending, CountMode.EXACT);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return brands after the cursor")
+    void shouldReturnBrandsAfterCursor() {
+        CursorPaginated<BrandModel> cursorResponse = new CursorPaginated<>(List.of(brandModel), 5, "next");
+
+        when(brandModelPersistencePort.getBrandsByCursor("cursor", 5, "name", true)).thenReturn(cursorResponse);
+
+        CursorPaginated<BrandModel> result = brandModelUseCase.getBrandsByCursor("cursor", 5, "name", true);
+
+        assertEquals(cursorResponse, result);
+        verify(brandModelPersistencePort, times(1)).getBrandsByCursor("cursor", 5, "name", true);
+    }
+}
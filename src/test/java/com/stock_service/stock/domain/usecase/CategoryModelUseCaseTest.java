@@ -5,6 +5,8 @@ import com.stock_service.stock.domain.exception.NameAlreadyExistsException;
 import com.stock_service.stock.domain.model.ArticleModel;
 import com.stock_service.stock.domain.model.CategoryModel;
 import com.stock_service.stock.domain.spi.ICategoryModelPersistencePort;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 import com.stock_service.stock.domain.util.Util;
 import org.junit.jupiter.api.BeforeEach;
@@ -72,10 +74,10 @@ class CategoryModelUseCaseTest {
         List<CategoryModel> categoryList = Arrays.asList(categoryModel, categoryModel2);
         Paginated<CategoryModel> paginatedResponse = new Paginated<>(categoryList, page, size, 10);
 
-        when(categoryModelPersistencePort.getCategoriesPaginated(page, size, sort, ascending))
+        when(categoryModelPersistencePort.getCategoriesPaginated(page, size, sort, ascending, CountMode.EXACT))
                 .thenReturn(paginatedResponse);
 
-        Paginated<CategoryModel> result = categoryModelUseCase.getCategoriesPaginated(page, size, sort, ascending);
+        Paginated<CategoryModel> result = categoryModelUseCase.getCategoriesPaginated(page, size, sort, ascending, CountMode.EXACT);
 
         assertNotNull(result);
         assertEquals(2, result.getContent().size());
@@ -84,7 +86,7 @@ class CategoryModelUseCaseTest {
         assertEquals(10, result.getTotalElements());
         assertEquals(2, result.getTotalPages());
 
-        verify(categoryModelPersistencePort, times(1)).getCategoriesPaginated(page, size, sort, ascending);
+        verify(categoryModelPersistencePort, times(1)).getCategoriesPaginated(page, size, sort, ascending, CountMode.EXACT);
     }
 
     @Test
@@ -107,4 +109,17 @@ class CategoryModelUseCaseTest {
         verify(articleModelServicePort, times(1)).getArticleById(articleId);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should return categories after the cursor")
+    void shouldReturnCategoriesAfterCursor() {
+        CursorPaginated<CategoryModel> cursorResponse = new CursorPaginated<>(List.of(new CategoryModel()), 5, null);
+
+        when(categoryModelPersistencePort.getCategoriesByCursor("cursor", 5, "name", true)).thenReturn(cursorResponse);
+
+        CursorPaginated<CategoryModel> result = categoryModelUseCase.getCategoriesByCursor("cursor", 5, "name", true);
+
+        assertEquals(cursorResponse, result);
+        assertFalse(result.isHasNext());
+        verify(categoryModelPersistencePort, times(1)).getCategoriesByCursor("cursor", 5, "name", true);
+    }
+}
@@ -0,0 +1,187 @@
+package com.stock_service.stock.domain.usecase;
+
+import com.stock_service.stock.domain.api.IArticleModelServicePort;
+import com.stock_service.stock.domain.exception.InsufficientStockException;
+import com.stock_service.stock.domain.exception.NotFoundException;
+import com.stock_service.stock.domain.model.ArticleStockModel;
+import com.stock_service.stock.domain.model.ReservationModel;
+import com.stock_service.stock.domain.spi.IReservationModelPersistencePort;
+import com.stock_service.stock.domain.util.Util;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReservationModelUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2024-11-29T12:00:00Z");
+    private static final String OWNER = "client@mail.com";
+
+    @Mock
+    private IReservationModelPersistencePort reservationPersistencePort;
+
+    @Mock
+    private IArticleModelServicePort articleModelServicePort;
+
+    private ReservationModelUseCase reservationModelUseCase;
+
+    private ReservationModel reservationModel;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        reservationModelUseCase = new ReservationModelUseCase(reservationPersistencePort, articleModelServicePort,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
+        reservationModel = new ReservationModel(7L, 1L, 3, NOW.plusSeconds(60), OWNER);
+    }
+
+    @Test
+    @DisplayName("Should take the units from the article and save a reservation expiring after the TTL")
+    void shouldTakeUnitsAndSaveReservation() {
+        when(reservationPersistencePort.saveReservation(any(ReservationModel.class))).thenReturn(reservationModel);
+
+        ReservationModel result = reservationModelUseCase.reserveStock(1L, 3, Duration.ofSeconds(60), OWNER);
+
+        assertEquals(reservationModel, result);
+        verify(articleModelServicePort).reduceStock(1L, 3);
+
+        ArgumentCaptor<ReservationModel> captor = ArgumentCaptor.forClass(ReservationModel.class);
+        verify(reservationPersistencePort).saveReservation(captor.capture());
+        assertEquals(1L, captor.getValue().getArticleId());
+        assertEquals(3, captor.getValue().getQuantity());
+        assertEquals(NOW.plusSeconds(60), captor.getValue().getExpiresAt());
+        assertEquals(OWNER, captor.getValue().getOwner());
+    }
+
+    @Test
+    @DisplayName("Should not save a reservation when the article lacks stock")
+    void shouldNotSaveReservationWhenArticleLacksStock() {
+        doThrow(new InsufficientStockException(Util.INSUFFICIENT_STOCK))
+                .when(articleModelServicePort).reduceStock(1L, 3);
+
+        assertThrows(InsufficientStockException.class,
+                () -> reservationModelUseCase.reserveStock(1L, 3, Duration.ofSeconds(60), OWNER));
+
+        verify(reservationPersistencePort, never()).saveReservation(any());
+    }
+
+    @Test
+    @DisplayName("Should give the units back when the reservation cannot be saved")
+    void shouldGiveUnitsBackWhenReservationCannotBeSaved() {
+        when(reservationPersistencePort.saveReservation(any(ReservationModel.class)))
+                .thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class,
+                () -> reservationModelUseCase.reserveStock(1L, 3, Duration.ofSeconds(60), OWNER));
+
+        verify(articleModelServicePort).restoreStockBatch(argThat(items ->
+                items.size() == 1 && items.get(0).getArticleId() == 1L && items.get(0).getQuantity() == 3));
+    }
+
+    @Test
+    @DisplayName("Should commit a reservation by deleting it and keeping the units sold")
+    void shouldCommitReservation() {
+        when(reservationPersistencePort.getReservationById(7L)).thenReturn(reservationModel);
+        when(reservationPersistencePort.deleteReservations(List.of(7L))).thenReturn(new int[]{1});
+
+        reservationModelUseCase.commitReservation(7L, OWNER);
+
+        verify(reservationPersistencePort).deleteReservations(List.of(7L));
+        verify(articleModelServicePort, never()).restoreStockBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Should release a reservation and give its units back")
+    void shouldReleaseReservation() {
+        when(reservationPersistencePort.getReservationById(7L)).thenReturn(reservationModel);
+        when(reservationPersistencePort.deleteReservations(List.of(7L))).thenReturn(new int[]{1});
+
+        reservationModelUseCase.releaseReservation(7L, OWNER);
+
+        verify(articleModelServicePort).restoreStockBatch(argThat(items ->
+                items.size() == 1 && items.get(0).getArticleId() == 1L && items.get(0).getQuantity() == 3));
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException for an expired reservation")
+    void shouldThrowNotFoundExceptionForExpiredReservation() {
+        reservationModel.setExpiresAt(NOW);
+        when(reservationPersistencePort.getReservationById(7L)).thenReturn(reservationModel);
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> reservationModelUseCase.commitReservation(7L, OWNER));
+
+        assertEquals(Util.RESERVATION_NOT_FOUND, exception.getMessage());
+        verify(reservationPersistencePort, never()).deleteReservations(anyList());
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when the reservation belongs to another owner")
+    void shouldThrowNotFoundExceptionForAnotherOwnersReservation() {
+        when(reservationPersistencePort.getReservationById(7L)).thenReturn(reservationModel);
+
+        NotFoundException commitException = assertThrows(NotFoundException.class,
+                () -> reservationModelUseCase.commitReservation(7L, "other@mail.com"));
+        assertThrows(NotFoundException.class, () -> reservationModelUseCase.releaseReservation(7L, "other@mail.com"));
+
+        assertEquals(Util.RESERVATION_NOT_FOUND, commitException.getMessage());
+        verify(reservationPersistencePort, never()).deleteReservations(anyList());
+        verify(articleModelServicePort, never()).restoreStockBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when another caller deleted the reservation first")
+    void shouldThrowNotFoundExceptionWhenReservationWasDeletedConcurrently() {
+        when(reservationPersistencePort.getReservationById(7L)).thenReturn(reservationModel);
+        when(reservationPersistencePort.deleteReservations(List.of(7L))).thenReturn(new int[]{0});
+
+        assertThrows(NotFoundException.class, () -> reservationModelUseCase.releaseReservation(7L, OWNER));
+
+        verify(articleModelServicePort, never()).restoreStockBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Should give back only the expired reservations it managed to delete")
+    void shouldGiveBackOnlyDeletedExpiredReservations() {
+        List<ReservationModel> expired = List.of(
+                new ReservationModel(1L, 10L, 2, NOW.minusSeconds(5), OWNER),
+                new ReservationModel(2L, 20L, 4, NOW.minusSeconds(1), "other@mail.com"));
+        when(reservationPersistencePort.getReservationsExpiredAt(NOW, 100)).thenReturn(expired);
+        when(reservationPersistencePort.deleteReservations(List.of(1L, 2L))).thenReturn(new int[]{1, 0});
+
+        int found = reservationModelUseCase.releaseExpiredReservations(100);
+
+        assertEquals(2, found);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArticleStockModel>> captor = ArgumentCaptor.forClass(List.class);
+        verify(articleModelServicePort).restoreStockBatch(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(10L, captor.getValue().get(0).getArticleId());
+        assertEquals(2, captor.getValue().get(0).getQuantity());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no reservation has expired")
+    void shouldDoNothingWhenNoReservationHasExpired() {
+        when(reservationPersistencePort.getReservationsExpiredAt(NOW, 100)).thenReturn(List.of());
+
+        assertEquals(0, reservationModelUseCase.releaseExpiredReservations(100));
+
+        verify(reservationPersistencePort, never()).deleteReservations(anyList());
+        verify(articleModelServicePort, never()).restoreStockBatch(anyList());
+    }
+}
@@ -0,0 +1,124 @@
+package com.stock_service.stock.domain.util;
+
+import com.stock_service.stock.domain.exception.QueryCostExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class QueryCostGovernorTest {
+
+    private final QueryCostGovernor.Listener listener = mock(QueryCostGovernor.Listener.class);
+    private final QueryCostGovernor governor = new QueryCostGovernor(100, 10, 4, 1000, listener);
+
+    @Test
+    @DisplayName("Should keep a page within the limits as it was asked")
+    void shouldKeepPageWithinLimits() {
+        int pageSize = governor.governPage("op", 1, 20, 0, 1, "name");
+
+        assertEquals(20, pageSize);
+        // 40 rows walked, each checked against one filter and read in name order
+        verify(listener).onEstimated("op", 120);
+        verify(listener, never()).onClamped(anyString(), anyString());
+        verify(listener, never()).onRejected(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should clamp a page above the maximum page size")
+    void shouldClampOversizedPage() {
+        int pageSize = governor.governPage("op", 0, 1_000_000, 0, 0, "id");
+
+        assertEquals(100, pageSize);
+        verify(listener).onClamped("op", QueryCostGovernor.PAGE_SIZE_REASON);
+        verify(listener).onEstimated("op", 100);
+    }
+
+    @Test
+    @DisplayName("Should reject a page whose offset makes it too costly")
+    void shouldRejectDeepPage() {
+        QueryCostExceededException exception = assertThrows(QueryCostExceededException.class,
+                () -> governor.governPage("op", 9, 100, 0, 0, "name"));
+
+        assertEquals(Util.QUERY_COST_EXCEEDED, exception.getMessage());
+        verify(listener).onRejected("op", QueryCostGovernor.COST_REASON);
+    }
+
+    @Test
+    @DisplayName("Should not count more rows than the ID list can match")
+    void shouldBoundRowsByIdList() {
+        governor.governPage("op", 50, 100, 5, 2, "name");
+
+        verify(listener).onEstimated("op", 5 * 4 + 5);
+        verify(listener, never()).onRejected(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should charge every aggregated row against each filter whatever the page")
+    void shouldChargeAggregatedRows() {
+        governor.governPage("op", 0, 10, 0, 1, "id", 300);
+
+        verify(listener).onEstimated("op", 10 * 2 + 300 * 2);
+        verify(listener, never()).onRejected(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject a first page whose aggregate reads too many rows")
+    void shouldRejectCostlyAggregate() {
+        assertThrows(QueryCostExceededException.class, () -> governor.governPage("op", 0, 10, 0, 0, "id", 1000));
+
+        verify(listener).onRejected("op", QueryCostGovernor.COST_REASON);
+    }
+
+    @Test
+    @DisplayName("Should reject an ID list longer than the maximum")
+    void shouldRejectTooManyIds() {
+        QueryCostExceededException exception = assertThrows(QueryCostExceededException.class,
+                () -> governor.governPage("op", 0, 10, 11, 0, "id"));
+
+        assertEquals(Util.QUERY_TOO_MANY_IDS + 10, exception.getMessage());
+        verify(listener).onRejected("op", QueryCostGovernor.ID_COUNT_REASON);
+    }
+
+    @Test
+    @DisplayName("Should read a cursor page at any depth for the cost of the page itself")
+    void shouldGovernCursorPageBySizeOnly() {
+        assertEquals(100, governor.governCursor("op", 500));
+
+        verify(listener).onClamped("op", QueryCostGovernor.PAGE_SIZE_REASON);
+        verify(listener).onEstimated("op", 100);
+    }
+
+    @Test
+    @DisplayName("Should split IDs into chunks and read repeated IDs once")
+    void shouldSplitIdsIntoChunks() {
+        List<List<Long>> chunks = governor.chunks("op", List.of(1L, 2L, 3L, 2L, 4L, 5L, 6L));
+
+        assertEquals(List.of(List.of(1L, 2L, 3L, 4L), List.of(5L, 6L)), chunks);
+        verify(listener).onEstimated("op", 6);
+    }
+
+    @Test
+    @DisplayName("Should reject a multi-get with too many distinct IDs")
+    void shouldRejectMultiGetWithTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, 11).boxed().toList();
+
+        assertThrows(QueryCostExceededException.class, () -> governor.chunks("op", ids));
+
+        verify(listener).onRejected("op", QueryCostGovernor.ID_COUNT_REASON);
+    }
+
+    @Test
+    @DisplayName("Should read nothing for a missing or empty ID list")
+    void shouldReadNothingForMissingIds() {
+        assertEquals(List.of(), governor.chunks("op", null));
+        assertEquals(List.of(), governor.chunks("op", List.of()));
+    }
+}
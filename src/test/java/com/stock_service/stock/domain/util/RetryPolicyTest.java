@@ -0,0 +1,64 @@
+package com.stock_service.stock.domain.util;
+
+import com.stock_service.stock.domain.exception.ConcurrentUpdateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RetryPolicyTest {
+
+    private final RetryPolicy.Listener listener = mock(RetryPolicy.Listener.class);
+
+    @Test
+    @DisplayName("Should return the first successful attempt")
+    void shouldReturnFirstSuccessfulAttempt() {
+        RetryPolicy retryPolicy = new RetryPolicy(3, 0, 0, listener);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retryPolicy.execute("op", () ->
+                attempts.incrementAndGet() < 2 ? Optional.empty() : Optional.of("done"));
+
+        assertEquals("done", result);
+        assertEquals(2, attempts.get());
+        verify(listener, times(1)).onConflict("op", 1);
+        verify(listener, never()).onExhausted("op");
+    }
+
+    @Test
+    @DisplayName("Should stop after the maximum number of attempts")
+    void shouldStopAfterMaximumAttempts() {
+        RetryPolicy retryPolicy = new RetryPolicy(4, 0, 0, listener);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ConcurrentUpdateException.class, () -> retryPolicy.execute("op", () -> {
+            attempts.incrementAndGet();
+            return Optional.empty();
+        }));
+
+        assertEquals(4, attempts.get());
+        verify(listener, times(4)).onAttempt("op");
+        verify(listener).onExhausted("op");
+    }
+
+    @Test
+    @DisplayName("Should keep jittered delays within the exponential cap")
+    void shouldKeepJitteredDelaysWithinCap() {
+        RetryPolicy retryPolicy = new RetryPolicy(10, 5, 100, listener);
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(retryPolicy.delayMillis(1) <= 5);
+            assertTrue(retryPolicy.delayMillis(3) <= 20);
+            assertTrue(retryPolicy.delayMillis(10) <= 100);
+        }
+    }
+}
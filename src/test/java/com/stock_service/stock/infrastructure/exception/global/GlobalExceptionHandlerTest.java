@@ -0,0 +1,48 @@
+package com.stock_service.stock.infrastructure.exception.global;
+
+import com.stock_service.stock.domain.exception.ConcurrentUpdateException;
+import com.stock_service.stock.domain.exception.InsufficientStockException;
+import com.stock_service.stock.domain.exception.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GlobalExceptionHandlerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GlobalExceptionHandler globalExceptionHandler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        globalExceptionHandler = new GlobalExceptionHandler(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should count insufficient stock and not found exceptions by type")
+    void shouldCountExceptionsByType() {
+        assertEquals(HttpStatus.BAD_REQUEST,
+                globalExceptionHandler.insufficientStockException(new InsufficientStockException("No stock")).getStatusCode());
+        globalExceptionHandler.insufficientStockException(new InsufficientStockException("No stock"));
+        assertEquals(HttpStatus.NOT_FOUND,
+                globalExceptionHandler.notFoundException(new NotFoundException("Not found")).getStatusCode());
+
+        assertEquals(2.0, meterRegistry.get(GlobalExceptionHandler.EXCEPTIONS_METRIC_NAME)
+                .tag("exception", "InsufficientStockException").counter().count());
+        assertEquals(1.0, meterRegistry.get(GlobalExceptionHandler.EXCEPTIONS_METRIC_NAME)
+                .tag("exception", "NotFoundException").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should answer a lost optimistic update with a conflict")
+    void shouldAnswerConcurrentUpdateWithConflict() {
+        assertEquals(HttpStatus.CONFLICT, globalExceptionHandler
+                .concurrentUpdateException(new ConcurrentUpdateException("Conflict")).getStatusCode());
+        assertEquals(1.0, meterRegistry.get(GlobalExceptionHandler.EXCEPTIONS_METRIC_NAME)
+                .tag("exception", "ConcurrentUpdateException").counter().count());
+    }
+}
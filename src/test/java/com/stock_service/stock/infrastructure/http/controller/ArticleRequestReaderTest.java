@@ -0,0 +1,88 @@
+package com.stock_service.stock.infrastructure.http.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock_service.stock.application.dto.articledto.ArticleRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleRequestReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should read CSV records by header with category IDs separated by a pipe")
+    void shouldReadCsvRecordsByHeader() throws IOException {
+        String csv = """
+                name,description,quantity,price,brandId,categoryIds
+                Laptop,"Fast, light",5,1500.5,1,2|3
+
+                Mouse,Wireless,10,20,2,4
+                """;
+
+        try (ArticleRequestReader reader = open(ArticleRequestReader.CSV_VALUE, csv)) {
+            ArticleRequest laptop = reader.next();
+            assertEquals("Laptop", laptop.getName());
+            assertEquals("Fast, light", laptop.getDescription());
+            assertEquals(5, laptop.getQuantity());
+            assertEquals(1500.5, laptop.getPrice());
+            assertEquals(1L, laptop.getBrandId());
+            assertEquals(List.of(2L, 3L), laptop.getCategoryIds());
+
+            assertTrue(reader.hasNext());
+            assertEquals("Mouse", reader.next().getName());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("Should report a record that does not bind and carry on with the next one")
+    void shouldReportUnboundRecordAndCarryOn() throws IOException {
+        String ndjson = """
+                {"name":"Laptop","quantity":5}
+                {"name":"Mouse","quantity":"many"}
+                {"name":"Keyboard","quantity":7}
+                """;
+
+        try (ArticleRequestReader reader = open(ArticleRequestReader.NDJSON_VALUE, ndjson)) {
+            assertEquals("Laptop", reader.next().getName());
+
+            assertTrue(reader.hasNext());
+            assertThrows(IllegalArgumentException.class, reader::next);
+
+            assertTrue(reader.hasNext());
+            assertEquals("Keyboard", reader.next().getName());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("Should report a syntax error once and then end the stream")
+    void shouldEndStreamAfterSyntaxError() throws IOException {
+        String ndjson = """
+                {"name":"Laptop","quantity":5}
+                {"name":"Mouse",,}
+                {"name":"Keyboard","quantity":7}
+                """;
+
+        try (ArticleRequestReader reader = open(ArticleRequestReader.NDJSON_VALUE, ndjson)) {
+            assertEquals("Laptop", reader.next().getName());
+
+            assertTrue(reader.hasNext());
+            assertThrows(IllegalArgumentException.class, reader::next);
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    private ArticleRequestReader open(String contentType, String body) throws IOException {
+        return ArticleRequestReader.open(MediaType.parseMediaType(contentType),
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), objectMapper);
+    }
+}
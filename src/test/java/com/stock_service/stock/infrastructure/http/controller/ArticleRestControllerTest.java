@@ -2,13 +2,23 @@ package com.stock_service.stock.infrastructure.http.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stock_service.stock.application.dto.articledto.ArticleCartRequest;
+import com.stock_service.stock.application.dto.articledto.ArticleFacetsResponse;
+import com.stock_service.stock.application.dto.articledto.ArticleFilterRequest;
+import com.stock_service.stock.application.dto.articledto.ArticleImportResponse;
 import com.stock_service.stock.application.dto.articledto.ArticleQuantityRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleRequest;
 import com.stock_service.stock.application.dto.articledto.ArticleResponse;
+import com.stock_service.stock.application.dto.articledto.ArticleStockBatchRequest;
+import com.stock_service.stock.application.dto.articledto.ArticleStockRequest;
+import com.stock_service.stock.application.dto.articledto.FacetCountResponse;
+import com.stock_service.stock.application.dto.articledto.FacetedArticlePage;
 import com.stock_service.stock.application.dto.branddto.BrandResponse;
 import com.stock_service.stock.application.dto.categorydto.CategoryResponseForArticle;
 import com.stock_service.stock.application.handler.articlehandler.ArticleHandler;
+import com.stock_service.stock.application.handler.articlehandler.IArticleImportHandler;
 
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,20 +27,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,14 +62,17 @@ class ArticleRestControllerTest {
     @Mock
     private ArticleHandler articleHandler;
 
+    @Mock
+    private IArticleImportHandler articleImportHandler;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private ArticleRestController articleRestController;
 
-    private ObjectMapper objectMapper;
-
     @BeforeEach
     void setUp() {
-        objectMapper = new ObjectMapper();
         mockMvc = MockMvcBuilders.standaloneSetup(articleRestController).build();
     }
 
@@ -99,7 +123,7 @@ class ArticleRestControllerTest {
         ArticleResponse articleResponse = new ArticleResponse();
         Paginated<ArticleResponse> paginatedResponse = new Paginated<>(List.of(articleResponse), page, size, 1);
 
-        when(articleHandler.getArticlesPaginated(page, size, sort, ascending)).thenReturn(paginatedResponse);
+        when(articleHandler.getArticlesPaginated(page, size, sort, ascending, CountMode.EXACT, false)).thenReturn(paginatedResponse);
 
         mockMvc.perform(get("/api/article/listar")
                         .param("page", String.valueOf(page))
@@ -110,7 +134,7 @@ class ArticleRestControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
 
-        verify(articleHandler, times(1)).getArticlesPaginated(page, size, sort, ascending);
+        verify(articleHandler, times(1)).getArticlesPaginated(page, size, sort, ascending, CountMode.EXACT, false);
     }
 
     @Test
@@ -158,6 +182,26 @@ class ArticleRestControllerTest {
         verify(articleHandler, times(1)).checkAvailabilityArticle(1L, 10);
     }
 
+    @Test
+    @WithMockUser(roles = "CLIENTE")
+    @DisplayName("Should verify stock of several articles correctly")
+    void shouldVerifyStockOfSeveralArticlesCorrectly() throws Exception {
+        ArticleStockBatchRequest request = new ArticleStockBatchRequest(
+                List.of(new ArticleStockRequest(1L, 2), new ArticleStockRequest(2L, 3)));
+
+        when(articleHandler.checkAvailabilityArticles(any(ArticleStockBatchRequest.class)))
+                .thenReturn(Map.of(1L, true, 2L, false));
+
+        mockMvc.perform(post("/api/article/check-quantity")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"1\": true, \"2\": false}"));
+
+        verify(articleHandler, times(1)).checkAvailabilityArticles(any(ArticleStockBatchRequest.class));
+    }
+
     @Test
     @WithMockUser(roles = "CLIENTE")
     @DisplayName("Should reduce article quantity correctly")
@@ -175,6 +219,23 @@ class ArticleRestControllerTest {
         assertEquals(5, captor.getValue().getQuantity());
     }
 
+    @Test
+    @WithMockUser(roles = "CLIENTE")
+    @DisplayName("Should reduce quantities of several articles correctly")
+    void shouldReduceQuantitiesOfSeveralArticlesCorrectly() throws Exception {
+        ArticleStockBatchRequest request = new ArticleStockBatchRequest(
+                List.of(new ArticleStockRequest(1L, 2), new ArticleStockRequest(2L, 3)));
+
+        mockMvc.perform(patch("/api/article/subtract-stock")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<ArticleStockBatchRequest> captor = ArgumentCaptor.forClass(ArticleStockBatchRequest.class);
+        verify(articleHandler, times(1)).reduceStockBatch(captor.capture());
+        assertEquals(2, captor.getValue().getItems().size());
+    }
+
     @Test
     @WithMockUser(roles = "CLIENTE")
     @DisplayName("Should return article price by ID correctly")
@@ -189,6 +250,25 @@ class ArticleRestControllerTest {
         verify(articleHandler, times(1)).getArtclePriceById(1L);
     }
 
+    @Test
+    @WithMockUser(roles = "CLIENTE")
+    @DisplayName("Should return prices of several articles correctly")
+    void shouldReturnPricesOfSeveralArticlesCorrectly() throws Exception {
+        ArticleCartRequest articleCartRequest = new ArticleCartRequest(List.of(1L, 2L));
+
+        when(articleHandler.getArticlePricesByIds(articleCartRequest.getArticleIds()))
+                .thenReturn(Map.of(1L, 100.0, 2L, 50.0));
+
+        mockMvc.perform(post("/api/article/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(articleCartRequest)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"1\": 100.0, \"2\": 50.0}"));
+
+        verify(articleHandler, times(1)).getArticlePricesByIds(articleCartRequest.getArticleIds());
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN", "CLIENTE", "AUX_BODEGA"})
     @DisplayName("Should return paginated articles by IDs correctly")
@@ -202,7 +282,8 @@ class ArticleRestControllerTest {
 
         Paginated<ArticleResponse> paginatedResponse = new Paginated<>(List.of(new ArticleResponse()), page, size, 1);
 
-        when(articleHandler.getAllArticlesPaginatedByIds(page, size, sort, ascending, null, null, articleCartRequest.getArticleIds()))
+        when(articleHandler.getAllArticlesPaginatedByIds(eq(page), eq(size), eq(sort), eq(ascending), any(ArticleFilterRequest.class),
+                eq(articleCartRequest.getArticleIds()), eq(CountMode.EXACT), eq(false)))
                 .thenReturn(paginatedResponse);
 
         mockMvc.perform(get("/api/article/article-cart")
@@ -216,7 +297,51 @@ class ArticleRestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().json(objectMapper.writeValueAsString(paginatedResponse)));
 
-        verify(articleHandler, times(1)).getAllArticlesPaginatedByIds(page, size, sort, ascending, null, null, articleCartRequest.getArticleIds());
+        verify(articleHandler, times(1)).getAllArticlesPaginatedByIds(eq(page), eq(size), eq(sort), eq(ascending),
+                any(ArticleFilterRequest.class), eq(articleCartRequest.getArticleIds()), eq(CountMode.EXACT), eq(false));
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    @DisplayName("Should bind category, brand, price and stock filters from the query string")
+    void shouldBindArticleFilters() throws Exception {
+        ArticleCartRequest articleCartRequest = new ArticleCartRequest();
+
+        when(articleHandler.getAllArticlesPaginatedByIds(eq(0), eq(10), eq("name"), eq(true), any(ArticleFilterRequest.class),
+                any(), eq(CountMode.EXACT), eq(false))).thenReturn(new Paginated<>(List.of(), 0, 10, 0));
+
+        mockMvc.perform(get("/api/article/article-cart")
+                        .param("categoryIds", "3", "7")
+                        .param("brandIds", "2")
+                        .param("minPrice", "10.5")
+                        .param("maxPrice", "99")
+                        .param("inStock", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(articleCartRequest)))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<ArticleFilterRequest> filter = ArgumentCaptor.forClass(ArticleFilterRequest.class);
+        verify(articleHandler).getAllArticlesPaginatedByIds(eq(0), eq(10), eq("name"), eq(true), filter.capture(),
+                any(), eq(CountMode.EXACT), eq(false));
+        assertEquals(List.of(3L, 7L), filter.getValue().getCategoryIds());
+        assertEquals(List.of(2L), filter.getValue().getBrandIds());
+        assertEquals(10.5, filter.getValue().getMinPrice());
+        assertEquals(99.0, filter.getValue().getMaxPrice());
+        assertTrue(filter.getValue().isInStock());
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    @DisplayName("Should reject a price range whose minimum is above its maximum")
+    void shouldRejectInvertedPriceRange() throws Exception {
+        mockMvc.perform(get("/api/article/article-cart")
+                        .param("minPrice", "100")
+                        .param("maxPrice", "10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ArticleCartRequest())))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(articleHandler);
     }
 
     @Test
@@ -239,4 +364,140 @@ class ArticleRestControllerTest {
 
         verify(articleHandler, times(1)).getAllArticlesByIds(articleCartRequest.getArticleIds());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Should return articles after the cursor")
+    void shouldReturnArticlesAfterCursor() throws Exception {
+        CursorPaginated<ArticleResponse> cursorResponse = new CursorPaginated<>(List.of(new ArticleResponse()), 10, "next");
+
+        when(articleHandler.getArticlesByCursor("cursor", 10, "price", true)).thenReturn(cursorResponse);
+
+        mockMvc.perform(get("/api/article/listar/cursor")
+                        .param("cursor", "cursor")
+                        .param("sort", "price")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(cursorResponse)));
+
+        verify(articleHandler, times(1)).getArticlesByCursor("cursor", 10, "price", true);
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    @DisplayName("Should return facet counts next to the filtered page when asked")
+    void shouldReturnFacetCountsWhenAsked() throws Exception {
+        FacetCountResponse brand = new FacetCountResponse();
+        brand.setId(1L);
+        brand.setName("Samsung");
+        brand.setCount(4);
+        ArticleFacetsResponse facets = new ArticleFacetsResponse();
+        facets.setBrands(List.of(brand));
+        facets.setCategories(List.of());
+        FacetedArticlePage facetedPage = new FacetedArticlePage(new Paginated<>(List.of(), 0, 10, 4), facets);
+
+        ArticleCartRequest articleCartRequest = new ArticleCartRequest();
+        articleCartRequest.setArticleIds(List.of(1L, 2L));
+
+        when(articleHandler.getAllArticlesPaginatedByIds(eq(0), eq(10), eq("name"), eq(true), any(ArticleFilterRequest.class),
+                eq(List.of(1L, 2L)), eq(CountMode.EXACT), eq(true))).thenReturn(facetedPage);
+
+        mockMvc.perform(get("/api/article/article-cart")
+                        .param("facets", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(articleCartRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.facets.brands[0].name").value("Samsung"))
+                .andExpect(jsonPath("$.facets.brands[0].count").value(4));
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    @DisplayName("Should return the ranked search page")
+    void shouldReturnRankedSearchPage() throws Exception {
+        Paginated<ArticleResponse> searchResponse = new Paginated<>(List.of(new ArticleResponse()), 0, 10, 1);
+
+        when(articleHandler.searchArticles("wireless mouse", true, 0, 10)).thenReturn(searchResponse);
+
+        mockMvc.perform(get("/api/article/search")
+                        .param("q", "wireless mouse")
+                        .param("inStock", "true")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(searchResponse)));
+
+        verify(articleHandler, times(1)).searchArticles("wireless mouse", true, 0, 10);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Should stream exported articles as one JSON document per line under the export timeout")
+    void shouldStreamExportedArticlesAsNdjson() throws Exception {
+        ArticleResponse first = new ArticleResponse();
+        first.setId(1L);
+        first.setName("Laptop");
+        ArticleResponse second = new ArticleResponse();
+        second.setId(2L);
+        second.setName("Mouse");
+
+        doAnswer(invocation -> {
+            Consumer<ArticleResponse> consumer = invocation.getArgument(0);
+            consumer.accept(first);
+            consumer.accept(second);
+            return null;
+        }).when(articleHandler).exportArticles(any());
+
+        MvcResult result = mockMvc.perform(get("/api/article/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // The long timeout belongs to the export only
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(objectMapper.writeValueAsString(first) + "\n"
+                        + objectMapper.writeValueAsString(second) + "\n"));
+
+        verify(articleHandler).exportArticles(any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Should hand the records of a CSV body to the import handler one by one")
+    void shouldImportArticlesFromCsvBody() throws Exception {
+        List<String> names = new ArrayList<>();
+        ArticleImportResponse importResponse = new ArticleImportResponse();
+        importResponse.setImported(2);
+        importResponse.setErrors(List.of());
+
+        when(articleImportHandler.importArticles(any())).thenAnswer(invocation -> {
+            Iterator<ArticleRequest> requests = invocation.getArgument(0);
+            requests.forEachRemaining(request -> names.add(request.getName()));
+            return importResponse;
+        });
+
+        mockMvc.perform(post("/api/article/import")
+                        .contentType("text/csv")
+                        .content("name,description,quantity,price,brandId,categoryIds\n" +
+                                "Laptop,Fast,5,1500,1,2|3\n" +
+                                "Mouse,Wireless,10,20,2,4\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(importResponse)));
+
+        assertEquals(List.of("Laptop", "Mouse"), names);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Should reject an import body that is neither CSV nor NDJSON")
+    void shouldRejectImportBodyOfOtherType() throws Exception {
+        mockMvc.perform(post("/api/article/import")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<articles/>"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verifyNoInteractions(articleImportHandler);
+    }
+}
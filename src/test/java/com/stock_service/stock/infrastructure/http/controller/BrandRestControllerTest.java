@@ -4,7 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stock_service.stock.application.dto.branddto.BrandRequest;
 import com.stock_service.stock.application.dto.branddto.BrandResponse;
 import com.stock_service.stock.application.handler.brandhandler.BrandHandler;
+import com.stock_service.stock.domain.exception.InvalidPaginationException;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.domain.util.Util;
+import com.stock_service.stock.infrastructure.exception.global.GlobalExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -86,7 +91,7 @@ class BrandRestControllerTest {
 
         Paginated<BrandResponse> paginatedResponse = new Paginated<>(List.of(brandResponse), page, size, 1);
 
-        when(brandHandler.getBrandsPaginated(page, size, sort, ascending)).thenReturn(paginatedResponse);
+        when(brandHandler.getBrandsPaginated(page, size, sort, ascending, CountMode.EXACT)).thenReturn(paginatedResponse);
 
         mockMvc.perform(get("/api/brand/listar")
                         .param("page", String.valueOf(page))
@@ -98,6 +103,58 @@ class BrandRestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().json(objectMapper.writeValueAsString(paginatedResponse)));
 
-        verify(brandHandler, times(1)).getBrandsPaginated(page, size, sort, ascending);
+        verify(brandHandler, times(1)).getBrandsPaginated(page, size, sort, ascending, CountMode.EXACT);
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Should return brands after the cursor")
+    void shouldReturnBrandsAfterCursor() throws Exception {
+        CursorPaginated<BrandResponse> cursorResponse = new CursorPaginated<>(List.of(brandResponse), 10, "next");
+
+        when(brandHandler.getBrandsByCursor("cursor", 10, "name", true)).thenReturn(cursorResponse);
+
+        mockMvc.perform(get("/api/brand/listar/cursor")
+                        .param("cursor", "cursor")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(objectMapper.writeValueAsString(cursorResponse)));
+
+        verify(brandHandler, times(1)).getBrandsByCursor("cursor", 10, "name", true);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Should return bad request when the cursor is invalid")
+    void shouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(brandRestController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        when(brandHandler.getBrandsByCursor("broken", 10, "name", true))
+                .thenThrow(new InvalidPaginationException(Util.INVALID_CURSOR));
+
+        mockMvc.perform(get("/api/brand/listar/cursor")
+                        .param("cursor", "broken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(Util.INVALID_CURSOR));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Should pass the requested count mode to the handler")
+    void shouldPassRequestedCountMode() throws Exception {
+        Paginated<BrandResponse> paginatedResponse =
+                new Paginated<>(List.of(brandResponse), 0, 10, Paginated.UNKNOWN_TOTAL, true);
+
+        when(brandHandler.getBrandsPaginated(0, 10, "name", true, CountMode.NONE)).thenReturn(paginatedResponse);
+
+        mockMvc.perform(get("/api/brand/listar")
+                        .param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(paginatedResponse)));
+
+        verify(brandHandler, times(1)).getBrandsPaginated(0, 10, "name", true, CountMode.NONE);
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stock_service.stock.application.dto.categorydto.CategoryRequest;
 import com.stock_service.stock.application.dto.categorydto.CategoryResponse;
 import com.stock_service.stock.application.handler.categoryhandler.CategoryHandler;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -85,7 +87,7 @@ class CategoryRestControllerTest {
 
         Paginated<CategoryResponse> paginatedResponse = new Paginated<>(List.of(categoryResponse), page, size, 1);
 
-        when(categoryHandler.getCategories(page, size, sort, ascending)).thenReturn(paginatedResponse);
+        when(categoryHandler.getCategories(page, size, sort, ascending, CountMode.EXACT)).thenReturn(paginatedResponse);
 
         mockMvc.perform(get("/api/category/listar")
                         .param("page", String.valueOf(page))
@@ -97,7 +99,7 @@ class CategoryRestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().json(objectMapper.writeValueAsString(paginatedResponse)));
 
-        verify(categoryHandler, times(1)).getCategories(page, size, sort, ascending);
+        verify(categoryHandler, times(1)).getCategories(page, size, sort, ascending, CountMode.EXACT);
     }
 
     @Test
@@ -119,4 +121,22 @@ class CategoryRestControllerTest {
 
         verify(categoryHandler, times(1)).getCategoryNamesByArticleId(articleId);
     }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Should return the first categories when no cursor is given")
+    void shouldReturnFirstCategoriesWithoutCursor() throws Exception {
+        CursorPaginated<CategoryResponse> cursorResponse = new CursorPaginated<>(List.of(categoryResponse), 5, null);
+
+        when(categoryHandler.getCategoriesByCursor(null, 5, "name", false)).thenReturn(cursorResponse);
+
+        mockMvc.perform(get("/api/category/listar/cursor")
+                        .param("size", "5")
+                        .param("ascending", "false")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(cursorResponse)));
+
+        verify(categoryHandler, times(1)).getCategoriesByCursor(null, 5, "name", false);
+    }
 }
@@ -0,0 +1,103 @@
+package com.stock_service.stock.infrastructure.http.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock_service.stock.application.dto.reservationdto.ReservationRequest;
+import com.stock_service.stock.application.dto.reservationdto.ReservationResponse;
+import com.stock_service.stock.application.handler.reservationhandler.ReservationHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.security.Principal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationRestControllerTest {
+
+    private static final Principal CLIENT = new TestingAuthenticationToken("client@mail.com", null);
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ReservationHandler reservationHandler;
+
+    @InjectMocks
+    private ReservationRestController reservationRestController;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        mockMvc = MockMvcBuilders.standaloneSetup(reservationRestController).build();
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    @DisplayName("Should reserve stock and return the reservation")
+    void shouldReserveStock() throws Exception {
+        ReservationResponse reservationResponse = new ReservationResponse();
+        reservationResponse.setId(7L);
+        reservationResponse.setArticleId(1L);
+        reservationResponse.setQuantity(3);
+
+        when(reservationHandler.reserveStock(any(ReservationRequest.class), eq("client@mail.com"))).thenReturn(reservationResponse);
+
+        mockMvc.perform(post("/api/reservation")
+                        .principal(CLIENT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReservationRequest(1L, 3, 60L))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.quantity").value(3));
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    @DisplayName("Should reject a reservation with a TTL above the maximum")
+    void shouldRejectReservationWithTtlAboveMaximum() throws Exception {
+        mockMvc.perform(post("/api/reservation")
+                        .principal(CLIENT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReservationRequest(1L, 3, 3601L))))
+                .andExpect(status().isBadRequest());
+
+        verify(reservationHandler, never()).reserveStock(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    @DisplayName("Should commit a reservation on behalf of the authenticated user")
+    void shouldCommitReservation() throws Exception {
+        mockMvc.perform(post("/api/reservation/7/commit").principal(CLIENT))
+                .andExpect(status().isOk());
+
+        verify(reservationHandler).commitReservation(7L, "client@mail.com");
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    @DisplayName("Should release a reservation on behalf of the authenticated user")
+    void shouldReleaseReservation() throws Exception {
+        mockMvc.perform(delete("/api/reservation/7").principal(CLIENT))
+                .andExpect(status().isOk());
+
+        verify(reservationHandler).releaseReservation(7L, "client@mail.com");
+    }
+}
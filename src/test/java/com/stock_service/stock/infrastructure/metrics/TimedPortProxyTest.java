@@ -0,0 +1,63 @@
+package com.stock_service.stock.infrastructure.metrics;
+
+import com.stock_service.stock.domain.exception.NotFoundException;
+import com.stock_service.stock.domain.model.BrandModel;
+import com.stock_service.stock.domain.spi.IBrandModelPersistencePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimedPortProxyTest {
+
+    @Mock
+    private IBrandModelPersistencePort brandModelPersistencePort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IBrandModelPersistencePort timedPort;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        timedPort = TimedPortProxy.instrument(IBrandModelPersistencePort.class, brandModelPersistencePort, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should time successful calls by port and operation")
+    void shouldTimeSuccessfulCalls() {
+        BrandModel brand = new BrandModel(1L, "Nike", "Sportswear");
+        when(brandModelPersistencePort.getBrandById(1L)).thenReturn(brand);
+
+        assertSame(brand, timedPort.getBrandById(1L));
+        timedPort.getBrandById(1L);
+
+        assertEquals(2, meterRegistry.get(TimedPortProxy.METRIC_NAME)
+                .tag("port", "IBrandModelPersistencePort")
+                .tag("operation", "getBrandById")
+                .tag("outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Should time failed calls with the exception and rethrow it unchanged")
+    void shouldTimeFailedCallsAndRethrow() {
+        when(brandModelPersistencePort.getBrandById(2L)).thenThrow(new NotFoundException("Brand not found"));
+
+        assertThrows(NotFoundException.class, () -> timedPort.getBrandById(2L));
+
+        assertEquals(1, meterRegistry.get(TimedPortProxy.METRIC_NAME)
+                .tag("operation", "getBrandById")
+                .tag("outcome", "error")
+                .tag("exception", "NotFoundException")
+                .timer().count());
+    }
+}
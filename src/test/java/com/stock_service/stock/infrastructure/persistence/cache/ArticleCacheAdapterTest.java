@@ -0,0 +1,185 @@
+package com.stock_service.stock.infrastructure.persistence.cache;
+
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
+import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ArticleCacheAdapterTest {
+
+    @Mock
+    private IArticleModelPersistencePort articleModelPersistencePort;
+
+    private ArticleCacheAdapter articleCacheAdapter;
+
+    private ArticleModel articleModel;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        articleCacheAdapter = new ArticleCacheAdapter(articleModelPersistencePort, 100, Duration.ofMinutes(5));
+
+        articleModel = new ArticleModel(1L, "ArticleName", "Description", 10, 100.0, null, new ArrayList<>());
+    }
+
+    @Test
+    @DisplayName("Should load article once and serve later reads from the cache")
+    void shouldLoadArticleOnceAndServeLaterReadsFromCache() {
+        when(articleModelPersistencePort.getArticleById(1L)).thenReturn(articleModel);
+
+        ArticleModel first = articleCacheAdapter.getArticleById(1L);
+        ArticleModel second = articleCacheAdapter.getArticleById(1L);
+
+        assertEquals(10, first.getQuantity());
+        assertEquals(10, second.getQuantity());
+        assertNotSame(first, second);
+        verify(articleModelPersistencePort, times(1)).getArticleById(1L);
+    }
+
+    @Test
+    @DisplayName("Should not let callers mutate the cached article")
+    void shouldNotLetCallersMutateCachedArticle() {
+        when(articleModelPersistencePort.getArticleById(1L)).thenReturn(articleModel);
+
+        articleCacheAdapter.getArticleById(1L).setQuantity(0);
+
+        assertEquals(10, articleCacheAdapter.getArticleById(1L).getQuantity());
+    }
+
+    @Test
+    @DisplayName("Should not cache missing articles")
+    void shouldNotCacheMissingArticles() {
+        when(articleModelPersistencePort.getArticleById(2L)).thenReturn(null);
+
+        assertNull(articleCacheAdapter.getArticleById(2L));
+        assertNull(articleCacheAdapter.getArticleById(2L));
+
+        verify(articleModelPersistencePort, times(2)).getArticleById(2L);
+    }
+
+    @Test
+    @DisplayName("Should invalidate article and price when the article is saved")
+    void shouldInvalidateArticleAndPriceWhenArticleIsSaved() {
+        when(articleModelPersistencePort.getArticleById(1L)).thenReturn(articleModel);
+        when(articleModelPersistencePort.getArticlePriceById(1L)).thenReturn(100.0);
+        when(articleModelPersistencePort.saveArticle(articleModel)).thenReturn(articleModel);
+
+        articleCacheAdapter.getArticleById(1L);
+        articleCacheAdapter.getArticlePriceById(1L);
+        articleCacheAdapter.saveArticle(articleModel);
+        articleCacheAdapter.getArticleById(1L);
+        articleCacheAdapter.getArticlePriceById(1L);
+
+        verify(articleModelPersistencePort, times(2)).getArticleById(1L);
+        verify(articleModelPersistencePort, times(2)).getArticlePriceById(1L);
+    }
+
+    @Test
+    @DisplayName("Should invalidate article but keep price when stock is reduced")
+    void shouldInvalidateArticleButKeepPriceWhenStockIsReduced() {
+        when(articleModelPersistencePort.getArticleById(1L)).thenReturn(articleModel);
+        when(articleModelPersistencePort.getArticlePriceById(1L)).thenReturn(100.0);
+        when(articleModelPersistencePort.reduceArticleQuantity(1L, 5)).thenReturn(1);
+
+        articleCacheAdapter.getArticleById(1L);
+        articleCacheAdapter.getArticlePriceById(1L);
+        int updatedRows = articleCacheAdapter.reduceArticleQuantity(1L, 5);
+        articleCacheAdapter.getArticleById(1L);
+        articleCacheAdapter.getArticlePriceById(1L);
+
+        assertEquals(1, updatedRows);
+        verify(articleModelPersistencePort, times(2)).getArticleById(1L);
+        verify(articleModelPersistencePort, times(1)).getArticlePriceById(1L);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the article even when the versioned update loses the race")
+    void shouldInvalidateArticleWhenVersionedUpdateConflicts() {
+        articleModel.setVersion(3L);
+        when(articleModelPersistencePort.getArticleById(1L)).thenReturn(articleModel);
+        when(articleModelPersistencePort.updateArticleQuantity(1L, 20, 3L)).thenReturn(0);
+
+        assertEquals(3L, articleCacheAdapter.getArticleById(1L).getVersion());
+        int updatedRows = articleCacheAdapter.updateArticleQuantity(1L, 20, 3L);
+        articleCacheAdapter.getArticleById(1L);
+
+        assertEquals(0, updatedRows);
+        verify(articleModelPersistencePort, times(2)).getArticleById(1L);
+    }
+
+    @Test
+    @DisplayName("Should invalidate every article of a stock batch")
+    void shouldInvalidateEveryArticleOfStockBatch() {
+        List<ArticleStockModel> items = List.of(new ArticleStockModel(1L, 1), new ArticleStockModel(2L, 1));
+        ArticleModel otherArticle = new ArticleModel(2L, "Other", "Description", 3, 50.0, null, new ArrayList<>());
+
+        when(articleModelPersistencePort.getArticleById(1L)).thenReturn(articleModel);
+        when(articleModelPersistencePort.getArticleById(2L)).thenReturn(otherArticle);
+        when(articleModelPersistencePort.reduceArticleQuantities(items)).thenReturn(new int[]{1, 1});
+
+        articleCacheAdapter.getArticleById(1L);
+        articleCacheAdapter.getArticleById(2L);
+        articleCacheAdapter.reduceArticleQuantities(items);
+        articleCacheAdapter.getArticleById(1L);
+        articleCacheAdapter.getArticleById(2L);
+
+        verify(articleModelPersistencePort, times(2)).getArticleById(1L);
+        verify(articleModelPersistencePort, times(2)).getArticleById(2L);
+    }
+
+    @Test
+    @DisplayName("Should only load missing prices in a batch price lookup")
+    void shouldOnlyLoadMissingPricesInBatchPriceLookup() {
+        when(articleModelPersistencePort.getArticlePriceById(1L)).thenReturn(100.0);
+        when(articleModelPersistencePort.getArticlePricesByIds(List.of(2L))).thenReturn(Map.of(2L, 50.0));
+
+        articleCacheAdapter.getArticlePriceById(1L);
+        Map<Long, Double> result = articleCacheAdapter.getArticlePricesByIds(List.of(1L, 2L));
+
+        assertEquals(Map.of(1L, 100.0, 2L, 50.0), result);
+        verify(articleModelPersistencePort, times(1)).getArticlePricesByIds(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("Should expose hit and miss metrics")
+    void shouldExposeHitAndMissMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        articleCacheAdapter.bindTo(registry);
+
+        when(articleModelPersistencePort.getArticleById(1L)).thenReturn(articleModel);
+
+        articleCacheAdapter.getArticleById(1L);
+        articleCacheAdapter.getArticleById(1L);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "article.byId").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "article.byId").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should pass imported articles and name lookups straight to the delegate")
+    void shouldPassImportsStraightToDelegate() {
+        when(articleModelPersistencePort.getExistingNames(List.of("ArticleName"))).thenReturn(Set.of("ArticleName"));
+
+        articleCacheAdapter.saveArticles(List.of(articleModel));
+
+        assertEquals(Set.of("ArticleName"), articleCacheAdapter.getExistingNames(List.of("ArticleName")));
+        verify(articleModelPersistencePort).saveArticles(List.of(articleModel));
+    }
+}
@@ -0,0 +1,48 @@
+package com.stock_service.stock.infrastructure.persistence.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PaginationCountCacheTest {
+
+    private PaginationCountCache countCache;
+    private AtomicInteger counts;
+
+    @BeforeEach
+    void setUp() {
+        countCache = new PaginationCountCache("test.count", 100, Duration.ofMinutes(1));
+        counts = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should count once per filter signature")
+    void shouldCountOncePerSignature() {
+        assertEquals(7L, countCache.get("all", () -> count(7L)));
+        assertEquals(7L, countCache.get("all", () -> count(8L)));
+        assertEquals(3L, countCache.get("filters|a", () -> count(3L)));
+
+        assertEquals(2, counts.get());
+    }
+
+    @Test
+    @DisplayName("Should count again after a write")
+    void shouldCountAgainAfterWrite() {
+        countCache.get("all", () -> count(7L));
+
+        countCache.invalidateOnWrite();
+
+        assertEquals(8L, countCache.get("all", () -> count(8L)));
+        assertEquals(2, counts.get());
+    }
+
+    private long count(long total) {
+        counts.incrementAndGet();
+        return total;
+    }
+}
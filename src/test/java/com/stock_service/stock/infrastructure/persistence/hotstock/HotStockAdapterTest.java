@@ -0,0 +1,192 @@
+package com.stock_service.stock.infrastructure.persistence.hotstock;
+
+import com.stock_service.stock.domain.exception.ConcurrentUpdateException;
+import com.stock_service.stock.domain.exception.NotFoundException;
+import com.stock_service.stock.domain.util.Util;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HotStockAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    private static final Duration LEASE_TTL = Duration.ofSeconds(40);
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private HotStockJdbcStore store;
+
+    @Mock
+    private Clock clock;
+
+    private HotStockAdapter hotStockAdapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        when(store.getQuantity(1L)).thenReturn(10);
+        when(store.acquireLease(1L)).thenReturn(true);
+        when(store.renewLeases(any())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+        when(clock.instant()).thenReturn(START);
+
+        // A long interval keeps the background flusher out of the way; tests flush explicitly
+        hotStockAdapter = new HotStockAdapter(Set.of(1L), 4, Duration.ofHours(1),
+                new StockJournal(directory, false), store, LEASE_TTL, clock, new SimpleMeterRegistry());
+        hotStockAdapter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hotStockAdapter.close();
+    }
+
+    @Test
+    @DisplayName("Should only treat configured articles as hot")
+    void shouldOnlyTreatConfiguredArticlesAsHot() {
+        assertTrue(hotStockAdapter.isHot(1L));
+        assertFalse(hotStockAdapter.isHot(2L));
+    }
+
+    @Test
+    @DisplayName("Should serve decrements from memory and write their net delta on flush")
+    void shouldServeDecrementsFromMemoryAndWriteNetDeltaOnFlush() {
+        assertTrue(hotStockAdapter.tryReduce(1L, 3));
+        assertTrue(hotStockAdapter.tryReduce(1L, 4));
+        assertFalse(hotStockAdapter.tryReduce(1L, 4));
+        assertEquals(3, hotStockAdapter.getQuantity(1L));
+        verify(store, never()).applySegment(anyLong(), any());
+
+        hotStockAdapter.flush();
+
+        verify(store).applySegment(1L, Map.of(1L, 7L));
+    }
+
+    @Test
+    @DisplayName("Should journal an absolute quantity as the delta from the current stock")
+    void shouldJournalAbsoluteQuantityAsDelta() {
+        hotStockAdapter.tryReduce(1L, 2);
+        hotStockAdapter.setQuantity(1L, 20);
+
+        assertEquals(20, hotStockAdapter.getQuantity(1L));
+
+        hotStockAdapter.flush();
+
+        verify(store).applySegment(1L, Map.of(1L, -10L));
+    }
+
+    @Test
+    @DisplayName("Should give restored stock back to the counter and the journal")
+    void shouldGiveRestoredStockBack() {
+        hotStockAdapter.tryReduce(1L, 5);
+        hotStockAdapter.restoreStock(1L, 5);
+
+        assertEquals(10, hotStockAdapter.getQuantity(1L));
+
+        hotStockAdapter.flush();
+
+        verify(store).applySegment(1L, Map.of(1L, 0L));
+    }
+
+    @Test
+    @DisplayName("Should skip segments at or below the checkpoint when recovering")
+    void shouldSkipSegmentsAtOrBelowCheckpoint() {
+        hotStockAdapter.tryReduce(1L, 1);
+        when(store.lastAppliedSegment()).thenReturn(1L);
+
+        hotStockAdapter.flush();
+
+        verify(store, never()).applySegment(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should refuse an article whose lease is held by another instance")
+    void shouldRefuseArticleLeasedElsewhere() {
+        when(store.acquireLease(1L)).thenReturn(false);
+
+        ConcurrentUpdateException exception = assertThrows(ConcurrentUpdateException.class,
+                () -> hotStockAdapter.tryReduce(1L, 1));
+
+        assertEquals(Util.HOT_ARTICLE_LEASED_ELSEWHERE, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException for a hot article that does not exist")
+    void shouldThrowNotFoundForMissingArticle() {
+        when(store.getQuantity(1L)).thenReturn(null);
+
+        assertThrows(NotFoundException.class, () -> hotStockAdapter.getQuantity(1L));
+        verify(store, never()).acquireLease(1L);
+    }
+
+    @Test
+    @DisplayName("Should drop the counter when its lease is not renewed")
+    void shouldDropCounterWhenLeaseIsNotRenewed() {
+        hotStockAdapter.tryReduce(1L, 1);
+        when(store.renewLeases(any())).thenReturn(List.of());
+
+        hotStockAdapter.flush();
+        hotStockAdapter.getQuantity(1L);
+
+        verify(store, times(2)).acquireLease(1L);
+    }
+
+    @Test
+    @DisplayName("Should stop serving a counter whose lease was not renewed in time")
+    void shouldStopServingCounterPastLeaseDeadline() {
+        hotStockAdapter.tryReduce(1L, 1);
+        doThrow(new IllegalStateException("database unreachable")).when(store).getQuantity(1L);
+
+        // Three quarters of the TTL later, before another instance could take the lease over
+        when(clock.instant()).thenReturn(START.plus(Duration.ofSeconds(30)));
+
+        assertThrows(IllegalStateException.class, () -> hotStockAdapter.tryReduce(1L, 1));
+        verify(store, times(1)).acquireLease(1L);
+    }
+
+    @Test
+    @DisplayName("Should keep serving a counter whose lease was renewed")
+    void shouldKeepServingRenewedCounter() {
+        hotStockAdapter.tryReduce(1L, 1);
+
+        when(clock.instant()).thenReturn(START.plus(Duration.ofSeconds(20)));
+        hotStockAdapter.renewLeases();
+        when(clock.instant()).thenReturn(START.plus(Duration.ofSeconds(45)));
+
+        assertTrue(hotStockAdapter.tryReduce(1L, 1));
+        verify(store, times(1)).acquireLease(1L);
+    }
+
+    @Test
+    @DisplayName("Should renew leases even when a segment cannot be written")
+    void shouldRenewLeasesWhenSegmentApplyFails() {
+        hotStockAdapter.tryReduce(1L, 1);
+        doThrow(new IllegalStateException("lock wait timeout")).when(store).applySegment(anyLong(), any());
+
+        assertThrows(IllegalStateException.class, hotStockAdapter::applySegments);
+        hotStockAdapter.renewLeases();
+
+        verify(store).renewLeases(Set.of(1L));
+
+        // The database is back by the time the adapter closes
+        doNothing().when(store).applySegment(anyLong(), any());
+    }
+}
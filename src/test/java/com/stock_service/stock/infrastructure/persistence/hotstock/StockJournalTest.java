@@ -0,0 +1,118 @@
+package com.stock_service.stock.infrastructure.persistence.hotstock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should seal appended records and read them back as net deltas per article")
+    void shouldSealAndReadNetDeltas() {
+        StockJournal journal = new StockJournal(directory, true);
+        journal.open(0);
+
+        journal.append(1L, 3);
+        journal.append(2L, 5);
+        journal.append(1L, -1);
+
+        assertTrue(journal.rotate());
+        assertEquals(List.of(1L), journal.sealedSegments());
+        assertEquals(Map.of(1L, 2L, 2L, 5L), journal.read(1L));
+
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should not seal an empty segment")
+    void shouldNotSealEmptySegment() {
+        StockJournal journal = new StockJournal(directory, false);
+        journal.open(0);
+
+        assertFalse(journal.rotate());
+        assertTrue(journal.sealedSegments().isEmpty());
+
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should treat segments left by a previous run as sealed and number new ones after them")
+    void shouldTreatLeftoverSegmentsAsSealed() {
+        StockJournal previousRun = new StockJournal(directory, true);
+        previousRun.open(0);
+        previousRun.append(1L, 4);
+        previousRun.close();
+
+        StockJournal journal = new StockJournal(directory, true);
+        journal.open(0);
+        journal.append(1L, 1);
+        journal.rotate();
+
+        assertEquals(List.of(1L, 2L), journal.sealedSegments());
+        assertEquals(Map.of(1L, 4L), journal.read(1L));
+
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should number new segments after the last applied segment")
+    void shouldNumberNewSegmentsAfterLastAppliedSegment() {
+        StockJournal journal = new StockJournal(directory, false);
+        journal.open(41);
+        journal.append(1L, 1);
+        journal.rotate();
+
+        assertEquals(List.of(42L), journal.sealedSegments());
+
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should ignore a record cut short by a crash")
+    void shouldIgnoreTornRecord() throws IOException {
+        StockJournal journal = new StockJournal(directory, true);
+        journal.open(0);
+        journal.append(1L, 2);
+        journal.close();
+
+        Files.write(directory.resolve("segment-1.log"), new byte[]{0, 0, 0}, StandardOpenOption.APPEND);
+
+        assertEquals(Map.of(1L, 2L), journal.read(1L));
+    }
+
+    @Test
+    @DisplayName("Should delete an applied segment")
+    void shouldDeleteAppliedSegment() {
+        StockJournal journal = new StockJournal(directory, false);
+        journal.open(0);
+        journal.append(1L, 1);
+        journal.rotate();
+
+        journal.delete(1L);
+
+        assertTrue(journal.sealedSegments().isEmpty());
+
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should keep the same instance ID for a journal directory across restarts")
+    void shouldKeepInstanceIdAcrossRestarts() {
+        String instanceId = StockJournal.loadOrCreateInstanceId(directory);
+
+        assertFalse(instanceId.isBlank());
+        assertEquals(instanceId, StockJournal.loadOrCreateInstanceId(directory));
+    }
+}
@@ -0,0 +1,78 @@
+package com.stock_service.stock.infrastructure.persistence.hotstock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedStockCounterTest {
+
+    @Test
+    @DisplayName("Should spread the initial quantity across the stripes without losing units")
+    void shouldSpreadInitialQuantityAcrossStripes() {
+        StripedStockCounter counter = new StripedStockCounter(8, 13);
+
+        assertEquals(13, counter.total());
+    }
+
+    @Test
+    @DisplayName("Should borrow from other stripes when the caller's stripe runs short")
+    void shouldBorrowFromOtherStripesWhenHomeStripeRunsShort() {
+        StripedStockCounter counter = new StripedStockCounter(4, 8);
+
+        assertTrue(counter.tryTake(7));
+        assertEquals(1, counter.total());
+    }
+
+    @Test
+    @DisplayName("Should refuse a take larger than the total and keep the stock intact")
+    void shouldRefuseTakeLargerThanTotal() {
+        StripedStockCounter counter = new StripedStockCounter(4, 8);
+
+        assertFalse(counter.tryTake(9));
+        assertEquals(8, counter.total());
+    }
+
+    @Test
+    @DisplayName("Should drain every stripe and return what they held")
+    void shouldDrainEveryStripe() {
+        StripedStockCounter counter = new StripedStockCounter(4, 10);
+        counter.tryTake(3);
+
+        assertEquals(7, counter.drain());
+        assertEquals(0, counter.total());
+    }
+
+    @Test
+    @DisplayName("Should never oversell under concurrent takes")
+    void shouldNeverOversellUnderConcurrentTakes() throws Exception {
+        StripedStockCounter counter = new StripedStockCounter(8, 1000);
+        AtomicInteger sold = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 16; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        if (counter.tryTake(1)) {
+                            sold.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(1000, sold.get());
+        assertEquals(0, counter.total());
+    }
+}
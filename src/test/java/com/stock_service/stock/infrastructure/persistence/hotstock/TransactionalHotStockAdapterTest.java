@@ -0,0 +1,112 @@
+package com.stock_service.stock.infrastructure.persistence.hotstock;
+
+import com.stock_service.stock.domain.spi.IHotStockPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TransactionalHotStockAdapterTest {
+
+    @Mock
+    private IHotStockPort delegate;
+
+    private TransactionalHotStockAdapter hotStockAdapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        hotStockAdapter = new TransactionalHotStockAdapter(delegate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(hotStockAdapter);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should give back what a transaction took when it rolls back")
+    void shouldGiveBackReductionsOnRollback() {
+        when(delegate.tryReduce(anyLong(), anyInt())).thenReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(hotStockAdapter.tryReduce(1L, 2));
+        assertTrue(hotStockAdapter.tryReduce(1L, 3));
+        assertTrue(hotStockAdapter.tryReduce(2L, 1));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(delegate).restoreStock(1L, 5);
+        verify(delegate).restoreStock(2L, 1);
+    }
+
+    @Test
+    @DisplayName("Should keep the reductions of a committed transaction")
+    void shouldKeepReductionsOnCommit() {
+        when(delegate.tryReduce(1L, 2)).thenReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        hotStockAdapter.tryReduce(1L, 2);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(delegate, never()).restoreStock(anyLong(), anyInt());
+        assertNull(TransactionSynchronizationManager.getResource(hotStockAdapter));
+    }
+
+    @Test
+    @DisplayName("Should not give back twice the units already restored inside the transaction")
+    void shouldNotGiveBackUnitsRestoredInsideTransaction() {
+        when(delegate.tryReduce(anyLong(), anyInt())).thenReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        hotStockAdapter.tryReduce(1L, 2);
+        hotStockAdapter.tryReduce(2L, 4);
+        hotStockAdapter.restoreStock(1L, 2);
+        hotStockAdapter.restoreStock(2L, 1);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(delegate, times(1)).restoreStock(1L, 2);
+        verify(delegate).restoreStock(2L, 3);
+    }
+
+    @Test
+    @DisplayName("Should not record a reduction the counter refused")
+    void shouldNotRecordRefusedReduction() {
+        when(delegate.tryReduce(1L, 2)).thenReturn(false);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertFalse(hotStockAdapter.tryReduce(1L, 2));
+
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        verify(delegate, never()).restoreStock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should apply reductions immediately outside a transaction")
+    void shouldApplyReductionsOutsideTransaction() {
+        when(delegate.tryReduce(1L, 2)).thenReturn(true);
+
+        assertTrue(hotStockAdapter.tryReduce(1L, 2));
+
+        verify(delegate).tryReduce(1L, 2);
+        assertNull(TransactionSynchronizationManager.getResource(hotStockAdapter));
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(status));
+    }
+}
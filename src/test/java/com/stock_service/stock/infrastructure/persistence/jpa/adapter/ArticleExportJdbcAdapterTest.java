@@ -0,0 +1,108 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.adapter;
+
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.CategoryModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ArticleExportJdbcAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final List<ArticleModel> exported = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("Should fold the joined rows of each article into one model with its brand and categories")
+    void shouldFoldJoinedRowsIntoOneModelPerArticle() throws SQLException {
+        ArticleExportJdbcAdapter.ArticleRowAssembler assembler = new ArticleExportJdbcAdapter.ArticleRowAssembler(exported::add);
+
+        feedRow(assembler, true, 1L, 5L, 10L);
+        feedRow(assembler, false, 1L, 5L, 11L);
+        assertTrue(exported.isEmpty());
+
+        feedRow(assembler, true, 2L, null, null);
+        assertEquals(1, exported.size());
+
+        assembler.finish();
+
+        assertEquals(2, exported.size());
+        ArticleModel first = exported.get(0);
+        assertEquals(1L, first.getId());
+        assertEquals("Brand5", first.getBrand().getName());
+        assertEquals(List.of(10L, 11L), first.getCategories().stream().map(CategoryModel::getId).toList());
+
+        ArticleModel second = exported.get(1);
+        assertNull(second.getBrand());
+        assertTrue(second.getCategories().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should read the catalog through a forward-only cursor with the configured fetch size")
+    void shouldReadCatalogThroughForwardOnlyCursor() throws SQLException {
+        ArticleExportJdbcAdapter adapter = new ArticleExportJdbcAdapter(jdbcTemplate, Integer.MIN_VALUE);
+
+        adapter.streamAllArticles(exported::add);
+
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowCallbackHandler.class));
+
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+                .thenReturn(statement);
+
+        creator.getValue().createPreparedStatement(connection);
+
+        verify(statement).setFetchSize(Integer.MIN_VALUE);
+    }
+
+    private void feedRow(ArticleExportJdbcAdapter.ArticleRowAssembler assembler, boolean firstRowOfArticle,
+                         Long articleId, Long brandId, Long categoryId) throws SQLException {
+        reset(resultSet);
+        when(resultSet.getLong("id")).thenReturn(articleId);
+        when(resultSet.getString("name")).thenReturn("Article" + articleId);
+        when(resultSet.getString("description")).thenReturn("Description");
+        when(resultSet.getInt("quantity")).thenReturn(10);
+        when(resultSet.getDouble("price")).thenReturn(100.0);
+        when(resultSet.getLong("version")).thenReturn(0L);
+        when(resultSet.getLong("brand_id")).thenReturn(brandId == null ? 0L : brandId);
+        when(resultSet.getString("brand_name")).thenReturn(brandId == null ? null : "Brand" + brandId);
+        when(resultSet.getLong("category_id")).thenReturn(categoryId == null ? 0L : categoryId);
+        when(resultSet.getString("category_name")).thenReturn(categoryId == null ? null : "Category" + categoryId);
+
+        // wasNull answers for brand_id, which is only read on the first row of an article, and then category_id
+        if (firstRowOfArticle) {
+            when(resultSet.wasNull()).thenReturn(brandId == null, categoryId == null);
+        } else {
+            when(resultSet.wasNull()).thenReturn(categoryId == null);
+        }
+
+        assembler.processRow(resultSet);
+    }
+}
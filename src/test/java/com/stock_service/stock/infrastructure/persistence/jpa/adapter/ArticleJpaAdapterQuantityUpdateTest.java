@@ -0,0 +1,108 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.adapter;
+
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.usecase.ArticleModelUseCase;
+import com.stock_service.stock.domain.util.RetryPolicy;
+import com.stock_service.stock.infrastructure.persistence.cache.PaginationCountCache;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.BrandEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.mapper.IArticleEntityMapper;
+import com.stock_service.stock.infrastructure.persistence.jpa.repository.IArticleRepository;
+import com.stock_service.stock.infrastructure.persistence.jpa.repository.IBrandRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the quantity update without a surrounding transaction, as the handler does, so the update has to open
+ * and commit its own.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ArticleJpaAdapterQuantityUpdateTest {
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    private ArticleJpaAdapter articleJpaAdapter;
+    private Long articleId;
+
+    @BeforeEach
+    void setUp() {
+        articleJpaAdapter = new ArticleJpaAdapter(articleRepository, Mappers.getMapper(IArticleEntityMapper.class), null,
+                new PaginationCountCache("test.count", 100, Duration.ofSeconds(30)));
+
+        BrandEntity brand = new BrandEntity();
+        brand.setName("Brand");
+        brand.setDescription("Brand description");
+        brand = brandRepository.save(brand);
+
+        ArticleEntity article = new ArticleEntity();
+        article.setName("Article");
+        article.setDescription("Article description");
+        article.setQuantity(10);
+        article.setPrice(100.0);
+        article.setBrand(brand);
+        article.setCategories(new ArrayList<>());
+        articleId = articleRepository.save(article).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        articleRepository.deleteAll();
+        brandRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should commit the quantity when the version still matches")
+    void shouldCommitQuantityWhenVersionMatches() {
+        ArticleModel article = articleJpaAdapter.getArticleById(articleId);
+
+        int updatedRows = articleJpaAdapter.updateArticleQuantity(articleId, 7, article.getVersion());
+
+        ArticleModel updated = articleJpaAdapter.getArticleById(articleId);
+        assertEquals(1, updatedRows);
+        assertEquals(7, updated.getQuantity());
+        assertEquals(article.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should leave the row alone when another writer bumped the version first")
+    void shouldSkipUpdateWhenVersionIsStale() {
+        Long staleVersion = articleJpaAdapter.getArticleById(articleId).getVersion();
+        articleJpaAdapter.updateArticleQuantity(articleId, 5, staleVersion);
+
+        int updatedRows = articleJpaAdapter.updateArticleQuantity(articleId, 7, staleVersion);
+
+        assertEquals(0, updatedRows);
+        assertEquals(5, articleJpaAdapter.getArticleById(articleId).getQuantity());
+    }
+
+    @Test
+    @DisplayName("Should update the quantity through the retrying use case outside a transaction")
+    void shouldUpdateQuantityThroughUseCase() {
+        ArticleModelUseCase articleModelUseCase = new ArticleModelUseCase(articleJpaAdapter, RetryPolicy.defaults());
+
+        ArticleModel result = articleModelUseCase.updateArticleQuantity(articleId, 3);
+
+        assertEquals(3, result.getQuantity());
+        assertEquals(3, articleJpaAdapter.getArticleById(articleId).getQuantity());
+    }
+}
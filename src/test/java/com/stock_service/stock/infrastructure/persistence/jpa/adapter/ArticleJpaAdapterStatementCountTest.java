@@ -0,0 +1,218 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.adapter;
+
+import com.stock_service.stock.domain.model.ArticleFacetsModel;
+import com.stock_service.stock.domain.model.ArticleFilterModel;
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.BrandModel;
+import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.model.FacetCountModel;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.infrastructure.persistence.cache.PaginationCountCache;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.BrandEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.CategoryEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.mapper.IArticleEntityMapper;
+import com.stock_service.stock.infrastructure.persistence.jpa.repository.IArticleRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ArticleJpaAdapterStatementCountTest {
+
+    private static final int ARTICLE_COUNT = 60;
+    private static final int IMPORTED_COUNT = 100;
+
+    // One statement for the page of IDs, one for the count and one for the articles with brand and categories
+    private static final long STATEMENTS_PER_PAGE = 3;
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ArticleJpaAdapter articleJpaAdapter;
+    private Statistics statistics;
+    private List<BrandEntity> brands;
+    private List<CategoryEntity> categories;
+
+    @BeforeEach
+    void setUp() {
+        articleJpaAdapter = new ArticleJpaAdapter(articleRepository, Mappers.getMapper(IArticleEntityMapper.class), null,
+                new PaginationCountCache("test.count", 100, Duration.ofSeconds(30)));
+
+        brands = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            BrandEntity brand = new BrandEntity();
+            brand.setName("Brand" + i);
+            brand.setDescription("Brand description " + i);
+            entityManager.persist(brand);
+            brands.add(brand);
+        }
+
+        categories = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            CategoryEntity category = new CategoryEntity();
+            category.setName("Category" + i);
+            category.setDescription("Category description " + i);
+            entityManager.persist(category);
+            categories.add(category);
+        }
+
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            ArticleEntity article = new ArticleEntity();
+            article.setName(String.format("Article%03d", i));
+            article.setDescription("Article description " + i);
+            article.setQuantity(i % 10 == 9 ? 0 : 10);
+            article.setPrice(100.0 + i);
+            article.setBrand(brands.get(i % brands.size()));
+            article.setCategories(new ArrayList<>(List.of(
+                    categories.get(i % categories.size()),
+                    categories.get((i + 1) % categories.size()))));
+            entityManager.persist(article);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 50})
+    @DisplayName("Should load an article page with a constant number of statements")
+    void shouldLoadArticlePageWithConstantNumberOfStatements(int size) {
+        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginated(0, size, "name", true, false, CountMode.EXACT);
+
+        assertEquals(size, result.getContent().size());
+        result.getContent().forEach(article -> assertFalse(article.getCategories().isEmpty()));
+        assertEquals(STATEMENTS_PER_PAGE, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    @DisplayName("Should load a filtered article page with a constant number of statements")
+    void shouldLoadFilteredArticlePageWithConstantNumberOfStatements(int size) {
+        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginatedByFilters(
+                0, size, "name", true, brandFilter("Brand0"), CountMode.EXACT);
+
+        assertEquals(size, result.getContent().size());
+        result.getContent().forEach(article -> assertEquals("Brand0", article.getBrand().getName()));
+        assertEquals(STATEMENTS_PER_PAGE, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    @DisplayName("Should skip the count query when the total is not requested")
+    void shouldSkipCountQueryWhenTotalIsNotRequested(int size) {
+        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginatedByFilters(
+                0, size, "name", true, brandFilter("Brand0"), CountMode.NONE);
+
+        assertEquals(size, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(Paginated.UNKNOWN_TOTAL, result.getTotalElements());
+        assertEquals(STATEMENTS_PER_PAGE - 1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    @DisplayName("Should count only once while the cached total is fresh")
+    void shouldCountOnlyOnceWhileCachedTotalIsFresh(int size) {
+        Paginated<ArticleModel> first = articleJpaAdapter.getArticlesPaginated(0, size, "name", true, false, CountMode.CACHED);
+        Paginated<ArticleModel> second = articleJpaAdapter.getArticlesPaginated(1, size, "name", true, false, CountMode.CACHED);
+
+        assertEquals(ARTICLE_COUNT, first.getTotalElements());
+        assertEquals(ARTICLE_COUNT, second.getTotalElements());
+        assertEquals(2 * STATEMENTS_PER_PAGE - 1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should count brand and category facets of the filtered articles in one statement")
+    void shouldCountFacetsInOneStatement() {
+        ArticleFacetsModel facets = articleJpaAdapter.getArticleFacets(brandFilter("Brand0"));
+
+        assertEquals(List.of("Brand0"), facets.getBrands().stream().map(FacetCountModel::getName).toList());
+        assertEquals(ARTICLE_COUNT / brands.size(), facets.getBrands().get(0).getCount());
+        assertEquals(categories.size(), facets.getCategories().size());
+        // Each article of the brand has two categories spread evenly over the five
+        facets.getCategories().forEach(category ->
+                assertEquals(2L * ARTICLE_COUNT / brands.size() / categories.size(), category.getCount()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should match each article once under several categories, brands, a price range and stock")
+    void shouldMatchEachArticleOnceUnderCombinedFilters() {
+        ArticleFilterModel filter = new ArticleFilterModel();
+        filter.setCategoryIds(List.of(categories.get(0).getId(), categories.get(1).getId()));
+        filter.setBrandIds(List.of(brands.get(0).getId(), brands.get(1).getId()));
+        filter.setMinPrice(110.0);
+        filter.setMaxPrice(139.0);
+        filter.setInStock(true);
+
+        // Articles in both categories 0 and 1 would come back twice from a join on categories
+        List<String> expected = IntStream.rangeClosed(10, 39)
+                .filter(i -> i % 5 == 0 || i % 5 == 1 || i % 5 == 4)
+                .filter(i -> i % 3 != 2)
+                .filter(i -> i % 10 != 9)
+                .mapToObj(i -> String.format("Article%03d", i))
+                .toList();
+
+        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginatedByFilters(
+                0, ARTICLE_COUNT, "name", true, filter, CountMode.EXACT);
+
+        assertEquals(expected, result.getContent().stream().map(ArticleModel::getName).toList());
+        assertEquals(expected.size(), result.getTotalElements());
+        assertEquals(STATEMENTS_PER_PAGE, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should insert imported articles in JDBC batches")
+    void shouldInsertImportedArticlesInJdbcBatches() {
+        List<ArticleModel> imported = new ArrayList<>();
+        for (int i = 0; i < IMPORTED_COUNT; i++) {
+            BrandEntity brand = brands.get(i % brands.size());
+            CategoryEntity category = categories.get(i % categories.size());
+
+            imported.add(new ArticleModel(null, "Imported" + i, "Imported description " + i, 10, 50.0 + i,
+                    new BrandModel(brand.getId(), brand.getName(), brand.getDescription()),
+                    new ArrayList<>(List.of(new CategoryModel(category.getId(), category.getName(), category.getDescription())))));
+        }
+
+        articleJpaAdapter.saveArticles(imported);
+
+        // Unbatched, every article would take one statement for its row and one for its category link
+        assertTrue(statistics.getPrepareStatementCount() < IMPORTED_COUNT / 2);
+        assertEquals(ARTICLE_COUNT + IMPORTED_COUNT, articleRepository.count());
+    }
+
+    private static ArticleFilterModel brandFilter(String brandName) {
+        ArticleFilterModel filter = new ArticleFilterModel();
+        filter.setBrandName(brandName);
+        return filter;
+    }
+}
@@ -1,10 +1,22 @@
 package com.stock_service.stock.infrastructure.persistence.jpa.adapter;
 
+import com.stock_service.stock.domain.exception.InvalidPaginationException;
+import com.stock_service.stock.domain.model.ArticleFacetsModel;
+import com.stock_service.stock.domain.model.ArticleFilterModel;
 import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
+import com.stock_service.stock.domain.model.FacetCountModel;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.infrastructure.persistence.cache.PaginationCountCache;
 import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
 import com.stock_service.stock.infrastructure.persistence.jpa.mapper.IArticleEntityMapper;
+import com.stock_service.stock.infrastructure.persistence.jpa.projection.ArticleFacetRow;
+import com.stock_service.stock.infrastructure.persistence.jpa.projection.ArticlePriceProjection;
+import com.stock_service.stock.infrastructure.persistence.jpa.projection.ArticleQuantityProjection;
 import com.stock_service.stock.infrastructure.persistence.jpa.repository.IArticleRepository;
+import com.stock_service.stock.infrastructure.persistence.jpa.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,10 +26,15 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,6 +50,12 @@ class ArticleJpaAdapterTest {
     @Mock
     private IArticleEntityMapper articleEntityMapper;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PaginationCountCache countCache;
+
     private ArticleModel articleModel;
     private ArticleEntity articleEntity;
 
@@ -95,13 +118,14 @@ class ArticleJpaAdapterTest {
         String sort = "name";
         boolean ascending = true;
 
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.ASC, sort);
-        List<ArticleEntity> articleEntitiesList = List.of(articleEntity);
-        Page<ArticleEntity> articleEntities = new PageImpl<>(articleEntitiesList, pageRequest, articleEntitiesList.size());
+        articleEntity.setId(1L);
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sort, "id"));
+        Page<Long> articleIds = new PageImpl<>(List.of(1L), pageRequest, 1);
 
-        when(articleRepository.findAll(pageRequest)).thenReturn(articleEntities);
+        when(articleRepository.findIds(any(), eq(pageRequest))).thenReturn(articleIds);
+        when(articleRepository.findAllWithBrandAndCategoriesByIdIn(List.of(1L))).thenReturn(List.of(articleEntity));
 
-        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginated(page, size, sort, ascending);
+        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginated(page, size, sort, ascending, false, CountMode.EXACT);
 
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
@@ -110,10 +134,130 @@ class ArticleJpaAdapterTest {
         assertEquals(size, result.getPageSize());
         assertEquals(1, result.getTotalPages());
 
-        verify(articleRepository, times(1)).findAll(pageRequest);
+        verify(articleRepository, times(1)).findIds(any(), eq(pageRequest));
+        verify(articleRepository, times(1)).findAllWithBrandAndCategoriesByIdIn(List.of(1L));
         verify(articleEntityMapper, times(1)).articleEntityToArticleModel(articleEntity);
     }
 
+    @Test
+    @DisplayName("Should keep the page order of IDs when loading article details")
+    void shouldKeepPageOrderOfIdsWhenLoadingArticleDetails() {
+        ArticleEntity secondEntity = new ArticleEntity();
+        ArticleModel secondModel = new ArticleModel();
+        articleEntity.setId(1L);
+        secondEntity.setId(2L);
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "name", "id"));
+        Page<Long> articleIds = new PageImpl<>(List.of(2L, 1L), pageRequest, 2);
+
+        when(articleRepository.findIds(any(), eq(pageRequest))).thenReturn(articleIds);
+        when(articleRepository.findAllWithBrandAndCategoriesByIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(articleEntity, secondEntity));
+        when(articleEntityMapper.articleEntityToArticleModel(secondEntity)).thenReturn(secondModel);
+
+        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginated(0, 10, "name", true, false, CountMode.EXACT);
+
+        assertEquals(List.of(secondModel, articleModel), result.getContent());
+    }
+
+    @Test
+    @DisplayName("Should fetch one extra ID to detect the next keyset page")
+    void shouldFetchOneExtraIdToDetectNextKeysetPage() {
+        ArticleEntity secondEntity = new ArticleEntity();
+        ArticleModel secondModel = new ArticleModel();
+        articleEntity.setId(7L);
+        articleEntity.setPrice(50.0);
+        secondEntity.setId(3L);
+        secondEntity.setPrice(40.0);
+
+        when(articleRepository.findIds(any(), eq(KeysetCursor.sortOf("price", false)), eq(3)))
+                .thenReturn(List.of(7L, 3L, 9L));
+        when(articleRepository.findAllWithBrandAndCategoriesByIdIn(List.of(7L, 3L)))
+                .thenReturn(List.of(secondEntity, articleEntity));
+        when(articleEntityMapper.articleEntityToArticleModel(secondEntity)).thenReturn(secondModel);
+
+        CursorPaginated<ArticleModel> result = articleJpaAdapter.getArticlesByCursor(null, 2, "price", false);
+
+        assertEquals(List.of(articleModel, secondModel), result.getContent());
+        assertEquals(KeysetCursor.fromEntity(secondEntity, "price", false).encode(), result.getNextCursor());
+        verify(articleRepository, never()).findIds(any(), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should not return a cursor on the last keyset page")
+    void shouldNotReturnCursorOnLastKeysetPage() {
+        articleEntity.setId(7L);
+
+        when(articleRepository.findIds(any(), any(Sort.class), eq(3))).thenReturn(List.of(7L));
+        when(articleRepository.findAllWithBrandAndCategoriesByIdIn(List.of(7L))).thenReturn(List.of(articleEntity));
+
+        CursorPaginated<ArticleModel> result = articleJpaAdapter.getArticlesByCursor(null, 2, "name", true);
+
+        assertEquals(List.of(articleModel), result.getContent());
+        assertFalse(result.isHasNext());
+    }
+
+    @Test
+    @DisplayName("Should skip the detail query when the page is empty")
+    void shouldSkipDetailQueryWhenPageIsEmpty() {
+        PageRequest pageRequest = PageRequest.of(3, 10, Sort.by(Sort.Direction.ASC, "name", "id"));
+
+        when(articleRepository.findIds(any(), eq(pageRequest))).thenReturn(new PageImpl<>(List.of(), pageRequest, 5));
+
+        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginated(3, 10, "name", true, false, CountMode.EXACT);
+
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(5, result.getTotalElements());
+        verify(articleRepository, never()).findAllWithBrandAndCategoriesByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("Should return paginated articles ordered by categories in the database")
+    void shouldReturnPaginatedArticlesOrderedByCategoriesInDatabase() {
+        int page = 1;
+        int size = 10;
+        String sort = "name";
+
+        articleEntity.setId(1L);
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sort, "id"));
+        Page<Long> articleIds = new PageImpl<>(List.of(1L), pageRequest, 11);
+
+        when(articleRepository.findIdsOrderByCategories(pageRequest)).thenReturn(articleIds);
+        when(articleRepository.findAllWithBrandAndCategoriesByIdIn(List.of(1L))).thenReturn(List.of(articleEntity));
+
+        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginated(page, size, sort, true, true, CountMode.EXACT);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(page, result.getPageNumber());
+        assertEquals(11, result.getTotalElements());
+
+        verify(articleRepository, times(1)).findIdsOrderByCategories(pageRequest);
+        verify(articleRepository, never()).findIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return filtered paginated articles correctly")
+    void shouldReturnFilteredPaginatedArticlesCorrectly() {
+        articleEntity.setId(1L);
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "name", "id"));
+        Page<Long> articleIds = new PageImpl<>(List.of(1L), pageRequest, 1);
+
+        when(articleRepository.findIds(any(), eq(pageRequest))).thenReturn(articleIds);
+        when(articleRepository.findAllWithBrandAndCategoriesByIdIn(List.of(1L))).thenReturn(List.of(articleEntity));
+
+        ArticleFilterModel filter = new ArticleFilterModel();
+        filter.setCategoryName("Smartphones");
+        filter.setBrandName("Samsung");
+        filter.setArticleIds(List.of(1L, 2L));
+
+        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginatedByFilters(
+                0, 10, "name", true, filter, CountMode.EXACT);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(articleModel, result.getContent().get(0));
+        verify(articleRepository, times(1)).findIds(any(), eq(pageRequest));
+    }
+
     @Test
     @DisplayName("Should return article by ID correctly")
     void shouldReturnArticleByIdCorrectly() {
@@ -134,16 +278,108 @@ class ArticleJpaAdapterTest {
     void shouldReduceArticleQuantityCorrectly() {
         Long articleId = 1L;
         int quantityToReduce = 5;
-        int initialQuantity = 10;
 
-        articleEntity.setQuantity(initialQuantity);
+        when(articleRepository.decrementQuantity(articleId, quantityToReduce)).thenReturn(1);
 
-        when(articleRepository.findById(articleId)).thenReturn(Optional.of(articleEntity));
+        int result = articleJpaAdapter.reduceArticleQuantity(articleId, quantityToReduce);
+
+        assertEquals(1, result);
+        verify(articleRepository).decrementQuantity(articleId, quantityToReduce);
+        verify(articleRepository, never()).findById(articleId);
+        verify(articleRepository, never()).save(any(ArticleEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should update article quantity only for the expected version")
+    void shouldUpdateArticleQuantityOnlyForExpectedVersion() {
+        when(articleRepository.updateQuantityIfVersion(1L, 20, 3L)).thenReturn(0);
 
-        articleJpaAdapter.reduceArticleQuantity(articleId, quantityToReduce);
+        int result = articleJpaAdapter.updateArticleQuantity(1L, 20, 3L);
 
-        assertEquals(initialQuantity - quantityToReduce, articleEntity.getQuantity());
-        verify(articleRepository).save(articleEntity);
+        assertEquals(0, result);
+        verify(articleRepository).updateQuantityIfVersion(1L, 20, 3L);
+        verify(articleRepository, never()).save(any(ArticleEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should reduce article quantities in a single JDBC batch")
+    void shouldReduceArticleQuantitiesInSingleJdbcBatch() {
+        List<ArticleStockModel> items = List.of(new ArticleStockModel(1L, 2), new ArticleStockModel(3L, 4));
+        int[] updatedRows = {1, 0};
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(updatedRows);
+
+        int[] result = articleJpaAdapter.reduceArticleQuantities(items);
+
+        assertArrayEquals(updatedRows, result);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        verify(articleRepository, never()).decrementQuantity(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should increase article quantities in a single JDBC batch")
+    void shouldIncreaseArticleQuantitiesInSingleJdbcBatch() {
+        List<ArticleStockModel> items = List.of(new ArticleStockModel(1L, 2), new ArticleStockModel(3L, 4));
+        int[] updatedRows = {1, 1};
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(updatedRows);
+
+        int[] result = articleJpaAdapter.increaseArticleQuantities(items);
+
+        assertArrayEquals(updatedRows, result);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should return article quantities by IDs from the projection query")
+    void shouldReturnArticleQuantitiesByIdsFromProjectionQuery() {
+        List<Long> articleIds = List.of(1L, 2L);
+        ArticleQuantityProjection first = mock(ArticleQuantityProjection.class);
+        ArticleQuantityProjection second = mock(ArticleQuantityProjection.class);
+
+        when(first.getId()).thenReturn(1L);
+        when(first.getQuantity()).thenReturn(10);
+        when(second.getId()).thenReturn(2L);
+        when(second.getQuantity()).thenReturn(0);
+        when(articleRepository.findQuantitiesByIdIn(articleIds)).thenReturn(List.of(first, second));
+
+        Map<Long, Integer> result = articleJpaAdapter.getArticleQuantitiesByIds(articleIds);
+
+        assertEquals(Map.of(1L, 10, 2L, 0), result);
+        verify(articleRepository).findQuantitiesByIdIn(articleIds);
+        verify(articleRepository, never()).findAllWithBrandAndCategoriesByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("Should return article price by ID without loading the entity")
+    void shouldReturnArticlePriceByIdWithoutLoadingEntity() {
+        Long articleId = 1L;
+        when(articleRepository.findPriceById(articleId)).thenReturn(Optional.of(100.0));
+
+        Double result = articleJpaAdapter.getArticlePriceById(articleId);
+
+        assertEquals(100.0, result);
+        verify(articleRepository).findPriceById(articleId);
+        verify(articleRepository, never()).findById(articleId);
+    }
+
+    @Test
+    @DisplayName("Should return article prices by IDs from the projection query")
+    void shouldReturnArticlePricesByIdsFromProjectionQuery() {
+        List<Long> articleIds = List.of(1L, 2L);
+        ArticlePriceProjection first = mock(ArticlePriceProjection.class);
+        ArticlePriceProjection second = mock(ArticlePriceProjection.class);
+
+        when(first.getId()).thenReturn(1L);
+        when(first.getPrice()).thenReturn(100.0);
+        when(second.getId()).thenReturn(2L);
+        when(second.getPrice()).thenReturn(50.0);
+        when(articleRepository.findPricesByIdIn(articleIds)).thenReturn(List.of(first, second));
+
+        Map<Long, Double> result = articleJpaAdapter.getArticlePricesByIds(articleIds);
+
+        assertEquals(Map.of(1L, 100.0, 2L, 50.0), result);
+        verify(articleRepository).findPricesByIdIn(articleIds);
     }
 
     @Test
@@ -152,7 +388,7 @@ class ArticleJpaAdapterTest {
         List<Long> articleIds = List.of(1L, 2L);
         List<ArticleEntity> articleEntities = List.of(articleEntity, articleEntity);
 
-        when(articleRepository.findAllById(articleIds)).thenReturn(articleEntities);
+        when(articleRepository.findAllWithBrandAndCategoriesByIdIn(articleIds)).thenReturn(articleEntities);
         when(articleEntityMapper.toArticleModelList(articleEntities)).thenReturn(List.of(articleModel, articleModel));
 
         List<ArticleModel> result = articleJpaAdapter.getAllArticlesByIds(articleIds);
@@ -162,7 +398,145 @@ class ArticleJpaAdapterTest {
         assertEquals(articleModel, result.get(0));
         assertEquals(articleModel, result.get(1));
 
-        verify(articleRepository).findAllById(articleIds);
+        verify(articleRepository).findAllWithBrandAndCategoriesByIdIn(articleIds);
         verify(articleEntityMapper).toArticleModelList(articleEntities);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should read a slice of IDs without counting when no total is requested")
+    void shouldReadSliceOfIdsWithoutCounting() {
+        articleEntity.setId(1L);
+        PageRequest pageRequest = PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "name", "id"));
+
+        when(articleRepository.findIdSliceOrderByCategories(pageRequest))
+                .thenReturn(new SliceImpl<>(List.of(1L), pageRequest, true));
+        when(articleRepository.findAllWithBrandAndCategoriesByIdIn(List.of(1L))).thenReturn(List.of(articleEntity));
+
+        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginated(0, 1, "name", true, true, CountMode.NONE);
+
+        assertEquals(List.of(articleModel), result.getContent());
+        assertTrue(result.isHasNext());
+        assertEquals(Paginated.UNKNOWN_TOTAL, result.getTotalElements());
+
+        verify(articleRepository, never()).findIdsOrderByCategories(any());
+        verifyNoInteractions(countCache);
+    }
+
+    @Test
+    @DisplayName("Should cache the filtered total under the filters regardless of ID order")
+    void shouldCacheFilteredTotalUnderFilterSignature() {
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "name", "id"));
+
+        when(articleRepository.findIdSlice(any(), eq(pageRequest))).thenReturn(new SliceImpl<>(List.of(), pageRequest, false));
+        when(countCache.get(eq("filters|Smartphones|null|[3, 7]||null|50.0|[1, 2]"), any())).thenReturn(2L);
+
+        ArticleFilterModel filter = new ArticleFilterModel();
+        filter.setCategoryName("Smartphones");
+        filter.setCategoryIds(List.of(7L, 3L));
+        filter.setMaxPrice(50.0);
+        filter.setArticleIds(List.of(2L, 1L));
+
+        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginatedByFilters(
+                0, 10, "name", true, filter, CountMode.CACHED);
+
+        assertEquals(2L, result.getTotalElements());
+        verify(articleRepository, never()).findIds(any(), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should count an in-stock total every time instead of caching it")
+    void shouldNotCacheInStockTotal() {
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "name", "id"));
+
+        when(articleRepository.findIdSlice(any(), eq(pageRequest))).thenReturn(new SliceImpl<>(List.of(), pageRequest, false));
+        when(articleRepository.count(any(Specification.class))).thenReturn(3L);
+
+        ArticleFilterModel filter = new ArticleFilterModel();
+        filter.setInStock(true);
+
+        Paginated<ArticleModel> result = articleJpaAdapter.getArticlesPaginatedByFilters(
+                0, 10, "name", true, filter, CountMode.CACHED);
+
+        assertEquals(3L, result.getTotalElements());
+        verifyNoInteractions(countCache);
+    }
+
+    @Test
+    @DisplayName("Should size the catalog from the cached article count")
+    void shouldCountArticlesThroughCountCache() {
+        when(countCache.get(eq("all"), any())).thenReturn(42L);
+
+        assertEquals(42L, articleJpaAdapter.countArticles());
+        verify(articleRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should drop cached totals when an article is saved")
+    void shouldDropCachedTotalsWhenArticleIsSaved() {
+        when(articleRepository.save(articleEntity)).thenReturn(articleEntity);
+
+        articleJpaAdapter.saveArticle(articleModel);
+
+        verify(countCache).invalidateOnWrite();
+    }
+
+    @Test
+    @DisplayName("Should insert imported articles in one batch, drop cached totals and hand back the generated IDs")
+    void shouldInsertImportedArticlesInOneBatch() {
+        doAnswer(invocation -> {
+            articleEntity.setId(51L);
+            return null;
+        }).when(articleRepository).insertAll(List.of(articleEntity));
+
+        articleJpaAdapter.saveArticles(List.of(articleModel));
+
+        verify(articleRepository).insertAll(List.of(articleEntity));
+        verify(countCache).invalidateOnWrite();
+        assertEquals(51L, articleModel.getId());
+    }
+
+    @Test
+    @DisplayName("Should return the names that already exist with one query")
+    void shouldReturnExistingNamesWithOneQuery() {
+        when(articleRepository.findNamesByNameIn(List.of("Laptop", "Mouse"))).thenReturn(List.of("Mouse"));
+
+        Set<String> result = articleJpaAdapter.getExistingNames(List.of("Laptop", "Mouse"));
+
+        assertEquals(Set.of("Mouse"), result);
+    }
+
+    @Test
+    @DisplayName("Should split facet rows into brands and categories, largest count first")
+    void shouldSplitFacetRowsIntoBrandsAndCategories() {
+        when(articleRepository.countFacets(any())).thenReturn(List.of(
+                new ArticleFacetRow(ArticleFacetRow.Facet.BRAND, 1L, "Acme", 3),
+                new ArticleFacetRow(ArticleFacetRow.Facet.CATEGORY, 4L, "Tools", 2),
+                new ArticleFacetRow(ArticleFacetRow.Facet.BRAND, 2L, "Bolt", 9),
+                new ArticleFacetRow(ArticleFacetRow.Facet.CATEGORY, 5L, "Garden", 2)
+        ));
+
+        ArticleFilterModel filter = new ArticleFilterModel();
+        filter.setCategoryName("Tools");
+
+        ArticleFacetsModel facets = articleJpaAdapter.getArticleFacets(filter);
+
+        assertEquals(List.of("Bolt", "Acme"), facets.getBrands().stream().map(FacetCountModel::getName).toList());
+        assertEquals(List.of("Garden", "Tools"), facets.getCategories().stream().map(FacetCountModel::getName).toList());
+        assertEquals(9, facets.getBrands().get(0).getCount());
+        verify(articleRepository, times(1)).countFacets(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a sort field without an index before querying")
+    void shouldRejectUnindexedSortField() {
+        assertThrows(InvalidPaginationException.class,
+                () -> articleJpaAdapter.getArticlesPaginated(0, 10, "quantity", true, false, CountMode.EXACT));
+        assertThrows(InvalidPaginationException.class,
+                () -> articleJpaAdapter.getArticlesPaginatedByFilters(0, 10, "description", true,
+                        new ArticleFilterModel(), CountMode.EXACT));
+        assertThrows(InvalidPaginationException.class,
+                () -> articleJpaAdapter.getArticlesByCursor(null, 10, "brand", true));
+
+        verifyNoInteractions(articleRepository);
+    }
+}
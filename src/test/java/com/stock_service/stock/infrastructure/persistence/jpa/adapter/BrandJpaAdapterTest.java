@@ -1,10 +1,15 @@
 package com.stock_service.stock.infrastructure.persistence.jpa.adapter;
 
+import com.stock_service.stock.domain.exception.InvalidPaginationException;
 import com.stock_service.stock.domain.model.BrandModel;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.infrastructure.persistence.cache.PaginationCountCache;
 import com.stock_service.stock.infrastructure.persistence.jpa.entity.BrandEntity;
 import com.stock_service.stock.infrastructure.persistence.jpa.mapper.IBrandEntityMapper;
 import com.stock_service.stock.infrastructure.persistence.jpa.repository.IBrandRepository;
+import com.stock_service.stock.infrastructure.persistence.jpa.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +19,9 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +40,9 @@ class BrandJpaAdapterTest {
     @Mock
     private IBrandEntityMapper brandEntityMapper;
 
+    @Mock
+    private PaginationCountCache countCache;
+
     private BrandModel brandModel;
     private BrandEntity brandEntity;
 
@@ -60,6 +70,7 @@ class BrandJpaAdapterTest {
         assertEquals(brandModel, result);
 
         verify(brandRepository).save(brandEntity);
+        verify(countCache).invalidateOnWrite();
         verify(brandEntityMapper).brandModelToBrandEntity(brandModel);
         verify(brandEntityMapper).brandEntityToBrandModel(brandEntity);
     }
@@ -96,13 +107,13 @@ class BrandJpaAdapterTest {
         String sort = "name";
         boolean ascending = true;
 
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.ASC, sort);
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sort, "id"));
         List<BrandEntity> brandEntitiesList = List.of(brandEntity);
         Page<BrandEntity> brandEntities = new PageImpl<>(brandEntitiesList, pageRequest, brandEntitiesList.size());
 
         when(brandRepository.findAll(pageRequest)).thenReturn(brandEntities);
 
-        Paginated<BrandModel> result = brandJpaAdapter.getBrandsPaginated(page, size, sort, ascending);
+        Paginated<BrandModel> result = brandJpaAdapter.getBrandsPaginated(page, size, sort, ascending, CountMode.EXACT);
 
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
@@ -115,6 +126,53 @@ class BrandJpaAdapterTest {
         verify(brandEntityMapper, times(1)).brandEntityToBrandModel(brandEntity);
     }
 
+    @Test
+    @DisplayName("Should return a cursor to the last brand when more brands follow")
+    void shouldReturnNextCursorWhenMoreBrandsFollow() {
+        BrandEntity first = new BrandEntity(1L, "Adidas", "Sportswear", null);
+        BrandEntity second = new BrandEntity(2L, "Nike", "Sportswear", null);
+        BrandEntity extra = new BrandEntity(3L, "Puma", "Sportswear", null);
+
+        when(brandRepository.findBy(any(Specification.class), any())).thenReturn(List.of(first, second, extra));
+        when(brandEntityMapper.brandEntityToBrandModel(any(BrandEntity.class))).thenReturn(brandModel);
+
+        CursorPaginated<BrandModel> result = brandJpaAdapter.getBrandsByCursor(null, 2, "name", true);
+
+        assertEquals(2, result.getContent().size());
+        assertEquals(2, result.getPageSize());
+        assertTrue(result.isHasNext());
+        assertEquals(KeysetCursor.fromEntity(second, "name", true).encode(), result.getNextCursor());
+
+        verify(brandEntityMapper, never()).brandEntityToBrandModel(extra);
+    }
+
+    @Test
+    @DisplayName("Should not return a cursor on the last page of brands")
+    void shouldNotReturnNextCursorOnLastBrandPage() {
+        BrandEntity last = new BrandEntity(3L, "Puma", "Sportswear", null);
+        String cursor = KeysetCursor.fromEntity(new BrandEntity(2L, "Nike", "Sportswear", null), "name", true).encode();
+
+        when(brandRepository.findBy(any(Specification.class), any())).thenReturn(List.of(last));
+        when(brandEntityMapper.brandEntityToBrandModel(last)).thenReturn(brandModel);
+
+        CursorPaginated<BrandModel> result = brandJpaAdapter.getBrandsByCursor(cursor, 2, "name", true);
+
+        assertEquals(List.of(brandModel), result.getContent());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject a brand cursor issued for another sort")
+    void shouldRejectBrandCursorIssuedForAnotherSort() {
+        String cursor = KeysetCursor.fromEntity(new BrandEntity(2L, "Nike", "Sportswear", null), "name", true).encode();
+
+        assertThrows(InvalidPaginationException.class,
+                () -> brandJpaAdapter.getBrandsByCursor(cursor, 2, "description", true));
+
+        verify(brandRepository, never()).findBy(any(Specification.class), any());
+    }
+
     @Test
     @DisplayName("Should return brand by ID correctly")
     void shouldReturnBrandByIdCorrectly() {
@@ -129,4 +187,61 @@ class BrandJpaAdapterTest {
         verify(brandRepository, times(1)).findById(id);
         verify(brandEntityMapper, times(1)).brandEntityToBrandModel(brandEntity);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should load brands by IDs with one query")
+    void shouldLoadBrandsByIdsWithOneQuery() {
+        when(brandRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(brandEntity));
+        when(brandEntityMapper.brandEntityToBrandModel(brandEntity)).thenReturn(brandModel);
+
+        List<BrandModel> result = brandJpaAdapter.getBrandsByIds(List.of(1L, 2L));
+
+        assertEquals(List.of(brandModel), result);
+        verify(brandRepository, times(1)).findAllById(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should skip the count and report the next page when no total is requested")
+    void shouldSkipCountWhenNoTotalIsRequested() {
+        PageRequest pageRequest = PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "name", "id"));
+
+        when(brandRepository.findSliceBy(pageRequest)).thenReturn(new SliceImpl<>(List.of(brandEntity), pageRequest, true));
+
+        Paginated<BrandModel> result = brandJpaAdapter.getBrandsPaginated(0, 1, "name", true, CountMode.NONE);
+
+        assertEquals(List.of(brandModel), result.getContent());
+        assertTrue(result.isHasNext());
+        assertEquals(Paginated.UNKNOWN_TOTAL, result.getTotalElements());
+        assertEquals(-1, result.getTotalPages());
+
+        verify(brandRepository, never()).findAll(any(PageRequest.class));
+        verify(brandRepository, never()).count();
+        verifyNoInteractions(countCache);
+    }
+
+    @Test
+    @DisplayName("Should take the total from the count cache when a cached total is requested")
+    void shouldTakeTotalFromCountCache() {
+        PageRequest pageRequest = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "name", "id"));
+
+        when(brandRepository.findSliceBy(pageRequest)).thenReturn(new SliceImpl<>(List.of(brandEntity), pageRequest, false));
+        when(countCache.get(eq("all"), any())).thenReturn(11L);
+
+        Paginated<BrandModel> result = brandJpaAdapter.getBrandsPaginated(1, 10, "name", false, CountMode.CACHED);
+
+        assertEquals(11L, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertFalse(result.isHasNext());
+
+        verify(brandRepository, never()).findAll(any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a sort field without an index before querying")
+    void shouldRejectUnindexedSortField() {
+        assertThrows(InvalidPaginationException.class,
+                () -> brandJpaAdapter.getBrandsPaginated(0, 10, "description", true, CountMode.EXACT));
+
+        verifyNoInteractions(brandRepository);
+    }
+}
@@ -1,10 +1,15 @@
 package com.stock_service.stock.infrastructure.persistence.jpa.adapter;
 
+import com.stock_service.stock.domain.exception.InvalidPaginationException;
 import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.util.CountMode;
+import com.stock_service.stock.domain.util.CursorPaginated;
 import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.infrastructure.persistence.cache.PaginationCountCache;
 import com.stock_service.stock.infrastructure.persistence.jpa.entity.CategoryEntity;
 import com.stock_service.stock.infrastructure.persistence.jpa.mapper.ICategoryEntityMapper;
 import com.stock_service.stock.infrastructure.persistence.jpa.repository.ICategoryRepository;
+import com.stock_service.stock.infrastructure.persistence.jpa.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +19,9 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +40,9 @@ class CategoryJpaAdapterTest {
     @Mock
     private ICategoryEntityMapper categoryEntityMapper;
 
+    @Mock
+    private PaginationCountCache countCache;
+
     private CategoryModel categoryModel;
     private CategoryEntity categoryEntity;
 
@@ -95,13 +105,13 @@ class CategoryJpaAdapterTest {
         String sort = "name";
         boolean ascending = true;
 
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.ASC, sort);
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sort, "id"));
         List<CategoryEntity> categoryEntitiesList = List.of(categoryEntity);
         Page<CategoryEntity> categoryEntities = new PageImpl<>(categoryEntitiesList, pageRequest, categoryEntitiesList.size());
 
         when(categoryRepository.findAll(pageRequest)).thenReturn(categoryEntities);
 
-        Paginated<CategoryModel> result = categoryJpaAdapter.getCategoriesPaginated(page, size, sort, ascending);
+        Paginated<CategoryModel> result = categoryJpaAdapter.getCategoriesPaginated(page, size, sort, ascending, CountMode.EXACT);
 
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
@@ -116,6 +126,24 @@ class CategoryJpaAdapterTest {
 
 
 
+    @Test
+    @DisplayName("Should return a page of categories after the cursor")
+    void shouldReturnCategoriesAfterCursor() {
+        CategoryEntity first = new CategoryEntity(4L, "Hogar", "Articulos para el hogar", null);
+        CategoryEntity extra = new CategoryEntity(5L, "Moda", "Ropa y accesorios", null);
+        String cursor = KeysetCursor.fromEntity(new CategoryEntity(3L, "Deportes", "Deportes", null), "name", true).encode();
+
+        when(categoryRepository.findBy(any(Specification.class), any())).thenReturn(List.of(first, extra));
+        when(categoryEntityMapper.categoryEntityToCategoryModel(first)).thenReturn(categoryModel);
+
+        CursorPaginated<CategoryModel> result = categoryJpaAdapter.getCategoriesByCursor(cursor, 1, "name", true);
+
+        assertEquals(List.of(categoryModel), result.getContent());
+        assertEquals(KeysetCursor.fromEntity(first, "name", true).encode(), result.getNextCursor());
+
+        verify(categoryEntityMapper, never()).categoryEntityToCategoryModel(extra);
+    }
+
     @Test
     @DisplayName("Should return categories by IDs correctly")
     void shouldReturnCategoriesByIdsCorrectly() {
@@ -137,4 +165,31 @@ class CategoryJpaAdapterTest {
         verify(categoryEntityMapper, times(1)).categoryEntityToCategoryModel(categoryEntities.get(0));
         verify(categoryEntityMapper, times(1)).categoryEntityToCategoryModel(categoryEntities.get(1));
     }
+
+    @Test
+    @DisplayName("Should page categories with a cached total and no count query")
+    void shouldPageCategoriesWithCachedTotal() {
+        PageRequest pageRequest = PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "name", "id"));
+
+        when(categoryRepository.findSliceBy(pageRequest))
+                .thenReturn(new SliceImpl<>(List.of(categoryEntity), pageRequest, true));
+        when(countCache.get(eq("all"), any())).thenReturn(4L);
+
+        Paginated<CategoryModel> result = categoryJpaAdapter.getCategoriesPaginated(0, 1, "name", true, CountMode.CACHED);
+
+        assertEquals(List.of(categoryModel), result.getContent());
+        assertEquals(4L, result.getTotalElements());
+        assertTrue(result.isHasNext());
+
+        verify(categoryRepository, never()).findAll(any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a sort field without an index before querying")
+    void shouldRejectUnindexedSortField() {
+        assertThrows(InvalidPaginationException.class,
+                () -> categoryJpaAdapter.getCategoriesPaginated(0, 10, "description", true, CountMode.EXACT));
+
+        verifyNoInteractions(categoryRepository);
+    }
 }
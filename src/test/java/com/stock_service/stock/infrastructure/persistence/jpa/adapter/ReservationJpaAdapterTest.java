@@ -0,0 +1,87 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.adapter;
+
+import com.stock_service.stock.domain.model.ReservationModel;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ReservationEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.mapper.IReservationEntityMapper;
+import com.stock_service.stock.infrastructure.persistence.jpa.repository.IReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReservationJpaAdapterTest {
+
+    private static final Instant EXPIRES_AT = Instant.parse("2024-11-29T12:15:00Z");
+
+    @InjectMocks
+    private ReservationJpaAdapter reservationJpaAdapter;
+
+    @Mock
+    private IReservationRepository reservationRepository;
+
+    @Mock
+    private IReservationEntityMapper reservationEntityMapper;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ReservationModel reservationModel;
+    private ReservationEntity reservationEntity;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        reservationModel = new ReservationModel(7L, 1L, 3, EXPIRES_AT, "client@mail.com");
+        reservationEntity = new ReservationEntity(7L, 1L, 3, EXPIRES_AT, "client@mail.com");
+    }
+
+    @Test
+    @DisplayName("Should save a reservation and return the stored model")
+    void shouldSaveReservation() {
+        when(reservationEntityMapper.reservationModelToReservationEntity(reservationModel)).thenReturn(reservationEntity);
+        when(reservationRepository.save(reservationEntity)).thenReturn(reservationEntity);
+        when(reservationEntityMapper.reservationEntityToReservationModel(reservationEntity)).thenReturn(reservationModel);
+
+        assertEquals(reservationModel, reservationJpaAdapter.saveReservation(reservationModel));
+    }
+
+    @Test
+    @DisplayName("Should return null when the reservation does not exist")
+    void shouldReturnNullWhenReservationDoesNotExist() {
+        when(reservationRepository.findById(7L)).thenReturn(Optional.empty());
+
+        assertNull(reservationJpaAdapter.getReservationById(7L));
+    }
+
+    @Test
+    @DisplayName("Should read expired reservations through the expiry index with a limit")
+    void shouldReadExpiredReservationsWithLimit() {
+        when(reservationRepository.findByExpiresAtLessThanEqualOrderByExpiresAtAsc(EXPIRES_AT, Limit.of(50)))
+                .thenReturn(List.of(reservationEntity));
+        when(reservationEntityMapper.reservationEntityToReservationModel(reservationEntity)).thenReturn(reservationModel);
+
+        assertEquals(List.of(reservationModel), reservationJpaAdapter.getReservationsExpiredAt(EXPIRES_AT, 50));
+    }
+
+    @Test
+    @DisplayName("Should delete reservations in a single JDBC batch and return per-row counts")
+    void shouldDeleteReservationsInSingleJdbcBatch() {
+        int[] deletedRows = {1, 0};
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(deletedRows);
+
+        assertArrayEquals(deletedRows, reservationJpaAdapter.deleteReservations(List.of(7L, 8L)));
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+}
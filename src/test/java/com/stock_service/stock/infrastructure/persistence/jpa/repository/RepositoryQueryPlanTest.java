@@ -0,0 +1,289 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.repository;
+
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.ArticleEntity;
+import com.stock_service.stock.infrastructure.persistence.jpa.specifications.ArticleSpecifications;
+import com.stock_service.stock.infrastructure.persistence.jpa.specifications.KeysetSpecifications;
+import com.stock_service.stock.infrastructure.persistence.jpa.util.KeysetCursor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.BeforeTransaction;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every lookup and filter query of the repositories against MySQL with the Flyway schema
+ * and fails when EXPLAIN shows a full table scan, or a full index scan that no LIMIT cuts short.
+ * The category ordered listing (findIdsOrderByCategories) is left out on purpose: it groups every
+ * article and reads the whole table by design. An unfiltered count has to read a whole index too;
+ * it is the one unbounded index scan allowed, and count=CACHED or NONE avoid it.
+ *
+ * <p>The check needs Docker and fails without it rather than passing silently.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Import(RepositoryQueryPlanTest.QueryRecorderConfiguration.class)
+class RepositoryQueryPlanTest {
+
+    private static final int BRAND_COUNT = 20;
+    private static final int CATEGORY_COUNT = 30;
+    private static final int ARTICLE_COUNT = 3000;
+    private static final Pattern LIMIT = Pattern.compile("\\blimit\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern UNFILTERED_COUNT =
+            Pattern.compile("^select count\\([^)]*\\) from \\w+( \\w+)?$", Pattern.CASE_INSENSITIVE);
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private IReservationRepository reservationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QueryRecorder queryRecorder;
+
+    private static boolean seeded;
+
+    // Seeded once outside the test transaction: ANALYZE TABLE commits implicitly in MySQL
+    @BeforeTransaction
+    void seed() {
+        if (seeded) {
+            return;
+        }
+
+        List<Object[]> brands = new ArrayList<>();
+        for (long i = 1; i <= BRAND_COUNT; i++) {
+            brands.add(new Object[]{i, "Brand" + i, "Brand description " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO brand (id, name, description) VALUES (?, ?, ?)", brands);
+
+        List<Object[]> categories = new ArrayList<>();
+        for (long i = 1; i <= CATEGORY_COUNT; i++) {
+            categories.add(new Object[]{i, "Category" + i, "Category description " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO category (id, name, description) VALUES (?, ?, ?)", categories);
+
+        List<Object[]> articles = new ArrayList<>();
+        List<Object[]> articleCategories = new ArrayList<>();
+        for (long i = 1; i <= ARTICLE_COUNT; i++) {
+            articles.add(new Object[]{i, String.format("Article%05d", i), "Article description " + i,
+                    10, 100.0 + i, 1 + i % BRAND_COUNT});
+            articleCategories.add(new Object[]{i, 1 + i % CATEGORY_COUNT});
+            articleCategories.add(new Object[]{i, 1 + (i + 7) % CATEGORY_COUNT});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO article (id, name, description, quantity, price, id_brand) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", articles);
+        jdbcTemplate.batchUpdate("INSERT INTO article_category (id_article, id_category) VALUES (?, ?)", articleCategories);
+
+        List<Object[]> reservations = new ArrayList<>();
+        Instant now = Instant.now();
+        for (long i = 1; i <= ARTICLE_COUNT; i++) {
+            reservations.add(new Object[]{i, 1, Timestamp.from(now.plusSeconds(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO stock_reservation (id_article, quantity, expires_at) VALUES (?, ?, ?)",
+                reservations);
+
+        jdbcTemplate.execute("ANALYZE TABLE brand, category, article, article_category, stock_reservation");
+        seeded = true;
+    }
+
+    static Stream<Named<Consumer<RepositoryQueryPlanTest>>> repositoryQueries() {
+        ArticleEntity lastSeen = new ArticleEntity();
+        lastSeen.setId(1500L);
+        lastSeen.setName("Article01500");
+        KeysetCursor cursor = KeysetCursor.fromEntity(lastSeen, "name", true);
+        // Listings always break ties on the ID, as SortableFields does
+        PageRequest byName = PageRequest.of(2, 10, KeysetCursor.sortOf("name", true));
+        PageRequest byPrice = PageRequest.of(2, 10, KeysetCursor.sortOf("price", false));
+
+        return Stream.of(
+                Named.of("article findByName", test -> test.articleRepository.findByName("Article00042")),
+                Named.of("brand findByName", test -> test.brandRepository.findByName("Brand3")),
+                Named.of("category findByName", test -> test.categoryRepository.findByName("Category7")),
+                Named.of("article findById", test -> test.articleRepository.findById(42L)),
+                Named.of("article names by names", test ->
+                        test.articleRepository.findNamesByNameIn(List.of("Article00042", "Article02042", "Missing"))),
+                Named.of("article ids ordered by name", test ->
+                        test.articleRepository.findIds(Specification.where(null), byName)),
+                Named.of("article ids ordered by price", test ->
+                        test.articleRepository.findIds(Specification.where(null), byPrice)),
+                Named.of("article ids filtered by category", test ->
+                        test.articleRepository.findIds(ArticleSpecifications.byCategoryName("Category4"), byName)),
+                Named.of("article ids filtered by brand", test ->
+                        test.articleRepository.findIds(ArticleSpecifications.byBrandName("Brand5"), byName)),
+                Named.of("article ids filtered by category ids", test ->
+                        test.articleRepository.findIds(ArticleSpecifications.inCategoryIds(List.of(4L, 9L)), byName)),
+                Named.of("article ids filtered by brand ids in stock", test ->
+                        test.articleRepository.findIds(ArticleSpecifications.inBrandIds(List.of(5L, 6L))
+                                .and(ArticleSpecifications.inStock(true)), byName)),
+                Named.of("article ids filtered by price range", test ->
+                        test.articleRepository.findIds(ArticleSpecifications.priceBetween(1200.0, 1300.0), byName)),
+                Named.of("article facets filtered by brand", test ->
+                        test.articleRepository.countFacets(ArticleSpecifications.byBrandName("Brand5"))),
+                Named.of("article ids after keyset cursor", test ->
+                        test.articleRepository.findIds(KeysetSpecifications.after(cursor), KeysetCursor.sortOf("name", true), 11)),
+                Named.of("articles with brand and categories by ids", test ->
+                        test.articleRepository.findAllWithBrandAndCategoriesByIdIn(List.of(3L, 300L, 2999L))),
+                Named.of("article quantities by ids", test -> test.articleRepository.findQuantitiesByIdIn(List.of(3L, 300L))),
+                Named.of("article price by id", test -> test.articleRepository.findPriceById(300L)),
+                Named.of("article prices by ids", test -> test.articleRepository.findPricesByIdIn(List.of(3L, 300L))),
+                Named.of("article quantity decrement", test -> test.articleRepository.decrementQuantity(300L, 1)),
+                Named.of("article quantity update by version", test ->
+                        test.articleRepository.updateQuantityIfVersion(300L, 50, 0L)),
+                Named.of("expired reservations by expiry", test ->
+                        test.reservationRepository.findByExpiresAtLessThanEqualOrderByExpiresAtAsc(
+                                Instant.now().plusSeconds(10), Limit.of(500))),
+                Named.of("brands ordered by name", test -> test.brandRepository.findAll(byName)),
+                Named.of("categories ordered by name", test -> test.categoryRepository.findAll(byName))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("Should run repository queries without full table or unbounded index scans")
+    void shouldRunRepositoryQueriesWithoutFullScans(Consumer<RepositoryQueryPlanTest> repositoryQuery) {
+        queryRecorder.clear();
+        repositoryQuery.accept(this);
+        List<RecordedQuery> executedQueries = queryRecorder.drain();
+
+        assertFalse(executedQueries.isEmpty());
+
+        for (RecordedQuery executedQuery : executedQueries) {
+            List<Map<String, Object>> plan =
+                    jdbcTemplate.queryForList("EXPLAIN " + executedQuery.sql(), executedQuery.parameters().toArray());
+
+            List<Object> scannedTables = plan.stream()
+                    .filter(row -> "ALL".equals(row.get("type")))
+                    .map(row -> row.get("table"))
+                    .toList();
+
+            assertTrue(scannedTables.isEmpty(),
+                    () -> "Full scan on " + scannedTables + " for: " + executedQuery.sql() + "\n" + plan);
+
+            if (LIMIT.matcher(executedQuery.sql()).find() || isUnfilteredCount(executedQuery.sql())) {
+                continue;
+            }
+
+            List<Object> indexScannedTables = plan.stream()
+                    .filter(row -> "index".equals(row.get("type")))
+                    .map(row -> row.get("table"))
+                    .toList();
+
+            assertTrue(indexScannedTables.isEmpty(),
+                    () -> "Full index scan without a LIMIT on " + indexScannedTables + " for: " + executedQuery.sql()
+                            + "\n" + plan);
+        }
+    }
+
+    private static boolean isUnfilteredCount(String sql) {
+        return UNFILTERED_COUNT.matcher(sql.strip().replaceAll("\\s+", " ")).matches();
+    }
+
+    record RecordedQuery(String sql, List<Object> parameters) {
+    }
+
+    static class QueryRecorder implements QueryExecutionListener {
+
+        private final List<RecordedQuery> queries = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+            // Only completed statements are recorded
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                List<Object> parameters = queryInfo.getParametersList().isEmpty()
+                        ? List.of()
+                        : queryInfo.getParametersList().get(0).stream()
+                                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                                .map(operation -> operation.getArgs()[1])
+                                .toList();
+
+                queries.add(new RecordedQuery(queryInfo.getQuery(), parameters));
+            }
+        }
+
+        void clear() {
+            queries.clear();
+        }
+
+        List<RecordedQuery> drain() {
+            List<RecordedQuery> recorded = List.copyOf(queries);
+            queries.clear();
+            return recorded;
+        }
+    }
+
+    @TestConfiguration
+    static class QueryRecorderConfiguration {
+
+        @Bean
+        QueryRecorder queryRecorder() {
+            return new QueryRecorder();
+        }
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor(ObjectProvider<QueryRecorder> queryRecorder) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .listener(queryRecorder.getObject())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
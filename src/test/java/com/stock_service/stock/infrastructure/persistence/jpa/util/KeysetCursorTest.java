@@ -0,0 +1,68 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.util;
+
+import com.stock_service.stock.domain.exception.InvalidPaginationException;
+import com.stock_service.stock.infrastructure.persistence.jpa.entity.BrandEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should decode the position encoded from the last entity")
+    void shouldDecodeEncodedPosition() {
+        BrandEntity brandEntity = new BrandEntity(5L, "Nike", "Sportswear", null);
+
+        String token = KeysetCursor.fromEntity(brandEntity, "name", false).encode();
+        KeysetCursor cursor = KeysetCursor.decode(token, "name", false);
+
+        assertEquals("name", cursor.getSortField());
+        assertFalse(cursor.isAscending());
+        assertEquals(5L, cursor.getId());
+        assertEquals("Nike", cursor.getSortValue());
+    }
+
+    @Test
+    @DisplayName("Should return no position for a missing cursor")
+    void shouldReturnNullForMissingCursor() {
+        assertNull(KeysetCursor.decode(null, "name", true));
+        assertNull(KeysetCursor.decode(" ", "name", true));
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor issued for a different sort direction")
+    void shouldRejectCursorForDifferentDirection() {
+        String token = KeysetCursor.fromEntity(new BrandEntity(5L, "Nike", "Sportswear", null), "name", true).encode();
+
+        assertThrows(InvalidPaginationException.class, () -> KeysetCursor.decode(token, "name", false));
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that is not a valid token")
+    void shouldRejectMalformedCursor() {
+        String notBase64 = "%%%";
+        String badId = Base64.getUrlEncoder().encodeToString("name\nA\nabc\nNike".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(InvalidPaginationException.class, () -> KeysetCursor.decode(notBase64, "name", true));
+        assertThrows(InvalidPaginationException.class, () -> KeysetCursor.decode(badId, "name", true));
+    }
+
+    @Test
+    @DisplayName("Should break ties on the ID in the same direction as the sort")
+    void shouldBreakTiesOnId() {
+        assertEquals(Sort.by(Sort.Direction.DESC, "name", "id"), KeysetCursor.sortOf("name", false));
+        assertEquals(Sort.by(Sort.Direction.ASC, "id"), KeysetCursor.sortOf("id", true));
+    }
+
+    @Test
+    @DisplayName("Should reject a page size lower than one")
+    void shouldRejectEmptyPageSize() {
+        assertThrows(InvalidPaginationException.class, () -> KeysetCursor.checkPageSize(0));
+        assertDoesNotThrow(() -> KeysetCursor.checkPageSize(1));
+    }
+}
@@ -0,0 +1,37 @@
+package com.stock_service.stock.infrastructure.persistence.jpa.util;
+
+import com.stock_service.stock.domain.exception.InvalidPaginationException;
+import com.stock_service.stock.domain.util.Util;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortableFieldsTest {
+
+    private final SortableFields sortableFields = SortableFields.of("name", "price");
+
+    @Test
+    @DisplayName("Should break ties on the ID after a declared field")
+    void shouldBreakTiesOnId() {
+        assertEquals(Sort.by(Sort.Direction.DESC, "price", "id"), sortableFields.sortOf("price", false));
+        assertEquals(Sort.by(Sort.Direction.ASC, "name", "id"), sortableFields.sortOf("name", true));
+    }
+
+    @Test
+    @DisplayName("Should always accept the ID on its own")
+    void shouldAlwaysAcceptId() {
+        assertEquals(Sort.by(Sort.Direction.ASC, "id"), sortableFields.sortOf("id", true));
+    }
+
+    @Test
+    @DisplayName("Should reject a field that was not declared and list the ones that are")
+    void shouldRejectUndeclaredField() {
+        InvalidPaginationException exception =
+                assertThrows(InvalidPaginationException.class, () -> sortableFields.sortOf("description", true));
+
+        assertEquals(Util.INVALID_SORT_FIELD + "name, price, id", exception.getMessage());
+        assertThrows(InvalidPaginationException.class, () -> sortableFields.check("name,description"));
+    }
+}
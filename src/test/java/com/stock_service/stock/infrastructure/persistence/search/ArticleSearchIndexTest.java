@@ -0,0 +1,120 @@
+package com.stock_service.stock.infrastructure.persistence.search;
+
+import com.stock_service.stock.domain.exception.InvalidPaginationException;
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.BrandModel;
+import com.stock_service.stock.domain.model.CategoryModel;
+import com.stock_service.stock.domain.util.Paginated;
+import com.stock_service.stock.domain.util.Util;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleSearchIndexTest {
+
+    private static final BrandModel LOGITECH = new BrandModel(1L, "Logitech", "Peripherals");
+    private static final CategoryModel ACCESSORIES = new CategoryModel(1L, "Accessories", "Desk accessories");
+
+    private ArticleSearchIndex articleSearchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        articleSearchIndex = new ArticleSearchIndex(new ByteBuffersDirectory());
+
+        articleSearchIndex.upsert(List.of(
+                article(1L, "Wireless mouse", "Silent clicks", 10),
+                article(2L, "Mouse pad", "Works with any wireless mouse", 0),
+                article(3L, "Mechanical keyboard", "Brown switches", 4),
+                article(4L, "Laptop stand", "Aluminium", 7)
+        ));
+        articleSearchIndex.publish();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        articleSearchIndex.close();
+    }
+
+    @Test
+    @DisplayName("Should rank a name match above a description match and require every word")
+    void shouldRankNameMatchesFirstAndRequireEveryWord() {
+        assertEquals(List.of(1L, 2L), ids("wireless mouse", false));
+        assertEquals(List.of(1L), ids("logitech silent", false));
+    }
+
+    @Test
+    @DisplayName("Should match words by prefix and with typos")
+    void shouldMatchByPrefixAndWithTypos() {
+        assertEquals(List.of(4L), ids("lap", false));
+        assertEquals(List.of(3L), ids("mechanical keybaord", false));
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids("accessories", false).stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Should leave out articles without stock and follow quantity updates without reindexing")
+    void shouldFilterByStockAndFollowQuantityUpdates() {
+        assertEquals(List.of(1L), ids("mouse", true));
+
+        articleSearchIndex.updateQuantities(Map.of(1L, 0, 2L, 3, 99L, 5));
+        articleSearchIndex.publish();
+
+        assertEquals(List.of(2L), ids("mouse", true));
+    }
+
+    @Test
+    @DisplayName("Should replace the indexed article when it is upserted again")
+    void shouldReplaceArticleOnUpsert() {
+        articleSearchIndex.upsert(List.of(article(4L, "Monitor arm", "Aluminium", 7)));
+        articleSearchIndex.publish();
+
+        assertTrue(ids("laptop", false).isEmpty());
+        assertEquals(List.of(4L), ids("monitor", false));
+    }
+
+    @Test
+    @DisplayName("Should page through hits and report the total")
+    void shouldPageThroughHits() {
+        Paginated<Long> firstPage = articleSearchIndex.searchArticleIds("accessories", false, 0, 3);
+        Paginated<Long> secondPage = articleSearchIndex.searchArticleIds("accessories", false, 1, 3);
+
+        assertEquals(3, firstPage.getContent().size());
+        assertEquals(4, firstPage.getTotalElements());
+        assertTrue(firstPage.isHasNext());
+        assertEquals(1, secondPage.getContent().size());
+        assertFalse(secondPage.isHasNext());
+    }
+
+    @Test
+    @DisplayName("Should return nothing for text without searchable words")
+    void shouldReturnNothingForTextWithoutWords() {
+        Paginated<Long> result = articleSearchIndex.searchArticleIds("  --  ", false, 0, 10);
+
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(0, result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should reject pages that are too large or too deep")
+    void shouldRejectPagesOutsideTheWindow() {
+        assertThrows(InvalidPaginationException.class, () -> articleSearchIndex.searchArticleIds("mouse", false, 0,
+                Util.ARTICLE_SEARCH_MAX_PAGE_SIZE + 1));
+        assertThrows(InvalidPaginationException.class, () -> articleSearchIndex.searchArticleIds("mouse", false,
+                Util.ARTICLE_SEARCH_MAX_RESULTS / 10, 10));
+    }
+
+    private List<Long> ids(String text, boolean inStockOnly) {
+        return articleSearchIndex.searchArticleIds(text, inStockOnly, 0, 10).getContent();
+    }
+
+    private static ArticleModel article(Long id, String name, String description, int quantity) {
+        return new ArticleModel(id, name, description, quantity, 10.0, LOGITECH, List.of(ACCESSORIES));
+    }
+}
@@ -0,0 +1,116 @@
+package com.stock_service.stock.infrastructure.persistence.search;
+
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.spi.IArticleExportPersistencePort;
+import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ArticleSearchIndexerTest {
+
+    @Mock
+    private IArticleModelPersistencePort articleModelPersistencePort;
+
+    @Mock
+    private IArticleExportPersistencePort articleExportPersistencePort;
+
+    private ArticleSearchIndex articleSearchIndex;
+    private ArticleSearchChangeLog changeLog;
+    private ArticleSearchIndexer articleSearchIndexer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+
+        articleSearchIndex = new ArticleSearchIndex(new ByteBuffersDirectory());
+        changeLog = new ArticleSearchChangeLog();
+        articleSearchIndexer = new ArticleSearchIndexer(articleSearchIndex, changeLog, articleModelPersistencePort,
+                articleExportPersistencePort, Duration.ofHours(1), Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        articleSearchIndex.close();
+    }
+
+    @Test
+    @DisplayName("Should reindex changed articles whole and only refresh the quantity of stock changes")
+    void shouldReindexChangedArticlesAndRefreshQuantities() {
+        when(articleModelPersistencePort.getAllArticlesByIds(anyList()))
+                .thenReturn(List.of(article(1L, "Wireless mouse", 0), article(2L, "Mouse pad", 0)));
+        changeLog.articlesChanged(List.of(1L, 2L));
+        articleSearchIndexer.sync();
+
+        when(articleModelPersistencePort.getArticleQuantitiesByIds(anyList())).thenReturn(Map.of(2L, 6));
+        changeLog.quantitiesChanged(List.of(2L));
+        articleSearchIndexer.sync();
+
+        assertEquals(List.of(2L), articleSearchIndex.searchArticleIds("mouse", true, 0, 10).getContent());
+        verify(articleModelPersistencePort, times(1)).getAllArticlesByIds(anyList());
+        verify(articleModelPersistencePort).getArticleQuantitiesByIds(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("Should not read quantities of articles that are reindexed whole in the same pass")
+    void shouldSkipQuantitiesOfReindexedArticles() {
+        when(articleModelPersistencePort.getAllArticlesByIds(List.of(1L))).thenReturn(List.of(article(1L, "Mouse", 3)));
+        changeLog.articlesChanged(List.of(1L));
+        changeLog.quantitiesChanged(List.of(1L));
+
+        articleSearchIndexer.sync();
+
+        verify(articleModelPersistencePort, never()).getArticleQuantitiesByIds(any());
+    }
+
+    @Test
+    @DisplayName("Should keep the changes of a failed pass for the next one")
+    void shouldKeepChangesOfFailedPass() {
+        when(articleModelPersistencePort.getAllArticlesByIds(anyList())).thenThrow(new IllegalStateException("down"));
+        changeLog.articlesChanged(List.of(1L));
+        changeLog.quantitiesChanged(List.of(2L));
+
+        assertThrows(IllegalStateException.class, articleSearchIndexer::sync);
+
+        assertEquals(Set.of(1L), changeLog.drainArticles());
+        assertEquals(Set.of(2L), changeLog.drainQuantities());
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the export stream in batches")
+    void shouldRebuildFromExportStream() {
+        int count = ArticleSearchIndexer.BATCH_SIZE + 1;
+        doAnswer(invocation -> {
+            Consumer<ArticleModel> consumer = invocation.getArgument(0);
+            for (long id = 1; id <= count; id++) {
+                consumer.accept(article(id, "Cable " + id, 1));
+            }
+            return null;
+        }).when(articleExportPersistencePort).streamAllArticles(any());
+
+        articleSearchIndexer.rebuild();
+
+        assertEquals(count, articleSearchIndex.searchArticleIds("cable", true, 0, 10).getTotalElements());
+    }
+
+    private static ArticleModel article(Long id, String name, int quantity) {
+        return new ArticleModel(id, name, "Description", quantity, 10.0, null, new ArrayList<>());
+    }
+}
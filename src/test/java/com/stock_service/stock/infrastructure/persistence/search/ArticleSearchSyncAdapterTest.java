@@ -0,0 +1,105 @@
+package com.stock_service.stock.infrastructure.persistence.search;
+
+import com.stock_service.stock.domain.model.ArticleModel;
+import com.stock_service.stock.domain.model.ArticleStockModel;
+import com.stock_service.stock.domain.spi.IArticleModelPersistencePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ArticleSearchSyncAdapterTest {
+
+    @Mock
+    private IArticleModelPersistencePort articleModelPersistencePort;
+
+    private ArticleSearchChangeLog changeLog;
+    private ArticleSearchSyncAdapter articleSearchSyncAdapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        changeLog = new ArticleSearchChangeLog();
+        articleSearchSyncAdapter = new ArticleSearchSyncAdapter(articleModelPersistencePort, changeLog);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should record a saved article for reindexing only once its transaction commits")
+    void shouldRecordSavedArticleAfterCommit() {
+        ArticleModel article = new ArticleModel(1L, "Laptop", "Light", 5, 1500.0, null, new ArrayList<>());
+        when(articleModelPersistencePort.saveArticle(article)).thenReturn(article);
+
+        TransactionSynchronizationManager.initSynchronization();
+        articleSearchSyncAdapter.saveArticle(article);
+
+        assertTrue(changeLog.drainArticles().isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(Set.of(1L), changeLog.drainArticles());
+    }
+
+    @Test
+    @DisplayName("Should not record writes that roll back")
+    void shouldNotRecordRolledBackWrites() {
+        when(articleModelPersistencePort.reduceArticleQuantity(1L, 2)).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        articleSearchSyncAdapter.reduceArticleQuantity(1L, 2);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertTrue(changeLog.drainQuantities().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should record stock changes as quantity updates and imported articles by their generated IDs")
+    void shouldRecordStockChangesAndImportedArticles() {
+        ArticleModel imported = new ArticleModel();
+        doAnswer(invocation -> {
+            imported.setId(51L);
+            return null;
+        }).when(articleModelPersistencePort).saveArticles(List.of(imported));
+        when(articleModelPersistencePort.updateArticleQuantity(2L, 5, 0L)).thenReturn(1);
+        when(articleModelPersistencePort.updateArticleQuantity(3L, 5, 0L)).thenReturn(0);
+
+        articleSearchSyncAdapter.saveArticles(List.of(imported));
+        articleSearchSyncAdapter.updateArticleQuantity(2L, 5, 0L);
+        articleSearchSyncAdapter.updateArticleQuantity(3L, 5, 0L);
+        articleSearchSyncAdapter.increaseArticleQuantities(List.of(new ArticleStockModel(4L, 1), new ArticleStockModel(5L, 1)));
+
+        assertEquals(Set.of(51L), changeLog.drainArticles());
+        assertEquals(Set.of(2L, 4L, 5L), changeLog.drainQuantities());
+    }
+
+    @Test
+    @DisplayName("Should pass reads straight to the delegate")
+    void shouldPassReadsToDelegate() {
+        articleSearchSyncAdapter.getAllArticlesByIds(List.of(1L));
+        articleSearchSyncAdapter.getArticleQuantitiesByIds(List.of(1L));
+
+        verify(articleModelPersistencePort).getAllArticlesByIds(List.of(1L));
+        verify(articleModelPersistencePort).getArticleQuantitiesByIds(List.of(1L));
+        assertTrue(changeLog.drainArticles().isEmpty());
+        assertTrue(changeLog.drainQuantities().isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+package com.stock_service.stock.infrastructure.scheduling;
+
+import com.stock_service.stock.domain.api.IReservationModelServicePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+class ReservationSweeperTest {
+
+    @Mock
+    private IReservationModelServicePort reservationModelServicePort;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ReservationSweeper reservationSweeper;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        reservationSweeper = new ReservationSweeper(reservationModelServicePort, transactionTemplate, 100,
+                Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Should keep sweeping in separate transactions while batches come back full")
+    void shouldKeepSweepingWhileBatchesComeBackFull() {
+        when(reservationModelServicePort.releaseExpiredReservations(100)).thenReturn(100, 100, 30);
+
+        reservationSweeper.sweep();
+
+        verify(reservationModelServicePort, times(3)).releaseExpiredReservations(100);
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should stop after one query when nothing has expired")
+    void shouldStopWhenNothingHasExpired() {
+        when(reservationModelServicePort.releaseExpiredReservations(100)).thenReturn(0);
+
+        reservationSweeper.sweep();
+
+        verify(reservationModelServicePort, times(1)).releaseExpiredReservations(100);
+    }
+}
@@ -0,0 +1,81 @@
+package com.stock_service.stock.infrastructure.security.service;
+
+import com.stock_service.stock.domain.util.Util;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET_KEY = "dGhpcy1pcy1hLXRlc3Qtc2VjcmV0LWtleS1mb3ItdGhlLXN0b2NrLXNlcnZpY2U=";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+    private Key key;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(meterRegistry);
+
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaximumSize", 100L);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaxTtlSeconds", 900L);
+        jwtService.init();
+
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+    }
+
+    private String token(String subject, String role, long expiresInMillis) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim(Util.CLAIM_AUTHORITIES, role)
+                .setExpiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .signWith(key)
+                .compact();
+    }
+
+    @Test
+    @DisplayName("Should extract username and role from a valid token")
+    void shouldExtractUsernameAndRoleFromValidToken() {
+        String jwt = token("user@mail.com", "ROLE_CLIENT", 60_000);
+
+        assertEquals("user@mail.com", jwtService.extractUsername(jwt));
+        assertEquals("ROLE_CLIENT", jwtService.extractRole(jwt));
+    }
+
+    @Test
+    @DisplayName("Should verify the token signature only once for repeated lookups")
+    void shouldVerifyTokenSignatureOnlyOnceForRepeatedLookups() {
+        String jwt = token("user@mail.com", "ROLE_CLIENT", 60_000);
+
+        jwtService.extractUsername(jwt);
+        jwtService.extractRole(jwt);
+        jwtService.extractUsername(jwt);
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt.claims").tag("result", "miss")
+                .functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "jwt.claims").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1, meterRegistry.get("stock.jwt.verification").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void shouldRejectExpiredToken() {
+        String jwt = token("user@mail.com", "ROLE_CLIENT", -60_000);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.extractUsername(jwt));
+    }
+}